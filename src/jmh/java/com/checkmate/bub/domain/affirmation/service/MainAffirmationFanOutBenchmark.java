@@ -0,0 +1,135 @@
+package com.checkmate.bub.domain.affirmation.service;
+
+import com.checkmate.bub.domain.affirmation.dto.MainAffirmationResponseDto;
+import com.checkmate.bub.domain.affirmation.repository.ToneExampleRepository;
+import com.checkmate.bub.domain.affirmation.service.helper.ClovaRequestBodyCache;
+import com.checkmate.bub.domain.affirmation.service.helper.ClovaRequestCoalescer;
+import com.checkmate.bub.domain.affirmation.service.helper.ClovaTextPostProcessor;
+import com.checkmate.bub.domain.affirmation.service.helper.SpeculativeAffirmationStore;
+import com.checkmate.bub.domain.affirmation.service.helper.ToneExampleCache;
+import com.checkmate.bub.domain.ai.clova.ClovaClient;
+import com.checkmate.bub.domain.ai.clova.ClovaReactiveClient;
+import com.checkmate.bub.domain.ai.clova.ClovaResilience;
+import com.checkmate.bub.domain.bridge.dto.UserCategorySelectionDto;
+import com.checkmate.bub.domain.bridge.repository.UserCategoryBridgeRepository;
+import com.checkmate.bub.domain.category.constant.CategoryType;
+import com.checkmate.bub.domain.category.repository.CategoryRepository;
+import com.checkmate.bub.domain.category.service.CategoryCatalog;
+import com.checkmate.bub.domain.profile.member.service.helper.UserCategoryBridgeHelper;
+import com.checkmate.bub.domain.profile.member.service.helper.UserSelectionCache;
+import com.checkmate.bub.global.config.resilience.RetryBudget;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 응답 시간이 고정(rttMs)된 스텁 ClovaClient로 메인 확언 3개 생성의 전체 지연을 비교합니다.
+ * 단일 스레드 실행기는 세 호출을 차례로 기다려 약 3×RTT, fan-out 실행기는 세 호출을 동시에 보내 약 1×RTT가 걸립니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MainAffirmationFanOutBenchmark {
+
+    private static final Long USER_ID = 1L;
+
+    @Param({"100"})
+    private long rttMs;
+
+    private ExecutorService singleThreadExecutor;
+    private ExecutorService fanOutExecutor;
+    private AffirmationService sequential;
+    private AffirmationService fanOut;
+
+    @Setup
+    public void setUp() {
+        singleThreadExecutor = Executors.newSingleThreadExecutor();
+        fanOutExecutor = Executors.newFixedThreadPool(3);
+        ClovaClient fixedRttClient = (body, authorization, requestId, contentType, accept) -> {
+            try {
+                Thread.sleep(rttMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "data: {\"message\":{\"role\":\"assistant\",\"content\":\"나는 오늘도 충분히 잘하고 있어.\"}}\n";
+        };
+        sequential = createService(fixedRttClient, singleThreadExecutor);
+        fanOut = createService(fixedRttClient, fanOutExecutor);
+    }
+
+    @TearDown
+    public void tearDown() {
+        singleThreadExecutor.shutdownNow();
+        fanOutExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public MainAffirmationResponseDto singleThreadExecutor() {
+        return sequential.generateMainAffirmation(USER_ID);
+    }
+
+    @Benchmark
+    public MainAffirmationResponseDto fanOutExecutor() {
+        return fanOut.generateMainAffirmation(USER_ID);
+    }
+
+    // AffirmationServiceLatencyTest와 같은 구성 (per-item 모드, 코퍼스·미리 생성 미사용)
+    private AffirmationService createService(ClovaClient clovaClient, ExecutorService clovaExecutor) {
+        UserCategoryBridgeRepository bridgeRepository = mock(UserCategoryBridgeRepository.class);
+        when(bridgeRepository.findSelectionsByUserId(USER_ID)).thenReturn(List.of(
+                new UserCategorySelectionDto(1L, CategoryType.PROBLEM, "걱정이 많고 불안해요."),
+                new UserCategorySelectionDto(10L, CategoryType.TONE, "Joy")
+        ));
+
+        CategoryRepository categoryRepository = mock(CategoryRepository.class);
+        AffirmationService service = new AffirmationService(
+                categoryRepository,
+                new UserSelectionCache(bridgeRepository, new SimpleMeterRegistry(), true, 100),
+                clovaClient,
+                new ObjectMapper(),
+                mock(UserCategoryBridgeHelper.class),
+                clovaExecutor,
+                mock(AffirmationCorpusService.class),
+                mock(ClovaReactiveClient.class),
+                new ClovaRequestBodyCache(new ObjectMapper(), new SimpleMeterRegistry(), 2048, 3600000),
+                mock(ApplicationEventPublisher.class),
+                new ToneExampleCache(new SimpleMeterRegistry(), 3, 60_000L),
+                new ClovaRequestCoalescer(new SimpleMeterRegistry(), 3, false),
+                new ClovaResilience(CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults(),
+                        RetryRegistry.of(RetryConfig.custom().maxAttempts(1).build()), new RetryBudget(0.1, 20)),
+                new SpeculativeAffirmationStore(new SimpleMeterRegistry(), 60_000L),
+                new ClovaTextPostProcessor(),
+                mock(ToneExampleRepository.class),
+                new CategoryCatalog(categoryRepository)
+        );
+        ReflectionTestUtils.setField(service, "apiKey", "test-key");
+        ReflectionTestUtils.setField(service, "mainAffirmationDeadlineMs", 5_000L);
+        ReflectionTestUtils.setField(service, "generationMode", "per-item");
+        ReflectionTestUtils.setField(service, "corpusEnabled", false);
+        ReflectionTestUtils.setField(service, "clovaClientType", "feign");
+        ReflectionTestUtils.setField(service, "speculativeEnabled", false);
+        return service;
+    }
+}
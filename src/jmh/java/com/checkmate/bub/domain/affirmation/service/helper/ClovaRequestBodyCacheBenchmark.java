@@ -0,0 +1,66 @@
+package com.checkmate.bub.domain.affirmation.service.helper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 톤 예시 요청 바디를 매번 렌더링·직렬화하는 기존 방식(String.format + HashMap + writeValueAsBytes)과
+ * ClovaRequestBodyCache 조회의 호출당 시간·할당량을 비교합니다. 할당량은 gc 프로파일러(gc.alloc.rate.norm)로 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ClovaRequestBodyCacheBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 상수로 두면 키 문자열 연결이 컴파일 시점에 접혀 버리므로 필드로 둠
+    private String problem = "걱정이 많고 불안해요.";
+    private ClovaRequestBodyCache cache;
+    private String template;
+
+    @Setup
+    public void setUp() {
+        cache = new ClovaRequestBodyCache(objectMapper, new SimpleMeterRegistry(), 2048, 3600000);
+        // 실제 톤 예시 템플릿과 비슷한 크기(약 15KB)의 프롬프트
+        template = "문제: \"%s\"\n" + "[캐릭터 말투 규칙] 밝고 낙관적, 경쾌한 리듬. 따뜻하고 에너지 넘침.\n".repeat(160);
+    }
+
+    @Benchmark
+    public byte[] renderAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(body(String.format(template, problem)));
+    }
+
+    @Benchmark
+    public byte[] cachedBody() {
+        return cache.get("tone-examples|" + problem, () -> body(String.format(template, problem)));
+    }
+
+    // AffirmationService.buildClovaRequestBody와 같은 구성
+    private Map<String, Object> body(String prompt) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("messages", List.of(Map.of("role", "system", "content", prompt)));
+        body.put("topP", 0.8);
+        body.put("topK", 0);
+        body.put("maxTokens", 256);
+        body.put("temperature", 0.8);
+        body.put("repetitionPenalty", 1.1);
+        body.put("stop", List.of());
+        body.put("seed", 0);
+        body.put("includeAiFilters", true);
+        return body;
+    }
+}
@@ -0,0 +1,70 @@
+package com.checkmate.bub.domain.affirmation.service.helper;
+
+import com.checkmate.bub.domain.ai.clova.ClovaSseDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 녹화된 HCX-005 응답과 변형 응답 묶음을 기존 정규식 방식과 단일 패스 후처리기로 처리하는 시간을 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ClovaTextPostProcessorBenchmark {
+
+    private final ClovaTextPostProcessor processor = new ClovaTextPostProcessor();
+
+    private List<String> tones;
+    private List<String> affirmations;
+
+    @Setup
+    public void setUp() throws IOException {
+        tones = new ArrayList<>(Arrays.asList(ClovaTextPostProcessorTest.TONE_VARIANTS));
+        tones.add(ClovaSseDecoder.decodeContent(fixture("hcx005-tone-examples.sse")));
+        affirmations = new ArrayList<>(Arrays.asList(ClovaTextPostProcessorTest.AFFIRMATION_VARIANTS));
+        affirmations.add(ClovaSseDecoder.decodeContent(fixture("hcx005-main-affirmation.sse")));
+    }
+
+    @Benchmark
+    public int legacyRegex() {
+        int total = 0;
+        for (String content : tones) {
+            total += LegacyPostProcessing.tones(content).length;
+        }
+        for (String content : affirmations) {
+            total += LegacyPostProcessing.affirmation(content).length();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int singlePass() {
+        int total = 0;
+        for (String content : tones) {
+            total += processor.parseTones(content).length;
+        }
+        for (String content : affirmations) {
+            total += processor.cleanAffirmation(content).length();
+        }
+        return total;
+    }
+
+    private String fixture(String name) throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/clova/" + name)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.checkmate.bub.domain.ai.clova;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 녹화된 HCX-005 SSE 응답(src/test/resources/clova)을 기존 방식(split + readTree)과 스트리밍 디코더로 처리하는 시간을 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ClovaSseDecoderBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private String body;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/clova/hcx005-tone-examples.sse")) {
+            body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Benchmark
+    public String legacy() throws IOException {
+        return legacyCollect(body);
+    }
+
+    @Benchmark
+    public String streamingDecoder() throws IOException {
+        return ClovaSseDecoder.decodeContent(body);
+    }
+
+    // 교체 전 AffirmationService의 파싱 방식
+    private String legacyCollect(String body) throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (String line : body.split("\\n")) {
+            if (line.startsWith("data:")) {
+                String data = line.substring("data:".length()).trim();
+                if (!data.isEmpty() && !data.equals("[DONE]")) {
+                    JsonNode contentNode = objectMapper.readTree(data).path("message").path("content");
+                    if (!contentNode.isMissingNode()) {
+                        content.append(contentNode.asText());
+                    }
+                }
+            }
+        }
+        return content.toString();
+    }
+}
@@ -0,0 +1,59 @@
+package com.checkmate.bub.global.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 JWT 인증 비용을 기존 방식(validateToken + getAuthentication, 매번 파서 생성), 한 번 파싱, 검증 캐시 적중으로 나눠 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "test-secret-key-for-unit-tests-12345678901234567890123456789012";
+    private static final SecretKey KEY = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+
+    private JwtTokenProvider parseOnce;
+    private JwtTokenProvider cached;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        parseOnce = new JwtTokenProvider(SECRET, 3600, 1209600, new VerifiedTokenCache(meterRegistry, false, 100));
+        cached = new JwtTokenProvider(SECRET, 3600, 1209600, new VerifiedTokenCache(meterRegistry, true, 100));
+        token = cached.createAccessToken(42L);
+    }
+
+    // 교체 전 JwtAuthenticationFilter의 방식: 요청마다 파서를 두 번 만들어 두 번 검증
+    @Benchmark
+    public String validateThenGetAuthentication() {
+        Jwts.parser().verifyWith(KEY).build().parseSignedClaims(token);
+        return Jwts.parser().verifyWith(KEY).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public Optional<Authentication> parseOnce() {
+        return parseOnce.authenticate(token);
+    }
+
+    @Benchmark
+    public Optional<Authentication> verifiedCache() {
+        return cached.authenticate(token);
+    }
+}
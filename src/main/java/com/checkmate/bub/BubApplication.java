@@ -3,8 +3,10 @@ package com.checkmate.bub;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableFeignClients // Feign 클라이언트 활성화
+@EnableScheduling // 확언 코퍼스 리필 등 주기 작업 활성화
 @SpringBootApplication
 public class BubApplication {
 
@@ -0,0 +1,10 @@
+package com.checkmate.bub.domain.affirmation.constant;
+
+/**
+ * 확언 재생성 작업 상태
+ */
+public enum AffirmationJobStatus {
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
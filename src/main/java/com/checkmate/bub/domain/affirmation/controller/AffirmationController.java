@@ -1,15 +1,23 @@
 package com.checkmate.bub.domain.affirmation.controller;
 
 import com.checkmate.bub.domain.affirmation.dto.MainAffirmationResponseDto;
+import com.checkmate.bub.domain.affirmation.dto.MainAffirmationStreamEventDto;
 import com.checkmate.bub.domain.affirmation.dto.ToneExampleRequestDto;
 import com.checkmate.bub.domain.affirmation.dto.ToneExampleResponseDto;
+import com.checkmate.bub.domain.affirmation.service.AffirmationJobService;
 import com.checkmate.bub.domain.affirmation.service.AffirmationService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
 
 
 
@@ -20,6 +28,7 @@ import org.springframework.web.bind.annotation.*;
 public class AffirmationController {
 
     private final AffirmationService affirmationService;
+    private final AffirmationJobService affirmationJobService;
 
     @PostMapping("/tone-examples")
     public ResponseEntity<ToneExampleResponseDto> createToneExamples(
@@ -57,7 +66,9 @@ public class AffirmationController {
     }
 
     @GetMapping("/main")
-    public ResponseEntity<MainAffirmationResponseDto> getMainAffirmation(Authentication authentication) {
+    public Mono<ResponseEntity<MainAffirmationResponseDto>> getMainAffirmation(
+            @RequestParam(defaultValue = "false") boolean refresh,
+            Authentication authentication) {
         
         if (authentication == null || authentication.getName() == null) {
             log.error("인증 정보가 없습니다");
@@ -66,11 +77,49 @@ public class AffirmationController {
         
         // JWT에서 사용자 ID 추출 (subject 클레임에서)
         String userId = authentication.getName(); // JWT의 subject 클레임에서 사용자 ID
-        log.info("홈 화면 확언 문구 요청 - 사용자 ID: {}", userId);
+        log.info("홈 화면 확언 문구 요청 - 사용자 ID: {}, refresh: {}", userId, refresh);
         
         try {
-            MainAffirmationResponseDto response = affirmationService.generateMainAffirmation(Long.parseLong(userId));
-            return ResponseEntity.ok(response);
+            // 마이페이지 수정으로 재생성 중이면 그 결과를 기다림 (이전 선택으로 만든 오늘의 문구를 주지 않도록)
+            CompletableFuture<MainAffirmationResponseDto> running = affirmationJobService.findRunning(Long.parseLong(userId));
+            if (running != null) {
+                return Mono.fromFuture(running).map(ResponseEntity::ok);
+            }
+
+            // Clova 응답을 기다리는 동안 Tomcat 스레드를 반환하고, 완료되면 비동기로 응답
+            return Mono.fromFuture(affirmationService.generateMainAffirmationAsync(Long.parseLong(userId), refresh))
+                    .map(ResponseEntity::ok);
+        } catch (NumberFormatException e) {
+            log.error("유효하지 않은 사용자 ID 형식: {}", userId);
+            throw new IllegalArgumentException("유효하지 않은 사용자 ID입니다");
+        }
+    }
+
+    /**
+     * 메인 확언 스트리밍 (text/event-stream)
+     * 이벤트: token(생성 중인 토큰) / affirmation(슬롯 완성 문구) / error(슬롯 실패) / done(전체 종료)
+     */
+    @GetMapping(value = "/main/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<MainAffirmationStreamEventDto>> streamMainAffirmation(
+            @RequestParam(defaultValue = "false") boolean refresh,
+            Authentication authentication) {
+
+        if (authentication == null || authentication.getName() == null) {
+            log.error("인증 정보가 없습니다");
+            throw new IllegalStateException("인증이 필요합니다");
+        }
+
+        String userId = authentication.getName();
+        log.info("홈 화면 확언 문구 스트리밍 요청 - 사용자 ID: {}, refresh: {}", userId, refresh);
+
+        try {
+            // /main과 같이, 마이페이지 수정으로 재생성 중이면 이전 선택으로 만든 문구 대신 그 결과를 보냄
+            CompletableFuture<MainAffirmationResponseDto> running = affirmationJobService.findRunning(Long.parseLong(userId));
+            if (running != null) {
+                return affirmationService.streamRunningAffirmation(Long.parseLong(userId), running);
+            }
+
+            return affirmationService.streamMainAffirmation(Long.parseLong(userId), refresh);
         } catch (NumberFormatException e) {
             log.error("유효하지 않은 사용자 ID 형식: {}", userId);
             throw new IllegalArgumentException("유효하지 않은 사용자 ID입니다");
@@ -0,0 +1,37 @@
+package com.checkmate.bub.domain.affirmation.domain;
+
+import com.checkmate.bub.domain.category.domain.Category;
+import com.checkmate.bub.global.config.audit.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 문제별로 마지막에 생성된 톤 예시 문장 (문제 × 톤 당 한 행).
+ * 예전에는 "Joy_Example_<problemId>_<난수>" 이름의 Category 행을 만들었지만, 문장이 저장되지 않고 category 테이블만 커져서 분리했습니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "tone_example",
+        indexes = {@Index(name = "uk_tone_example_problem_tone",
+                columnList = "problem_id, tone",
+                unique = true)})
+public class ToneExample extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "tone_example_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "problem_id", nullable = false)
+    private Category problem;
+
+    @Column(nullable = false, length = 20)
+    private String tone; // 톤 카테고리 이름 (Joy, Wednesday, Zelda)
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String sentence; // 클로바 모델로 만든 톤 예시 문장
+}
@@ -0,0 +1,14 @@
+package com.checkmate.bub.domain.affirmation.dto;
+
+import com.checkmate.bub.domain.affirmation.constant.AffirmationJobStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class AffirmationJobResponseDto {
+    private String jobId;
+    private AffirmationJobStatus status;
+    private MainAffirmationResponseDto affirmations; // SUCCEEDED일 때만 존재
+    private String errorMessage; // FAILED일 때만 존재
+}
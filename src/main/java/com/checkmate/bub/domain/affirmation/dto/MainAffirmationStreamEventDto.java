@@ -0,0 +1,12 @@
+package com.checkmate.bub.domain.affirmation.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 메인 확언 스트리밍(SSE) 이벤트 데이터: slot은 1~3 (done 이벤트는 0)
+@Getter
+@Builder
+public class MainAffirmationStreamEventDto {
+    private int slot;
+    private String text;
+}
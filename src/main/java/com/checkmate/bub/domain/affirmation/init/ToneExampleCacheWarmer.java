@@ -0,0 +1,35 @@
+package com.checkmate.bub.domain.affirmation.init;
+
+import com.checkmate.bub.domain.affirmation.service.AffirmationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 기동이 끝나면(CategoryInitializer 실행 이후) 문제별 톤 예시를 백그라운드에서 미리 생성해 캐시에 채웁니다.
+ * 기동 자체는 막지 않으며, 예열 전에 들어온 요청은 기존처럼 Clova를 직접 호출합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "affirmation.tone-example-cache.warm-up.enabled", havingValue = "true", matchIfMissing = true)
+public class ToneExampleCacheWarmer {
+
+    private final AffirmationService affirmationService;
+    private final ExecutorService clovaExecutor;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            clovaExecutor.execute(affirmationService::warmUpToneExamples);
+        } catch (RejectedExecutionException e) {
+            log.warn("Clova 작업 큐 포화로 톤 예시 캐시 예열 생략");
+        }
+    }
+}
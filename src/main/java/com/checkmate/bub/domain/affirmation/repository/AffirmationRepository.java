@@ -0,0 +1,7 @@
+package com.checkmate.bub.domain.affirmation.repository;
+
+import com.checkmate.bub.domain.affirmation.domain.Affirmation;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AffirmationRepository extends JpaRepository<Affirmation, Long> {
+}
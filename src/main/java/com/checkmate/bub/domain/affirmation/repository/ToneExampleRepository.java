@@ -0,0 +1,25 @@
+package com.checkmate.bub.domain.affirmation.repository;
+
+import com.checkmate.bub.domain.affirmation.domain.ToneExample;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ToneExampleRepository extends JpaRepository<ToneExample, Long> {
+
+    // 문제의 3개 톤 예시를 한 문장으로 upsert (PostgreSQL ON CONFLICT, (problem_id, tone) 유니크 인덱스 기준)
+    @Modifying
+    @Query(value = """
+            INSERT INTO tone_example (problem_id, tone, sentence, created_at, updated_at)
+            VALUES (:problemId, :tone1, :sentence1, now(), now()),
+                   (:problemId, :tone2, :sentence2, now(), now()),
+                   (:problemId, :tone3, :sentence3, now(), now())
+            ON CONFLICT (problem_id, tone)
+            DO UPDATE SET sentence = EXCLUDED.sentence, updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    int upsertAll(@Param("problemId") Long problemId,
+                  @Param("tone1") String tone1, @Param("sentence1") String sentence1,
+                  @Param("tone2") String tone2, @Param("sentence2") String sentence2,
+                  @Param("tone3") String tone3, @Param("sentence3") String sentence3);
+}
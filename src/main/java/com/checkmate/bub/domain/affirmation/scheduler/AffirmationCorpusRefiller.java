@@ -0,0 +1,84 @@
+package com.checkmate.bub.domain.affirmation.scheduler;
+
+import com.checkmate.bub.domain.affirmation.service.AffirmationCorpusService;
+import com.checkmate.bub.domain.affirmation.service.AffirmationService;
+import com.checkmate.bub.domain.category.constant.CategoryType;
+import com.checkmate.bub.domain.category.domain.Category;
+import com.checkmate.bub.domain.category.service.CategoryCatalog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * (문제, 톤) 쌍마다 아직 제공되지 않은 확언이 최소 개수 이상 유지되도록 코퍼스를 주기적으로 보충합니다.
+ * 문제 9개 × 톤 3개 = 27쌍이므로, 대부분의 메인 화면 요청이 Clova 호출 없이 코퍼스에서 처리됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "affirmation.corpus.refill.enabled", havingValue = "true", matchIfMissing = true)
+public class AffirmationCorpusRefiller {
+
+    private final CategoryCatalog categoryCatalog;
+    private final AffirmationCorpusService affirmationCorpusService;
+    private final AffirmationService affirmationService;
+
+    // 쌍마다 유지할 미제공 확언 최소 개수
+    @Value("${affirmation.corpus.refill.min-unserved:5}")
+    private int minUnserved;
+
+    // 쌍마다 저장할 확언 최대 개수 (코퍼스 무한 증가 방지)
+    @Value("${affirmation.corpus.refill.max-per-pair:200}")
+    private int maxPerPair;
+
+    // 한 번의 Clova 호출로 생성할 최대 개수
+    @Value("${affirmation.corpus.refill.batch-size:5}")
+    private int batchSize;
+
+    // 한 주기에 허용할 최대 Clova 호출 수 (rate limit 보호)
+    @Value("${affirmation.corpus.refill.max-calls-per-run:30}")
+    private int maxCallsPerRun;
+
+    @Scheduled(initialDelayString = "${affirmation.corpus.refill.initial-delay-ms:60000}",
+            fixedDelayString = "${affirmation.corpus.refill.interval-ms:600000}")
+    public void refill() {
+        List<Category> problems = categoryCatalog.findByType(CategoryType.PROBLEM);
+        List<Category> tones = categoryCatalog.findByType(CategoryType.TONE);
+
+        int calls = 0;
+        int saved = 0;
+        for (Category problem : problems) {
+            for (Category tone : tones) {
+                if (calls >= maxCallsPerRun) {
+                    log.info("코퍼스 리필 호출 한도 도달. 다음 주기에 이어서 진행. calls: {}, saved: {}", calls, saved);
+                    return;
+                }
+
+                long unserved = affirmationCorpusService.countUnserved(problem, tone);
+                long room = maxPerPair - affirmationCorpusService.countTotal(problem, tone);
+                int needed = (int) Math.min(Math.min(minUnserved - unserved, room), batchSize);
+                if (needed <= 0) {
+                    continue;
+                }
+
+                calls++;
+                try {
+                    List<String> contents = affirmationService.generateCorpusAffirmations(problem, tone, needed);
+                    affirmationCorpusService.saveUnserved(problem, tone, contents);
+                    saved += contents.size();
+                } catch (Exception e) {
+                    log.warn("코퍼스 리필 실패. problemId: {}, tone: {}, error: {}", problem.getId(), tone.getName(), e.getMessage());
+                }
+            }
+        }
+
+        if (calls > 0) {
+            log.info("코퍼스 리필 완료. calls: {}, saved: {}", calls, saved);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.checkmate.bub.domain.affirmation.service;
+
+import com.checkmate.bub.domain.affirmation.domain.Affirmation;
+import com.checkmate.bub.domain.affirmation.repository.AffirmationRepository;
+import com.checkmate.bub.domain.bridge.domain.AffirmationCategoryBridge;
+import com.checkmate.bub.domain.bridge.domain.UserHistory;
+import com.checkmate.bub.domain.bridge.repository.AffirmationCategoryBridgeRepository;
+import com.checkmate.bub.domain.bridge.repository.UserHistoryRepository;
+import com.checkmate.bub.domain.category.domain.Category;
+import com.checkmate.bub.domain.category.repository.CategoryRepository;
+import com.checkmate.bub.domain.profile.member.domain.User;
+import com.checkmate.bub.domain.profile.member.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 생성된 확언 문구를 (문제, 톤) 카테고리로 태깅해 저장하고, 메인 화면 요청 시 저장된 문구를 무작위로 꺼내 제공합니다.
+ * 사용자가 이미 본 문구는 UserHistory로 판별하므로 별도의 "노출 여부" 컬럼이 필요 없습니다.
+ */
+@Service
+@Transactional(readOnly = true)
+@Slf4j
+@RequiredArgsConstructor
+public class AffirmationCorpusService {
+    private final AffirmationRepository affirmationRepository;
+    private final AffirmationCategoryBridgeRepository affirmationCategoryBridgeRepository;
+    private final UserHistoryRepository userHistoryRepository;
+    private final CategoryRepository categoryRepository;
+    private final UserRepository userRepository;
+
+    // "오늘"의 기준이 되는 사용자 시간대 (서비스 대상이 국내 사용자)
+    @Value("${affirmation.daily-memo.zone:Asia/Seoul}")
+    private ZoneId dailyMemoZone;
+
+    /**
+     * 사용자가 오늘(dailyMemoZone 기준) 현재와 같은 문제·톤 선택으로 마지막에 받은 완전한 확언 세트를 UserHistory에서 조회합니다.
+     * 일부 슬롯이 빠진 세트(생성 실패)는 건너뛰고 그 이전의 완전한 세트를 반환하며, 그런 세트가 없으면 null(호출부가 새로 생성)입니다.
+     */
+    public String[] findTodaySet(Long userId, String selectionKey, int count) {
+        // viewedAt은 서버 시간대의 LocalDateTime으로 저장되므로, 사용자 시간대의 자정을 서버 시간대로 변환해 비교
+        LocalDateTime startOfDay = ZonedDateTime.now(dailyMemoZone)
+                .truncatedTo(ChronoUnit.DAYS)
+                .withZoneSameInstant(ZoneId.systemDefault())
+                .toLocalDateTime();
+        List<String> setIds = userHistoryRepository.findLatestCompleteSetIds(userId, startOfDay, selectionKey, count, PageRequest.of(0, 1));
+        if (setIds.isEmpty()) {
+            return null;
+        }
+
+        String[] affirmations = new String[count];
+        for (UserHistory history : userHistoryRepository.findSetWithAffirmation(userId, startOfDay, setIds.get(0))) {
+            if (history.getSlotIndex() < count) {
+                affirmations[history.getSlotIndex()] = history.getAffirmation().getContent();
+            }
+        }
+        return Arrays.stream(affirmations).anyMatch(Objects::isNull) ? null : affirmations;
+    }
+
+    /**
+     * 슬롯별 문제 카테고리에 맞는, 사용자가 아직 보지 않은 확언을 무작위로 하나씩 꺼냅니다.
+     * 꺼낸 문구는 set의 슬롯 순번과 함께 UserHistory에 기록되며, 코퍼스에 남은 문구가 없는 슬롯은 null입니다.
+     *
+     * 호출부(AffirmationService)는 트랜잭션 밖에서 호출하므로 이 메서드의 트랜잭션 하나(커넥션 하나)로 조회와 기록을 함께 커밋합니다.
+     * 호출부가 커넥션을 잡은 채 새 트랜잭션을 열면 동시 요청이 풀 크기를 넘을 때 모두 두 번째 커넥션을 기다리며 멈춥니다.
+     */
+    @Transactional
+    public String[] drawForUser(Long userId, ServedSet set, List<Category> slotProblems, Category toneCategory) {
+        String[] drawn = new String[slotProblems.size()];
+        Map<Long, List<Integer>> slotsByProblem = new LinkedHashMap<>();
+        for (int i = 0; i < slotProblems.size(); i++) {
+            slotsByProblem.computeIfAbsent(slotProblems.get(i).getId(), id -> new ArrayList<>()).add(i);
+        }
+
+        // 같은 문제가 여러 슬롯에 배정될 수 있으므로, 문제마다 슬롯 수만큼 서로 다른 확언을 DB에서 무작위로 한 번에 뽑음
+        Map<Integer, Long> chosenIds = new LinkedHashMap<>();
+        slotsByProblem.forEach((problemId, slots) -> {
+            List<Long> picked = affirmationCategoryBridgeRepository.findRandomUnseenAffirmationIds(
+                    problemId, toneCategory.getId(), userId, slots.size());
+            for (int j = 0; j < picked.size(); j++) {
+                chosenIds.put(slots.get(j), picked.get(j));
+            }
+        });
+
+        if (chosenIds.isEmpty()) {
+            return drawn;
+        }
+
+        Map<Long, Affirmation> affirmations = new HashMap<>();
+        affirmationRepository.findAllById(chosenIds.values()).forEach(a -> affirmations.put(a.getId(), a));
+
+        User user = userRepository.getReferenceById(userId);
+        LocalDateTime now = LocalDateTime.now();
+        List<UserHistory> histories = new ArrayList<>(chosenIds.size());
+        chosenIds.forEach((slot, affirmationId) -> {
+            Affirmation affirmation = affirmations.get(affirmationId);
+            if (affirmation == null) {
+                return;
+            }
+            drawn[slot] = affirmation.getContent();
+            histories.add(set.history(user, affirmation, slot, now));
+        });
+        userHistoryRepository.saveAll(histories);
+
+        log.info("코퍼스에서 확언 {}개 제공. userId: {}, toneId: {}", histories.size(), userId, toneCategory.getId());
+        return drawn;
+    }
+
+    /**
+     * 실시간으로 생성해 사용자에게 제공한 확언을 코퍼스에 저장하고, 해당 사용자의 기록으로 남깁니다.
+     * slots는 각 항목이 set 안에서 차지하는 슬롯 순번(0부터)이며, contents의 null 항목(생성 실패 슬롯)은 건너뜁니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void saveServed(Long userId, ServedSet set, List<Integer> slots, List<Category> slotProblems,
+                           Category toneCategory, List<String> contents) {
+        User user = userRepository.getReferenceById(userId);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < contents.size(); i++) {
+            if (contents.get(i) == null) {
+                continue;
+            }
+            Affirmation affirmation = saveTagged(slotProblems.get(i), toneCategory, contents.get(i));
+            userHistoryRepository.save(set.history(user, affirmation, slots.get(i), now));
+        }
+    }
+
+    /**
+     * 아직 아무에게도 제공되지 않은 확언으로 코퍼스를 보충합니다 (리필러 전용).
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void saveUnserved(Category problemCategory, Category toneCategory, List<String> contents) {
+        for (String content : contents) {
+            saveTagged(problemCategory, toneCategory, content);
+        }
+    }
+
+    public long countUnserved(Category problemCategory, Category toneCategory) {
+        return affirmationCategoryBridgeRepository.countUnservedByPair(problemCategory.getId(), toneCategory.getId());
+    }
+
+    public long countTotal(Category problemCategory, Category toneCategory) {
+        return affirmationCategoryBridgeRepository.countByPair(problemCategory.getId(), toneCategory.getId());
+    }
+
+    private Affirmation saveTagged(Category problemCategory, Category toneCategory, String content) {
+        Affirmation affirmation = affirmationRepository.save(Affirmation.builder().content(content).build());
+        affirmationCategoryBridgeRepository.save(
+                new AffirmationCategoryBridge(affirmation, categoryRepository.getReferenceById(problemCategory.getId())));
+        affirmationCategoryBridgeRepository.save(
+                new AffirmationCategoryBridge(affirmation, categoryRepository.getReferenceById(toneCategory.getId())));
+        return affirmation;
+    }
+
+    /**
+     * 한 번의 메인 확언 요청에서 사용자에게 제공되는 세트입니다.
+     * 코퍼스에서 꺼낸 슬롯과 실시간으로 생성한 슬롯이 따로 저장되더라도 같은 id로 묶여, 오늘 받은 세트로 그대로 복원됩니다.
+     */
+    public record ServedSet(String id, String selectionKey) {
+
+        /**
+         * 사용자가 선택한 전체 문제와 톤으로 새 세트를 시작합니다.
+         */
+        public static ServedSet start(Collection<Category> selectedProblems, Category toneCategory) {
+            return new ServedSet(UUID.randomUUID().toString(), selectionKey(selectedProblems, toneCategory));
+        }
+
+        /**
+         * 문제·톤 선택을 비교 가능한 문자열로 만듭니다. 문제 순서와 중복은 무시합니다 (예: "7:1,2,5").
+         */
+        public static String selectionKey(Collection<Category> selectedProblems, Category toneCategory) {
+            return toneCategory.getId() + ":" + selectedProblems.stream()
+                    .map(Category::getId)
+                    .distinct()
+                    .sorted()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(","));
+        }
+
+        private UserHistory history(User user, Affirmation affirmation, int slot, LocalDateTime viewedAt) {
+            return UserHistory.builder()
+                    .user(user)
+                    .affirmation(affirmation)
+                    .viewedAt(viewedAt)
+                    .setId(id)
+                    .slotIndex(slot)
+                    .selectionKey(selectionKey)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.checkmate.bub.domain.affirmation.service;
+
+import com.checkmate.bub.domain.affirmation.constant.AffirmationJobStatus;
+import com.checkmate.bub.domain.affirmation.dto.AffirmationJobResponseDto;
+import com.checkmate.bub.domain.affirmation.dto.MainAffirmationResponseDto;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 마이페이지에서 문제·톤을 수정한 뒤의 메인 확언 재생성을 비동기 작업으로 실행합니다.
+ * 수정 요청은 DB 저장 직후 작업 ID와 함께 202로 응답하고, 클라이언트는 작업 상태를 조회(또는 완료까지 대기)해 결과를 받습니다.
+ * 완료된 작업은 보관 기간(retention)이 지나면 정리합니다.
+ */
+@Service
+@Slf4j
+public class AffirmationJobService {
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    // 사용자별 가장 최근 작업 (홈 화면 요청이 진행 중인 재생성 결과를 기다리도록)
+    private final Map<Long, Job> latestByUser = new ConcurrentHashMap<>();
+
+    private final AffirmationService affirmationService;
+    private final ExecutorService affirmationJobExecutor;
+    private final long retentionNanos;
+
+    private record Job(String id, Long userId, CompletableFuture<MainAffirmationResponseDto> result, long createdAtNanos) {}
+
+    public AffirmationJobService(AffirmationService affirmationService,
+                                 @Qualifier("affirmationJobExecutor") ExecutorService affirmationJobExecutor,
+                                 @Value("${affirmation.job.retention-ms:600000}") long retentionMs) {
+        this.affirmationService = affirmationService;
+        this.affirmationJobExecutor = affirmationJobExecutor;
+        this.retentionNanos = retentionMs * 1_000_000L;
+    }
+
+    /**
+     * 사용자의 메인 확언 재생성 작업을 시작하고 작업 ID를 반환합니다. 선택 저장이 커밋된 뒤에 호출해야 합니다.
+     */
+    public AffirmationJobResponseDto submitRegeneration(Long userId) {
+        String jobId = UUID.randomUUID().toString();
+        CompletableFuture<MainAffirmationResponseDto> result;
+        try {
+            result = CompletableFuture
+                    .supplyAsync(() -> affirmationService.generateMainAffirmationAsync(userId, true), affirmationJobExecutor)
+                    .thenCompose(future -> future);
+        } catch (RejectedExecutionException e) {
+            log.warn("재생성 작업 큐 포화로 작업 등록 실패. userId: {}", userId);
+            result = CompletableFuture.failedFuture(new RuntimeException("요청이 많아 문구를 새로 만들지 못했습니다. 잠시 후 다시 시도해주세요."));
+        }
+
+        Job job = new Job(jobId, userId, result, System.nanoTime());
+        jobs.put(jobId, job);
+        latestByUser.put(userId, job);
+        result.whenComplete((response, failure) -> {
+            if (failure != null) {
+                log.warn("확언 재생성 작업 실패. userId: {}, jobId: {}, error: {}", userId, jobId, unwrap(failure).getMessage());
+            } else {
+                log.info("확언 재생성 작업 완료. userId: {}, jobId: {}", userId, jobId);
+            }
+        });
+        log.info("확언 재생성 작업 등록. userId: {}, jobId: {}", userId, jobId);
+        return toResponse(job);
+    }
+
+    /**
+     * 작업의 현재 상태를 반환합니다. 다른 사용자의 작업이거나 정리된 작업이면 찾을 수 없음으로 처리합니다.
+     */
+    public AffirmationJobResponseDto getJob(Long userId, String jobId) {
+        return toResponse(findJob(userId, jobId));
+    }
+
+    /**
+     * 작업이 끝날 때 완료되는 future를 반환합니다 (완료 대기용). 실패한 작업도 상태 응답으로 정상 완료됩니다.
+     */
+    public CompletableFuture<AffirmationJobResponseDto> awaitJob(Long userId, String jobId) {
+        Job job = findJob(userId, jobId);
+        return job.result().handle((response, failure) -> toResponse(job));
+    }
+
+    /**
+     * 사용자의 진행 중인 재생성 작업 결과를 반환합니다. 진행 중인 작업이 없으면 null입니다.
+     */
+    public CompletableFuture<MainAffirmationResponseDto> findRunning(Long userId) {
+        Job job = latestByUser.get(userId);
+        return job == null || job.result().isDone() ? null : job.result().copy();
+    }
+
+    @Scheduled(fixedDelayString = "${affirmation.job.eviction-interval-ms:60000}")
+    public void evictFinished() {
+        long now = System.nanoTime();
+        jobs.values().removeIf(job -> job.result().isDone() && now - job.createdAtNanos() > retentionNanos);
+        latestByUser.values().removeIf(job -> !jobs.containsKey(job.id()));
+    }
+
+    private Job findJob(Long userId, String jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null || !job.userId().equals(userId)) {
+            throw new EntityNotFoundException("확언 재생성 작업을 찾을 수 없습니다. jobId: " + jobId);
+        }
+        return job;
+    }
+
+    private AffirmationJobResponseDto toResponse(Job job) {
+        AffirmationJobResponseDto.AffirmationJobResponseDtoBuilder response = AffirmationJobResponseDto.builder().jobId(job.id());
+        CompletableFuture<MainAffirmationResponseDto> result = job.result();
+        if (!result.isDone()) {
+            return response.status(AffirmationJobStatus.RUNNING).build();
+        }
+        try {
+            return response.status(AffirmationJobStatus.SUCCEEDED).affirmations(result.join()).build();
+        } catch (CompletionException e) {
+            return response.status(AffirmationJobStatus.FAILED).errorMessage(unwrap(e).getMessage()).build();
+        }
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+}
@@ -2,25 +2,50 @@ package com.checkmate.bub.domain.affirmation.service;
 
 import com.checkmate.bub.domain.affirmation.dto.MainAffirmationResponseDto;
 import com.checkmate.bub.domain.affirmation.dto.ToneExampleResponseDto;
+import com.checkmate.bub.domain.affirmation.repository.ToneExampleRepository;
+import com.checkmate.bub.domain.affirmation.service.helper.ClovaRequestBodyCache;
+import com.checkmate.bub.domain.affirmation.service.helper.ClovaRequestCoalescer;
+import com.checkmate.bub.domain.affirmation.service.helper.ClovaTextPostProcessor;
+import com.checkmate.bub.domain.affirmation.service.helper.NumberedAffirmationParser;
+import com.checkmate.bub.domain.affirmation.service.helper.SpeculativeAffirmationStore;
+import com.checkmate.bub.domain.affirmation.service.helper.ToneExampleCache;
+import com.checkmate.bub.domain.affirmation.dto.MainAffirmationStreamEventDto;
 import com.checkmate.bub.domain.ai.clova.ClovaClient;
-import com.checkmate.bub.domain.bridge.domain.UserCategoryBridge;
-import com.checkmate.bub.domain.bridge.repository.UserCategoryBridgeRepository;
+import com.checkmate.bub.domain.ai.clova.ClovaSseDecoder;
+import com.checkmate.bub.domain.ai.clova.ClovaReactiveClient;
+import com.checkmate.bub.domain.ai.clova.ClovaResilience;
+import com.checkmate.bub.domain.bridge.dto.UserCategorySelectionDto;
 import com.checkmate.bub.domain.category.constant.CategoryType;
 import com.checkmate.bub.domain.category.domain.Category;
+import com.checkmate.bub.domain.category.event.CategoryChangedEvent;
 import com.checkmate.bub.domain.category.repository.CategoryRepository;
+import com.checkmate.bub.domain.category.service.CategoryCatalog;
 import com.checkmate.bub.domain.profile.member.service.helper.UserCategoryBridgeHelper;
+import com.checkmate.bub.domain.profile.member.service.helper.UserSelectionCache;
 import com.checkmate.bub.global.util.UuidUtil;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import feign.FeignException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @Transactional(readOnly = true)
@@ -28,18 +53,55 @@ import java.util.*;
 @RequiredArgsConstructor
 public class AffirmationService {
     private final CategoryRepository categoryRepository;
-    private final UserCategoryBridgeRepository userCategoryBridgeRepository;
+    private final UserSelectionCache userSelectionCache;
     private final ClovaClient clovaClient;
     private final ObjectMapper objectMapper;
     private final UserCategoryBridgeHelper userCategoryBridgeHelper;
+    private final ExecutorService clovaExecutor;
+    private final AffirmationCorpusService affirmationCorpusService;
+    private final ClovaReactiveClient clovaReactiveClient;
+    private final ClovaRequestBodyCache clovaRequestBodyCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ToneExampleCache toneExampleCache;
+    private final ClovaRequestCoalescer clovaRequestCoalescer;
+    private final ClovaResilience clovaResilience;
+    private final SpeculativeAffirmationStore speculativeAffirmationStore;
+    private final ClovaTextPostProcessor clovaTextPostProcessor;
+    private final ToneExampleRepository toneExampleRepository;
+    private final CategoryCatalog categoryCatalog;
 
     @Value("${clova.api-key}")
     private String apiKey;
 
+    // 메인 확언 3개 병렬 생성 시 요청 단위 마감 시간 (밀리초)
+    @Value("${clova.main-affirmation.deadline-ms:15000}")
+    private long mainAffirmationDeadlineMs;
+
+    // 메인 확언 생성 방식: batch(한 번의 호출로 N개 생성, 실패 슬롯만 개별 재호출) 또는 per-item(슬롯별 개별 호출)
+    @Value("${clova.main-affirmation.generation-mode:batch}")
+    private String generationMode;
+
+    // Clova 호출 클라이언트: reactive(WebClient, 기본) 또는 feign (처리량 A/B 비교용)
+    @Value("${clova.client.type:reactive}")
+    private String clovaClientType;
+
+    // 저장된 확언 코퍼스에서 우선 제공할지 여부
+    @Value("${affirmation.corpus.enabled:true}")
+    private boolean corpusEnabled;
+
+    // 같은 날 다시 요청하면 오늘 받은 확언 세트를 UserHistory에서 그대로 제공할지 여부
+    @Value("${affirmation.daily-memo.enabled:true}")
+    private boolean dailyMemoEnabled;
+
+    // 온보딩에서 문제를 고르는 즉시 3개 톤의 메인 확언을 미리 생성할지 여부
+    @Value("${affirmation.speculative.enabled:true}")
+    private boolean speculativeEnabled;
+
     // Clova API 요청 파라미터 상수들
     private static final double DEFAULT_TOP_P = 0.8;
     private static final int DEFAULT_TOP_K = 0;
     private static final int DEFAULT_MAX_TOKENS = 256;
+    private static final int BATCH_MAX_TOKENS_PER_ITEM = 160;
     private static final double DEFAULT_TEMPERATURE = 0.8;
     private static final double DEFAULT_REPETITION_PENALTY = 1.1;
     private static final int DEFAULT_SEED = 0;
@@ -47,8 +109,17 @@ public class AffirmationService {
     // 비즈니스 로직 상수들
     private static final int MAX_PROBLEM_IDS = 10;
     private static final int EXPECTED_TONE_COUNT = 3;
-    private static final String SSE_DATA_PREFIX = "data:";
-    private static final String SSE_DONE_SIGNAL = "[DONE]";
+    private static final int MAIN_AFFIRMATION_COUNT = 3;
+    private static final List<Integer> ALL_SLOTS = IntStream.range(0, MAIN_AFFIRMATION_COUNT).boxed().toList();
+    private static final List<String> TONE_NAMES = List.of("Joy", "Wednesday", "Zelda");
+    private static final String GENERATION_MODE_BATCH = "batch";
+    private static final String CLIENT_TYPE_REACTIVE = "reactive";
+
+    // 메인 확언 스트리밍 이벤트 이름
+    private static final String STREAM_EVENT_TOKEN = "token";
+    private static final String STREAM_EVENT_AFFIRMATION = "affirmation";
+    private static final String STREAM_EVENT_ERROR = "error";
+    private static final String STREAM_EVENT_DONE = "done";
 
     // HTTP 헤더 상수들
     private static final String AUTHORIZATION_HEADER_PREFIX = "Bearer ";
@@ -72,6 +143,9 @@ public class AffirmationService {
 
         // 사용자 문제 선택 저장
         userCategoryBridgeHelper.saveSelections(userId, problemIds, CategoryType.PROBLEM);
+
+        // 톤은 다음 단계에서 고르므로, 3개 톤 모두의 메인 확언을 미리 생성해 둠 (첫 홈 화면 대기 시간 단축)
+        startSpeculativeGeneration(userId, problemIds);
         
         // 리스트 복사 후 shuffle (원본 수정 피함)
         List<Long> shuffledIds = new ArrayList<>(problemIds);
@@ -81,7 +155,7 @@ public class AffirmationService {
         Long selectedProblemId = shuffledIds.getFirst();
         log.info("Selected random problemId: {} for userId: {}", selectedProblemId, userId);
 
-        Category problemCategory = categoryRepository.findById(selectedProblemId)
+        Category problemCategory = categoryCatalog.findById(selectedProblemId)
                 .orElseThrow(() -> new EntityNotFoundException("문제 카테고리를 찾을 수 없습니다."));
 
         // enum 체크 (톤 아닌 문제만 – 필요 시)
@@ -89,37 +163,145 @@ public class AffirmationService {
             throw new IllegalArgumentException("선택된 카테고리는 문제 유형이어야 합니다.");
         }
 
-        String prompt = createPromptForToneExamples(problemCategory.getName());
+        // 공유 캐시에서 먼저 꺼내고, 없을 때만 Clova 호출
+        String[] tones = findToneExamples(selectedProblemId, problemCategory.getName());
+
+        // 생성된 톤 예시 저장
+        saveToneExamples(tones, selectedProblemId);
+
+        // DTO 반환 (최종 정제 처리)
+        return buildResponseDto(tones);
 
-        // Clova API 요청 바디 구성
-        Map<String, Object> requestBody = buildClovaRequestBody(prompt);
+    }
+
+    /**
+     * 톤 예시를 캐시에서 꺼냅니다. 오래된 예시도 그대로 제공하고, 재생성은 백그라운드에서 진행합니다.
+     * 캐시에 없을 때만 요청 스레드에서 Clova를 호출하고 결과를 캐시에 넣습니다.
+     */
+    private String[] findToneExamples(Long problemId, String problemText) {
+        ToneExampleCache.Lookup cached = toneExampleCache.lookup(problemId);
+        if (cached != null) {
+            if (cached.needsRefresh()) {
+                refreshToneExamplesAsync(problemId, problemText);
+            }
+            log.info("톤 예시 캐시 적중. problemId: {}, stale: {}", problemId, cached.needsRefresh());
+            return cached.tones();
+        }
+
+        String[] tones = generateToneExamples(problemId, problemText);
+        toneExampleCache.put(problemId, tones);
+        return tones;
+    }
+
+    private void refreshToneExamplesAsync(Long problemId, String problemText) {
+        if (!toneExampleCache.tryStartRefresh(problemId)) {
+            return;
+        }
+        try {
+            CompletableFuture.runAsync(() -> toneExampleCache.put(problemId, generateToneExamples(problemId, problemText)), clovaExecutor)
+                    .whenComplete((ignored, failure) -> {
+                        if (failure != null) {
+                            log.warn("톤 예시 백그라운드 재생성 실패. problemId: {}, error: {}", problemId, unwrapFailure(failure).getMessage());
+                        }
+                        toneExampleCache.finishRefresh(problemId, failure == null);
+                    });
+        } catch (RejectedExecutionException e) {
+            log.warn("Clova 작업 큐 포화로 톤 예시 재생성 생략. problemId: {}", problemId);
+            toneExampleCache.finishRefresh(problemId, false);
+        }
+    }
+
+    /**
+     * Clova로 톤 예시 3문장을 생성합니다.
+     */
+    private String[] generateToneExamples(Long problemId, String problemText) {
+        // Clova API 요청 바디 구성 (문제별로 한 번만 렌더링·직렬화)
+        ClovaRequest request = toneExamplesRequest(problemText);
 
         String requestId = UuidUtil.generateRequestId();
-        log.info("톤 예시 생성 시작. problemId: {}, requestId: {}", selectedProblemId, requestId);
+        log.info("톤 예시 생성 시작. problemId: {}, requestId: {}", problemId, requestId);
 
-        // Clova API 호출 및 포괄적 예외 처리
-        String clovaResponse = callClovaApiSafely(requestBody, requestId);
+        // Clova API 호출 및 포괄적 예외 처리 (같은 문제로 동시에 들어온 호출은 하나로 묶음)
+        String clovaResponse = callClovaApiShared(request, requestId);
 
         // SSE 응답에서 컨텐츠 추출 및 톤 파싱
-        String[] tones = extractTonesFromSseResponse(clovaResponse, requestId);
+        return extractTonesFromSseResponse(clovaResponse, requestId);
+    }
+
+    /**
+     * 모든 문제의 톤 예시를 캐시에 미리 채웁니다 (기동 직후 예열용).
+     * Clova 호출 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 순차 실행해 호출이 한꺼번에 몰리지 않게 합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void warmUpToneExamples() {
+        int generated = 0;
+        for (Category problem : categoryCatalog.findByType(CategoryType.PROBLEM)) {
+            for (int i = toneExampleCache.missingVariants(problem.getId()); i > 0; i--) {
+                try {
+                    toneExampleCache.put(problem.getId(), generateToneExamples(problem.getId(), problem.getName()));
+                    generated++;
+                } catch (Exception e) {
+                    log.warn("톤 예시 예열 실패. problemId: {}, error: {}", problem.getId(), e.getMessage());
+                    break;
+                }
+            }
+        }
+        log.info("톤 예시 캐시 예열 완료. generated: {}", generated);
+    }
 
-        // Save generated tones to CategoryRepository
-        saveTonesToCategory(tones, selectedProblemId);
+    /**
+     * 프롬프트 입력값으로 만든 키와 직렬화된 요청 바디
+     * 키는 요청 바디 캐시와 동시 호출 묶기(ClovaRequestCoalescer)에 함께 사용합니다.
+     */
+    private record ClovaRequest(String key, byte[] body) {}
 
-        // DTO 반환 (최종 정제 처리)
-        return buildResponseDto(tones);
+    /**
+     * 톤 예시 요청 바디를 캐시에서 꺼냅니다. 없을 때만 15KB 템플릿을 렌더링합니다.
+     */
+    private ClovaRequest toneExamplesRequest(String problemText) {
+        String key = "tone-examples|" + problemText;
+        return new ClovaRequest(key, clovaRequestBodyCache.get(key,
+                () -> buildClovaRequestBody(createPromptForToneExamples(problemText))));
+    }
+
+    /**
+     * 메인 확언 1개 요청 바디를 캐시에서 꺼냅니다.
+     */
+    private ClovaRequest mainAffirmationRequest(Category selectedProblem, Category toneCategory, int orderNumber) {
+        String key = "main|" + selectedProblem.getName() + "|" + toneCategory.getName() + "|" + orderNumber;
+        return new ClovaRequest(key, clovaRequestBodyCache.get(key,
+                () -> buildClovaRequestBody(createMainAffirmationPrompt(selectedProblem, toneCategory, orderNumber))));
+    }
 
+    /**
+     * 여러 확언을 한 번에 받는 요청 바디를 캐시에서 꺼냅니다.
+     */
+    private ClovaRequest batchAffirmationRequest(List<Category> slotProblems, Category toneCategory) {
+        StringBuilder keyBuilder = new StringBuilder("batch|").append(toneCategory.getName());
+        for (Category problem : slotProblems) {
+            keyBuilder.append('|').append(problem.getName());
+        }
+        String key = keyBuilder.toString();
+        return new ClovaRequest(key, clovaRequestBodyCache.get(key, () -> buildClovaRequestBody(
+                createBatchAffirmationPrompt(slotProblems, toneCategory), BATCH_MAX_TOKENS_PER_ITEM * slotProblems.size())));
     }
 
     /**
      * Clova API 요청 바디를 구성합니다.
      */
     private Map<String, Object> buildClovaRequestBody(String prompt) {
+        return buildClovaRequestBody(prompt, DEFAULT_MAX_TOKENS);
+    }
+
+    /**
+     * 최대 토큰 수를 지정해 Clova API 요청 바디를 구성합니다 (여러 문장을 한 번에 받을 때 사용).
+     */
+    private Map<String, Object> buildClovaRequestBody(String prompt, int maxTokens) {
         Map<String, Object> body = new HashMap<>();
         body.put("messages", List.of(Map.of("role", "system", "content", prompt)));
         body.put("topP", DEFAULT_TOP_P);
         body.put("topK", DEFAULT_TOP_K);
-        body.put("maxTokens", DEFAULT_MAX_TOKENS);
+        body.put("maxTokens", maxTokens);
         body.put("temperature", DEFAULT_TEMPERATURE);
         body.put("repetitionPenalty", DEFAULT_REPETITION_PENALTY);
         body.put("stop", List.of());
@@ -128,25 +310,35 @@ public class AffirmationService {
         return body;
     }
 
+    /**
+     * 같은 키로 진행 중인 호출이 있으면 그 결과를 함께 받고, 없으면 callClovaApiSafely로 직접 호출합니다.
+     */
+    private String callClovaApiShared(ClovaRequest request, String requestId) {
+        try {
+            return clovaRequestCoalescer.execute(request.key(),
+                    () -> CompletableFuture.completedFuture(callClovaApiSafely(request.body(), requestId))).join();
+        } catch (CompletionException e) {
+            throw unwrapFailure(e);
+        }
+    }
+
     /**
      * Clova API를 안전하게 호출하고 에러 처리를 수행합니다.
      */
-    private String callClovaApiSafely(Map<String, Object> requestBody, String requestId) {
+    private String callClovaApiSafely(byte[] requestBody, String requestId) {
         String clovaResponse;
         try {
-            clovaResponse = clovaClient.callApi(
+            // 벌크헤드·서킷 브레이커·재시도(429, 5xx, I/O 오류)를 거쳐 호출
+            clovaResponse = clovaResilience.call(ClovaResilience.CHAT, () -> clovaClient.callApi(
                     requestBody,
                     AUTHORIZATION_HEADER_PREFIX + apiKey,
                     requestId,
                     CONTENT_TYPE_JSON,
                     CONTENT_TYPE_SSE
-            );
-
-            if (clovaResponse == null || clovaResponse.trim().isEmpty()) {
-                log.error("Clova API 빈 응답 반환. requestId: {}", requestId);
-                throw new RuntimeException("AI 서버로부터 응답을 받지 못했습니다. 잠시 후 다시 시도해주세요.");
-            }
-
+            ));
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            log.warn("Clova 호출 차단(서킷 열림 또는 동시 호출 한도). requestId: {}, reason: {}", requestId, e.getMessage());
+            throw new RuntimeException("AI 서버가 혼잡합니다. 잠시 후 다시 시도해주세요.");
         } catch (FeignException fe) {
             log.error("Clova API 호출 실패. requestId: {}, status: {}, message: {}", requestId, fe.status(), fe.getMessage());
             if (fe.status() == 401) {
@@ -166,6 +358,18 @@ public class AffirmationService {
             throw new RuntimeException("AI 서버와의 통신 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
         }
 
+        return validateClovaResponse(clovaResponse, requestId);
+    }
+
+    /**
+     * 빈 응답과 API 에러 코드를 검사합니다 (Feign·WebClient 공통).
+     */
+    private String validateClovaResponse(String clovaResponse, String requestId) {
+        if (clovaResponse == null || clovaResponse.trim().isEmpty()) {
+            log.error("Clova API 빈 응답 반환. requestId: {}", requestId);
+            throw new RuntimeException("AI 서버로부터 응답을 받지 못했습니다. 잠시 후 다시 시도해주세요.");
+        }
+
         // API 에러 코드 처리
         if (containsErrorCode(clovaResponse)) {
             String errorMessage = extractErrorMessage(clovaResponse);
@@ -180,36 +384,14 @@ public class AffirmationService {
      * SSE 응답에서 톤 내용을 추출하고 파싱합니다.
      */
     private String[] extractTonesFromSseResponse(String clovaResponse, String requestId) {
-        StringBuilder contentBuilder = new StringBuilder();
-        try {
-            String[] lines = clovaResponse.split("\\n");
-
-            for (String line : lines) {
-                if (line.startsWith(SSE_DATA_PREFIX)) {
-                    String data = line.substring(SSE_DATA_PREFIX.length()).trim();
-                    if (!data.isEmpty() && !data.equals(SSE_DONE_SIGNAL)) {
-                        String content = extractContentFromSseData(data);
-                        if (content != null) {
-                            contentBuilder.append(content);
-                        }
-                    }
-                }
-            }
-        } catch (Exception e) {
-            log.error("SSE 응답 처리 중 오류 발생. requestId: {}, error: {}", requestId, e.getMessage());
-            throw new RuntimeException("AI 응답 처리 중 오류가 발생했습니다. 다시 시도해주세요.");
-        }
-
-        String fullContent = contentBuilder.toString().trim().replaceAll("\\*\\*|#", "");
+        String fullContent = collectContentFromSseResponse(clovaResponse, requestId);
 
-        // 중복 패턴 제거 (Joy, Wednesday, Zelda 가 중복으로 나타나는 경우)
-        fullContent = removeDuplicatePatterns(fullContent);
-        if (fullContent.isEmpty()) {
+        // 마크다운 제거, Joy/Wednesday/Zelda 구간 분리, 중복 라벨 제거를 한 번에 처리
+        String[] tones = clovaTextPostProcessor.parseTones(fullContent);
+        if (tones.length == 0) {
             log.error("AI 응답 내용이 비어있음. requestId: {}, response: {}", requestId, clovaResponse);
             throw new RuntimeException("AI가 응답을 생성하지 못했습니다. 다른 문제로 다시 시도해주세요.");
         }
-
-        String[] tones = parseTonesFromContent(fullContent);
         if (tones.length != EXPECTED_TONE_COUNT) {
             log.error("예상된 {}개의 톤이 아님. requestId: {}, content: {}, parsed: {}", EXPECTED_TONE_COUNT, requestId, fullContent, Arrays.toString(tones));
             throw new RuntimeException("AI가 올바른 형식으로 응답하지 못했습니다. 다시 시도해주세요.");
@@ -219,167 +401,15 @@ public class AffirmationService {
     }
 
     /**
-     * SSE 데이터에서 컨텐츠를 추출합니다.
-     */
-    private String extractContentFromSseData(String data) {
-        try {
-            JsonNode jsonNode = objectMapper.readTree(data);
-            JsonNode contentNode = jsonNode.path("message").path("content");
-            if (!contentNode.isMissingNode()) {
-                return contentNode.asText();
-            }
-        } catch (Exception e) {
-            log.warn("JSON 파싱 실패, 백업 방식 사용: {}", data);
-            // 백업: 문자열 파싱 방식
-            if (data.contains("\"content\":")) {
-                return extractContentByString(data);
-            }
-        }
-        return null;
-    }
-
-    /**
-     * 문자열 방식으로 컨텐츠를 추출합니다 (백업용).
+     * SSE 응답에서 message.content를 추출합니다 (result 이벤트가 있으면 그 내용, 없으면 token 내용을 이어 붙임).
      */
-    private String extractContentByString(String data) {
+    private String collectContentFromSseResponse(String clovaResponse, String requestId) {
         try {
-            int startIndex = data.indexOf("\"content\":\"") + 11;
-            int endIndex = data.indexOf("\"", startIndex);
-            if (startIndex > 10 && endIndex > startIndex) {
-                return data.substring(startIndex, endIndex);
-            }
+            return ClovaSseDecoder.decodeContent(clovaResponse);
         } catch (Exception e) {
-            log.warn("문자열 추출 실패: {}", data);
-        }
-        return null;
-    }
-
-    /**
-     * 컨텐츠에서 톤 데이터를 파싱합니다.
-     */
-    private String[] parseTonesFromContent(String content) {
-        if (content == null || content.trim().isEmpty()) {
-            throw new RuntimeException("빈 응답 내용입니다.");
-        }
-
-        // 예상되는 톤 패턴들
-        String[] tonePatterns = {"Joy:", "Wednesday:", "Zelda:"};
-        List<String> tones = new ArrayList<>();
-        
-        for (String pattern : tonePatterns) {
-            // 첫 번째 매칭만 사용하여 중복 방지
-            int startIndex = content.indexOf(pattern);
-            if (startIndex != -1) {
-                startIndex += pattern.length();
-                int endIndex = findNextPatternIndex(content, tonePatterns, pattern, startIndex);
-                
-                String tone = content.substring(startIndex, endIndex)
-                    .replaceAll("[\"\\n\\r]", "")
-                    .trim();
-                
-                // 다른 톤 패턴이 섞여있는지 확인 및 제거 (패턴명 포함)
-                for (String otherPattern : tonePatterns) {
-                    if (!otherPattern.equals(pattern)) {
-                        String otherPatternName = otherPattern.replace(":", "");
-                        if (tone.contains(otherPatternName)) {
-                            int cutIndex = tone.indexOf(otherPatternName);
-                            tone = tone.substring(0, cutIndex).trim();
-                            break;
-                        }
-                    }
-                }
-                
-                // 마지막에 따옴표가 남아있으면 제거
-                if (tone.endsWith("\"")) {
-                    tone = tone.substring(0, tone.length() - 1).trim();
-                }
-                
-                if (!tone.isEmpty()) {
-                    tones.add(tone);
-                }
-            }
-        }
-
-        // 패턴이 없으면 기존 방식으로 분할 (백업)
-        if (tones.isEmpty()) {
-            log.warn("톤 패턴을 찾지 못함. 줄바꿈 기준으로 분할: {}", content);
-            String[] fallbackTones = content.split("\\n");
-            return fallbackTones.length > EXPECTED_TONE_COUNT
-                    ? Arrays.copyOf(fallbackTones, EXPECTED_TONE_COUNT)
-                    : fallbackTones;
-        }
-
-        return tones.toArray(new String[0]);
-    }
-
-    /**
-     * 다음 패턴의 인덱스를 찾습니다.
-     */
-    private int findNextPatternIndex(String content, String[] patterns, String currentPattern, int startIndex) {
-        int endIndex = content.length();
-
-        for (String nextPattern : patterns) {
-            if (!nextPattern.equals(currentPattern)) {
-                int nextIndex = content.indexOf(nextPattern, startIndex);
-                if (nextIndex != -1 && nextIndex < endIndex) {
-                    endIndex = nextIndex;
-                }
-            }
-        }
-
-        return endIndex;
-    }
-
-    /**
-     * 톤 텍스트를 정제합니다.
-     */
-    private String cleanToneText(String tone) {
-        if (tone == null) {
-            return "";
-        }
-        return tone.trim()
-                .replaceAll("^[\"']", "")
-                .replaceAll("[\"']$", "")
-                .trim();
-    }
-
-    /**
-     * 중복된 톤 패턴을 제거합니다.
-     */
-    private String removeDuplicatePatterns(String content) {
-        if (content == null || content.isEmpty()) {
-            return content;
-        }
-
-        String[] patterns = {"Joy:", "Wednesday:", "Zelda:"};
-        StringBuilder result = new StringBuilder();
-        String[] lines = content.split("\\n");
-
-        for (String line : lines) {
-            String cleanLine = line.trim();
-            if (cleanLine.isEmpty()) continue;
-
-            // 각 라인에서 패턴이 중복으로 나타나는지 확인
-            for (String pattern : patterns) {
-                if (cleanLine.contains(pattern)) {
-                    int firstIndex = cleanLine.indexOf(pattern);
-                    int secondIndex = cleanLine.indexOf(pattern, firstIndex + pattern.length());
-
-                    // 중복이 발견되면 첫 번째 패턴까지만 유지
-                    if (secondIndex != -1) {
-                        cleanLine = cleanLine.substring(0, secondIndex).trim();
-                        log.warn("중복 패턴 제거: {}", pattern);
-                    }
-                    break;
-                }
-            }
-
-            if (!cleanLine.isEmpty()) {
-                result.append(cleanLine).append("\n");
-            }
+            log.error("SSE 응답 처리 중 오류 발생. requestId: {}, error: {}", requestId, e.getMessage());
+            throw new RuntimeException("AI 응답 처리 중 오류가 발생했습니다. 다시 시도해주세요.");
         }
-
-        return result.toString().trim();
     }
 
     private String createPromptForToneExamples(String problemText) {
@@ -466,21 +496,215 @@ public class AffirmationService {
      */
     private ToneExampleResponseDto buildResponseDto(String[] tones) {
         return ToneExampleResponseDto.builder()
-                .tone1(cleanToneText(tones[0]))
-                .tone2(cleanToneText(tones[1]))
-                .tone3(cleanToneText(tones[2]))
+                .tone1(tones[0])
+                .tone2(tones[1])
+                .tone3(tones[2])
                 .build();
     }
 
     /**
      * 사용자의 메인 확언 문구를 생성합니다.
      * 사용자가 선택한 문제와 톤을 기반으로 개인화된 확언 문구 3개를 생성합니다.
+     * 결과가 나올 때까지 호출 스레드가 기다리므로, 웹 요청에서는 generateMainAffirmationAsync를 사용합니다.
+     * 선택한 문제·톤이 바뀐 직후에 호출되므로 오늘 받은 세트가 있어도 항상 새로 만듭니다.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public MainAffirmationResponseDto generateMainAffirmation(Long userId) {
+        try {
+            return generateMainAffirmationAsync(userId, true).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * 메인 확언 문구 3개를 비동기로 생성합니다.
+     * 사용자 선택 조회와 코퍼스 조회만 호출 스레드에서 실행하고, Clova 호출은 스레드를 점유하지 않고 기다립니다.
+     * refresh가 false이고 오늘 이미 받은 세트가 있으면 Clova 호출 없이 그 세트를 그대로 반환합니다.
+     * 코퍼스 기록은 자체 트랜잭션으로 커밋되므로, 호출부가 커넥션을 잡은 채 두 번째 커넥션을 기다리지 않도록 트랜잭션 밖에서 실행합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<MainAffirmationResponseDto> generateMainAffirmationAsync(Long userId, boolean refresh) {
+        // 1. 사용자 선택 조회 및 슬롯별 문제 배정
+        MainAffirmationSlots slots = resolveMainAffirmationSlots(userId);
+        if (!refresh) {
+            String[] todaySet = findTodaySet(userId, slots);
+            if (todaySet != null) {
+                return CompletableFuture.completedFuture(buildMainAffirmationResponse(todaySet));
+            }
+        }
         log.info("메인 확언 문구 3개 생성 시작. userId: {}", userId);
 
-        // 1. 사용자가 선택한 카테고리들 조회
-        List<UserCategoryBridge> userCategories = userCategoryBridgeRepository.findByUserId(userId);
+        // 2. 온보딩 중 미리 생성해 둔 세트가 있으면 우선 제공 (실패하면 평소 경로로 생성)
+        SpeculativeAffirmationStore.Speculation speculation = takeSpeculation(userId, slots);
+        if (speculation != null) {
+            return speculation.affirmations()
+                    .handle((generated, failure) -> {
+                        if (failure != null || generated.stream().allMatch(Objects::isNull)) {
+                            log.warn("미리 생성한 확언 사용 불가, 새로 생성. userId: {}", userId);
+                            return null;
+                        }
+                        return generated;
+                    })
+                    .thenCompose(generated -> {
+                        if (generated == null) {
+                            // 평소 경로의 코퍼스 조회(DB 작업)가 Clova 응답을 완료한 스레드에서 실행되지 않도록 넘김
+                            return runOffClovaThreads(() -> generateMainAffirmationAsync(userId, slots))
+                                    .thenCompose(response -> response);
+                        }
+                        log.info("미리 생성한 메인 확언 제공. userId: {}", userId);
+                        MainAffirmationResponseDto response = buildMainAffirmationResponse(generated.toArray(String[]::new));
+                        return runOffClovaThreads(() -> saveToCorpus(userId, slots.set(), ALL_SLOTS, speculation.problems(), slots.tone(), generated))
+                                .thenApply(ignored -> response);
+                    });
+        }
+        return generateMainAffirmationAsync(userId, slots);
+    }
+
+    private CompletableFuture<MainAffirmationResponseDto> generateMainAffirmationAsync(Long userId, MainAffirmationSlots slots) {
+        List<Category> slotProblems = slots.problems();
+        Category toneCategory = slots.tone();
+
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(mainAffirmationDeadlineMs);
+
+        // 3. 코퍼스에 저장된, 사용자가 아직 보지 않은 문구를 우선 제공 (모두 채워지면 Clova 호출 없음)
+        String[] affirmations = drawFromCorpus(userId, slots);
+        List<Integer> missingSlots = new ArrayList<>();
+        for (int i = 0; i < MAIN_AFFIRMATION_COUNT; i++) {
+            if (affirmations[i] == null) {
+                missingSlots.add(i);
+            }
+        }
+
+        if (missingSlots.isEmpty()) {
+            log.info("메인 확언 문구 3개 모두 코퍼스에서 제공. userId: {}", userId);
+            return CompletableFuture.completedFuture(buildMainAffirmationResponse(affirmations));
+        }
+
+        List<Category> missingProblems = missingSlots.stream().map(slotProblems::get).toList();
+
+        // 4. 남은 슬롯만 Clova로 생성 (응답은 Clova 결과를 받은 스레드에서 바로 조립)
+        return generateSlots(missingProblems, missingSlots, toneCategory, userId, deadlineNanos)
+                .handle((generated, failure) -> {
+                    if (failure != null) {
+                        RuntimeException cause = unwrapFailure(failure);
+                        // 코퍼스에서 일부라도 제공했다면 생성 실패는 부분 결과로 처리
+                        if (missingSlots.size() == MAIN_AFFIRMATION_COUNT) {
+                            throw cause;
+                        }
+                        log.warn("추가 생성 실패, 코퍼스 결과만 제공. userId: {}, error: {}", userId, cause.getMessage());
+                        generated = Collections.nCopies(missingSlots.size(), null);
+                    }
+
+                    for (int i = 0; i < missingSlots.size(); i++) {
+                        affirmations[missingSlots.get(i)] = generated.get(i);
+                    }
+                    return generated;
+                })
+                // 코퍼스 저장(DB 작업)은 Netty 이벤트 루프·Clova 전용 풀이 아닌 별도 스레드에서 실행
+                .thenCompose(generated -> runOffClovaThreads(
+                        () -> saveToCorpus(userId, slots.set(), missingSlots, missingProblems, toneCategory, generated)))
+                .thenApply(ignored -> buildMainAffirmationResponse(affirmations));
+    }
+
+    /**
+     * DB 작업을 Clova 응답을 완료한 스레드(Netty 이벤트 루프 또는 Clova 전용 풀) 대신 boundedElastic 스레드에서 실행합니다.
+     * 풀이 포화되어 작업이 거절되면 호출 스레드에서 바로 실행해, 이미 만든 확언이 거절 때문에 실패로 끝나지 않게 합니다.
+     */
+    private CompletableFuture<Void> runOffClovaThreads(Runnable task) {
+        return runOffClovaThreads(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    private <T> CompletableFuture<T> runOffClovaThreads(Callable<T> task) {
+        return Mono.fromCallable(task)
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(RejectedExecutionException.class, e -> {
+                    log.warn("DB 작업 스레드 포화로 호출 스레드에서 실행. error: {}", e.getMessage());
+                    return Mono.fromCallable(task);
+                })
+                .toFuture();
+    }
+
+    /**
+     * 지정한 슬롯들의 확언을 생성합니다. slots는 슬롯 번호(0부터)로, 개별 호출의 프롬프트 순번에 쓰입니다.
+     * batch 모드에서는 한 번의 호출로 모두 받고, 검증에 실패한 슬롯만 개별 호출로 보충합니다.
+     */
+    private CompletableFuture<List<String>> generateSlots(List<Category> problems, List<Integer> slots, Category toneCategory,
+                                                          Long userId, long deadlineNanos) {
+        CompletableFuture<String[]> batchAffirmations = GENERATION_MODE_BATCH.equalsIgnoreCase(generationMode)
+                ? generateBatchAffirmations(problems, toneCategory, userId, deadlineNanos)
+                : CompletableFuture.completedFuture(new String[problems.size()]);
+
+        return batchAffirmations
+                .thenCompose(batch -> {
+                    List<CompletableFuture<String>> futures = new ArrayList<>(problems.size());
+                    for (int i = 0; i < problems.size(); i++) {
+                        if (batch[i] != null) {
+                            futures.add(CompletableFuture.completedFuture(batch[i]));
+                        } else {
+                            futures.add(submitAffirmationGeneration(problems.get(i), toneCategory,
+                                    slots.get(i) + 1, userId, deadlineNanos));
+                        }
+                    }
+                    return joinAffirmations(futures, userId);
+                });
+    }
+
+    /**
+     * 톤을 고르기 전에 3개 톤 각각의 메인 확언 세트 생성을 시작하고, 결과를 사용자별 저장소에 보관합니다.
+     * 미리 생성은 최적화일 뿐이므로 실패해도 온보딩 요청에는 영향을 주지 않습니다.
+     */
+    private void startSpeculativeGeneration(Long userId, List<Long> problemIds) {
+        if (!speculativeEnabled) {
+            return;
+        }
+        try {
+            List<Category> problems = problemIds.stream()
+                    .map(categoryCatalog::findById)
+                    .flatMap(Optional::stream)
+                    .filter(category -> category.getType() == CategoryType.PROBLEM)
+                    .toList();
+            if (problems.isEmpty()) {
+                return;
+            }
+
+            Set<Long> selectedProblemIds = problems.stream().map(Category::getId).collect(Collectors.toSet());
+            List<Category> slotProblems = assignSlotProblems(problems);
+            long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(mainAffirmationDeadlineMs);
+
+            Map<String, SpeculativeAffirmationStore.Speculation> byTone = new HashMap<>();
+            for (String toneName : TONE_NAMES) {
+                categoryCatalog.findByTypeAndName(CategoryType.TONE, toneName).ifPresent(tone ->
+                        byTone.put(toneName, new SpeculativeAffirmationStore.Speculation(selectedProblemIds, slotProblems,
+                                generateSlots(slotProblems, ALL_SLOTS, tone, userId, deadlineNanos))));
+            }
+            speculativeAffirmationStore.put(userId, byTone);
+            log.info("메인 확언 미리 생성 시작. userId: {}, tones: {}", userId, byTone.keySet());
+        } catch (Exception e) {
+            log.warn("메인 확언 미리 생성 시작 실패. userId: {}, error: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 선택된 톤·문제 전체와 일치하는 미리 생성된 세트를 꺼냅니다. 다른 톤의 세트는 함께 버려집니다.
+     * 이번 요청에서 섞어 배정한 슬롯별 문제가 아니라 사용자의 선택 전체로 비교하며, 꺼낸 세트는 자신의 슬롯 배정을 그대로 씁니다.
+     */
+    private SpeculativeAffirmationStore.Speculation takeSpeculation(Long userId, MainAffirmationSlots slots) {
+        if (!speculativeEnabled) {
+            return null;
+        }
+        return speculativeAffirmationStore.take(userId, slots.tone().getName(), slots.selectedProblemIds());
+    }
+
+    /**
+     * 메인 확언 슬롯별로 생성할 문제 카테고리와 사용자의 톤을 결정합니다.
+     */
+    private MainAffirmationSlots resolveMainAffirmationSlots(Long userId) {
+        // 1. 사용자가 선택한 카테고리들 조회 (사용자별 캐시, 없으면 카테고리 조인 한 번)
+        List<UserCategorySelectionDto> userCategories = userSelectionCache.get(userId);
 
         if (userCategories.isEmpty()) {
             log.warn("사용자의 선택된 카테고리가 없음. userId: {}", userId);
@@ -491,8 +715,8 @@ public class AffirmationService {
         List<Category> problemCategories = new ArrayList<>();
         Category toneCategory = null;
 
-        for (UserCategoryBridge bridge : userCategories) {
-            Category category = bridge.getCategory();
+        for (UserCategorySelectionDto selection : userCategories) {
+            Category category = selection.toCategory();
             if (category.getType() == CategoryType.PROBLEM) {
                 problemCategories.add(category);
             } else if (category.getType() == CategoryType.TONE) {
@@ -510,43 +734,338 @@ public class AffirmationService {
             throw new IllegalStateException("선택된 톤이 없습니다.");
         }
 
-        // 3. 3개의 확언 문구 생성
-        List<String> affirmations = new ArrayList<>();
+        // 3. 슬롯별 문제 배정 (이번에 제공할 세트는 전체 선택으로 식별)
+        return new MainAffirmationSlots(assignSlotProblems(problemCategories), toneCategory,
+                problemCategories.stream().map(Category::getId).collect(Collectors.toSet()),
+                AffirmationCorpusService.ServedSet.start(problemCategories, toneCategory));
+    }
+
+    private List<Category> assignSlotProblems(List<Category> problemCategories) {
         List<Category> shuffledProblems = new ArrayList<>(problemCategories);
         Collections.shuffle(shuffledProblems);
 
-        for (int i = 0; i < 3; i++) {
-            // 문제 카테고리 순환 선택 (문제가 적을 경우 재사용)
-            Category selectedProblem = shuffledProblems.get(i % shuffledProblems.size());
-            
-            log.info("확언 {}번째 생성 - 선택된 문제: {} (userId: {})", i + 1, selectedProblem.getName(), userId);
+        // 문제 카테고리 순환 선택 (문제가 적을 경우 재사용)
+        List<Category> slotProblems = new ArrayList<>(MAIN_AFFIRMATION_COUNT);
+        for (int i = 0; i < MAIN_AFFIRMATION_COUNT; i++) {
+            slotProblems.add(shuffledProblems.get(i % shuffledProblems.size()));
+        }
+        return slotProblems;
+    }
+
+    private record MainAffirmationSlots(List<Category> problems, Category tone, Set<Long> selectedProblemIds,
+                                        AffirmationCorpusService.ServedSet set) {}
+
+    /**
+     * 메인 확언 문구를 SSE로 스트리밍합니다.
+     * 코퍼스에서 꺼낸 문구는 즉시 affirmation 이벤트로, 실시간 생성 슬롯은 token 이벤트로 도착하는 대로 보내고
+     * 슬롯이 끝나면 정리된 문구를 affirmation 이벤트로 보냅니다. 모든 슬롯이 끝나면 done 이벤트를 보냅니다.
+     * 클라이언트가 연결을 끊으면 구독이 취소되어 진행 중인 Clova 스트림도 함께 끊깁니다.
+     * refresh가 false이고 오늘 이미 받은 세트가 있으면 해당 문구들을 affirmation 이벤트로 바로 보냅니다.
+     * generateMainAffirmationAsync와 같은 이유로 트랜잭션 밖에서 실행합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Flux<ServerSentEvent<MainAffirmationStreamEventDto>> streamMainAffirmation(Long userId, boolean refresh) {
+        MainAffirmationSlots slots = resolveMainAffirmationSlots(userId);
+        if (!refresh) {
+            String[] todaySet = findTodaySet(userId, slots);
+            if (todaySet != null) {
+                return Flux.range(0, todaySet.length)
+                        .map(i -> streamEvent(STREAM_EVENT_AFFIRMATION, i + 1, todaySet[i]))
+                        .concatWith(Mono.just(streamEvent(STREAM_EVENT_DONE, 0, null)));
+            }
+        }
+        log.info("메인 확언 문구 스트리밍 시작. userId: {}", userId);
+        String[] affirmations = drawFromCorpus(userId, slots);
+
+        List<Integer> missingSlots = new ArrayList<>();
+        List<Flux<ServerSentEvent<MainAffirmationStreamEventDto>>> sources = new ArrayList<>();
+        for (int i = 0; i < MAIN_AFFIRMATION_COUNT; i++) {
+            if (affirmations[i] != null) {
+                sources.add(Flux.just(streamEvent(STREAM_EVENT_AFFIRMATION, i + 1, affirmations[i])));
+            } else {
+                missingSlots.add(i);
+                sources.add(streamSlot(i, slots.problems().get(i), slots.tone(), userId, affirmations));
+            }
+        }
+
+        // 생성된 문구 저장은 DB 작업이므로 이벤트 루프가 아닌 별도 스레드에서 실행
+        Mono<Void> saveGenerated = Mono.defer(() -> Mono.fromFuture(runOffClovaThreads(() -> saveToCorpus(userId, slots.set(), missingSlots,
+                missingSlots.stream().map(slots.problems()::get).toList(),
+                slots.tone(),
+                missingSlots.stream().map(slot -> affirmations[slot]).toList()))));
 
-            // 개인화된 프롬프트 생성
-            String prompt = createMainAffirmationPrompt(selectedProblem, toneCategory, i + 1);
+        return Flux.merge(sources)
+                .concatWith(saveGenerated.then(Mono.just(streamEvent(STREAM_EVENT_DONE, 0, null))))
+                .doOnCancel(() -> log.info("클라이언트 연결 종료로 메인 확언 스트리밍 취소. userId: {}", userId));
+    }
+
+    /**
+     * 마이페이지 수정으로 진행 중인 재생성 작업의 결과를 SSE로 보냅니다.
+     * 작업이 끝나면 세 문구를 affirmation 이벤트로, 작업이 실패하면 각 슬롯을 error 이벤트로 보낸 뒤 done 이벤트로 끝냅니다.
+     */
+    public Flux<ServerSentEvent<MainAffirmationStreamEventDto>> streamRunningAffirmation(Long userId,
+                                                                                         CompletableFuture<MainAffirmationResponseDto> running) {
+        log.info("진행 중인 메인 확언 재생성 결과를 스트리밍으로 전달. userId: {}", userId);
+        return Mono.fromFuture(running)
+                .flatMapMany(response -> Flux.just(
+                        streamEvent(STREAM_EVENT_AFFIRMATION, 1, response.getAffirmation1()),
+                        streamEvent(STREAM_EVENT_AFFIRMATION, 2, response.getAffirmation2()),
+                        streamEvent(STREAM_EVENT_AFFIRMATION, 3, response.getAffirmation3())))
+                .onErrorResume(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    log.warn("진행 중인 메인 확언 재생성 실패. userId: {}, error: {}", userId, cause.getMessage());
+                    return Flux.range(1, MAIN_AFFIRMATION_COUNT)
+                            .map(slot -> streamEvent(STREAM_EVENT_ERROR, slot, cause.getMessage()));
+                })
+                .concatWith(Mono.just(streamEvent(STREAM_EVENT_DONE, 0, null)));
+    }
 
-            // Clova API 요청 바디 구성
-            Map<String, Object> requestBody = buildClovaRequestBody(prompt);
+    /**
+     * 한 슬롯의 확언을 Clova 스트림으로 생성합니다. 실패하면 해당 슬롯만 error 이벤트로 끝냅니다.
+     */
+    private Flux<ServerSentEvent<MainAffirmationStreamEventDto>> streamSlot(int slot, Category problemCategory, Category toneCategory,
+                                                                           Long userId, String[] affirmations) {
+        ClovaRequest request = mainAffirmationRequest(problemCategory, toneCategory, slot + 1);
+        String requestId = UuidUtil.generateRequestId();
+        StringBuilder buffer = new StringBuilder();
+        log.info("메인 확언 문구 {}번째 스트리밍 API 호출. userId: {}, requestId: {}", slot + 1, userId, requestId);
+
+        return clovaReactiveClient.streamContent(request.body(), requestId)
+                // 토큰 사이 간격이 마감 시간을 넘으면 해당 슬롯을 실패 처리
+                .timeout(Duration.ofMillis(mainAffirmationDeadlineMs))
+                .doOnNext(buffer::append)
+                .map(token -> streamEvent(STREAM_EVENT_TOKEN, slot + 1, token))
+                .concatWith(Mono.fromCallable(() -> {
+                    String affirmation = cleanAffirmation(buffer.toString(), requestId);
+                    affirmations[slot] = affirmation;
+                    return streamEvent(STREAM_EVENT_AFFIRMATION, slot + 1, affirmation);
+                }))
+                .onErrorResume(e -> {
+                    String message = e instanceof TimeoutException
+                            ? "AI 서버 응답 시간이 초과되었습니다. 잠시 후 다시 시도해주세요."
+                            : e.getMessage();
+                    log.warn("메인 확언 {}번째 스트리밍 실패. userId: {}, requestId: {}, error: {}", slot + 1, userId, requestId, message);
+                    return Mono.just(streamEvent(STREAM_EVENT_ERROR, slot + 1, message));
+                });
+    }
 
-            String requestId = UuidUtil.generateRequestId();
-            log.info("메인 확언 문구 {}번째 API 호출. userId: {}, requestId: {}", i + 1, userId, requestId);
+    private ServerSentEvent<MainAffirmationStreamEventDto> streamEvent(String event, int slot, String text) {
+        return ServerSentEvent.builder(MainAffirmationStreamEventDto.builder().slot(slot).text(text).build())
+                .event(event)
+                .build();
+    }
 
-            // Clova API 호출
-            String clovaResponse = callClovaApiSafely(requestBody, requestId);
+    /**
+     * 오늘 현재 문제·톤 선택으로 받은 확언 세트를 조회합니다. 조회 실패는 새로 생성하는 것으로 대체합니다.
+     */
+    private String[] findTodaySet(Long userId, MainAffirmationSlots slots) {
+        if (!dailyMemoEnabled) {
+            return null;
+        }
+        try {
+            String[] todaySet = affirmationCorpusService.findTodaySet(userId, slots.set().selectionKey(), MAIN_AFFIRMATION_COUNT);
+            if (todaySet != null) {
+                log.info("오늘 받은 확언 세트 재사용. userId: {}", userId);
+            }
+            return todaySet;
+        } catch (Exception e) {
+            log.warn("오늘 받은 확언 조회 실패, 새로 생성. userId: {}, error: {}", userId, e.getMessage());
+            return null;
+        }
+    }
 
-            // 응답에서 확언 문구 추출
-            String affirmation = extractAffirmationFromResponse(clovaResponse, requestId);
-            affirmations.add(affirmation);
+    /**
+     * 코퍼스 조회 실패는 응답 실패로 이어지지 않도록, 빈 결과로 대체하고 실시간 생성으로 넘어갑니다.
+     */
+    private String[] drawFromCorpus(Long userId, MainAffirmationSlots slots) {
+        if (!corpusEnabled) {
+            return new String[slots.problems().size()];
+        }
+        try {
+            return affirmationCorpusService.drawForUser(userId, slots.set(), slots.problems(), slots.tone());
+        } catch (Exception e) {
+            log.warn("코퍼스 조회 실패, 실시간 생성으로 대체. userId: {}, error: {}", userId, e.getMessage());
+            return new String[slots.problems().size()];
+        }
+    }
 
-            log.info("메인 확언 문구 {}번째 생성 완료. userId: {}, requestId: {}", i + 1, userId, requestId);
+    /**
+     * 실시간으로 생성한 문구를 코퍼스에 저장합니다. 저장 실패는 로그만 남깁니다.
+     * 저장된 기록(UserHistory)은 오늘 받은 세트 재사용에도 쓰이므로, 둘 중 하나라도 켜져 있으면 저장합니다.
+     * slots는 generated 각 항목의 세트 안 슬롯 순번입니다.
+     */
+    private void saveToCorpus(Long userId, AffirmationCorpusService.ServedSet set, List<Integer> slots,
+                              List<Category> slotProblems, Category toneCategory, List<String> generated) {
+        if ((!corpusEnabled && !dailyMemoEnabled) || generated.stream().allMatch(Objects::isNull)) {
+            return;
         }
+        try {
+            affirmationCorpusService.saveServed(userId, set, slots, slotProblems, toneCategory, generated);
+        } catch (Exception e) {
+            log.warn("생성된 확언 코퍼스 저장 실패. userId: {}, error: {}", userId, e.getMessage());
+        }
+    }
 
+    private MainAffirmationResponseDto buildMainAffirmationResponse(String[] affirmations) {
         return MainAffirmationResponseDto.builder()
-                .affirmation1(affirmations.get(0))
-                .affirmation2(affirmations.get(1))
-                .affirmation3(affirmations.get(2))
+                .affirmation1(affirmations[0])
+                .affirmation2(affirmations[1])
+                .affirmation3(affirmations[2])
                 .build();
     }
 
+    /**
+     * 코퍼스 보충용 확언 문구를 한 번의 Clova 호출로 생성합니다 (리필러 전용).
+     * 검증을 통과한 문구만 반환하며, Clova 응답을 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 실행합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<String> generateCorpusAffirmations(Category problemCategory, Category toneCategory, int count) {
+        ClovaRequest request = batchAffirmationRequest(Collections.nCopies(count, problemCategory), toneCategory);
+        String requestId = UuidUtil.generateRequestId();
+
+        String clovaResponse = callClovaApiShared(request, requestId);
+        String content = clovaTextPostProcessor.removeDuplicatedHalf(collectContentFromSseResponse(clovaResponse, requestId).trim());
+        return Arrays.stream(NumberedAffirmationParser.parse(content, count))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 한 번의 Clova 호출로 슬롯 수만큼의 확언 문구를 생성합니다.
+     * 호출 자체가 실패하면 모든 슬롯을 null로 돌려 개별 호출로 대체되게 합니다.
+     */
+    private CompletableFuture<String[]> generateBatchAffirmations(List<Category> slotProblems, Category toneCategory,
+                                                                  Long userId, long deadlineNanos) {
+        ClovaRequest request = batchAffirmationRequest(slotProblems, toneCategory);
+        String requestId = UuidUtil.generateRequestId();
+        log.info("메인 확언 문구 {}개 일괄 API 호출. userId: {}, requestId: {}", slotProblems.size(), userId, requestId);
+
+        return callClovaApiAsync(request, requestId, deadlineNanos)
+                .thenApply(clovaResponse -> {
+                    String content = clovaTextPostProcessor.removeDuplicatedHalf(collectContentFromSseResponse(clovaResponse, requestId).trim());
+                    String[] items = NumberedAffirmationParser.parse(content, slotProblems.size());
+                    long parsedCount = Arrays.stream(items).filter(Objects::nonNull).count();
+                    if (parsedCount < items.length) {
+                        log.warn("일괄 생성 결과 중 {}개 슬롯 검증 실패, 개별 호출로 보충. userId: {}, requestId: {}, content: {}",
+                                items.length - parsedCount, userId, requestId, content);
+                    } else {
+                        log.info("메인 확언 문구 일괄 생성 완료. userId: {}, requestId: {}", userId, requestId);
+                    }
+                    return items;
+                })
+                .exceptionally(failure -> {
+                    log.warn("일괄 생성 실패, 개별 호출로 대체. userId: {}, requestId: {}, error: {}",
+                            userId, requestId, unwrapFailure(failure).getMessage());
+                    return new String[slotProblems.size()];
+                });
+    }
+
+    /**
+     * 확언 1개를 Clova API로 비동기 생성합니다.
+     * 카테고리 이름은 호출 스레드에서 미리 읽어 두어 작업 스레드에서 지연 로딩이 일어나지 않게 합니다.
+     */
+    private CompletableFuture<String> submitAffirmationGeneration(Category selectedProblem, Category toneCategory, int orderNumber,
+                                                                  Long userId, long deadlineNanos) {
+        ClovaRequest request = mainAffirmationRequest(selectedProblem, toneCategory, orderNumber);
+        log.info("확언 {}번째 생성 - 선택된 문제: {} (userId: {})", orderNumber, selectedProblem.getName(), userId);
+
+        String requestId = UuidUtil.generateRequestId();
+        log.info("메인 확언 문구 {}번째 API 호출. userId: {}, requestId: {}", orderNumber, userId, requestId);
+
+        return callClovaApiAsync(request, requestId, deadlineNanos)
+                .thenApply(clovaResponse -> {
+                    String affirmation = extractAffirmationFromResponse(clovaResponse, requestId);
+                    log.info("메인 확언 문구 {}번째 생성 완료. userId: {}, requestId: {}", orderNumber, userId, requestId);
+                    return affirmation;
+                });
+    }
+
+    /**
+     * 설정된 클라이언트(clova.client.type)로 Clova API를 비동기 호출합니다. 마감 시각이 지나면 시간 초과로 실패합니다.
+     * - reactive: WebClient로 호출하여 응답을 기다리는 동안 스레드를 점유하지 않음 (시간 초과 시 연결도 취소)
+     * - feign: 기존 Feign 호출을 Clova 전용 풀에서 실행 (A/B 비교용)
+     * 같은 키로 진행 중인 호출이 있으면 합류하며, 합류한 경우에도 호출자 자신의 마감 시각을 적용합니다.
+     */
+    private CompletableFuture<String> callClovaApiAsync(ClovaRequest request, String requestId, long deadlineNanos) {
+        long remainingNanos = Math.max(0, deadlineNanos - System.nanoTime());
+        return clovaRequestCoalescer.execute(request.key(), () -> issueClovaApiAsync(request.body(), requestId, deadlineNanos))
+                .orTimeout(remainingNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private CompletableFuture<String> issueClovaApiAsync(byte[] requestBody, String requestId, long deadlineNanos) {
+        Duration remaining = Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+
+        if (CLIENT_TYPE_REACTIVE.equalsIgnoreCase(clovaClientType)) {
+            return clovaReactiveClient.callApi(requestBody, requestId)
+                    .timeout(remaining)
+                    .map(clovaResponse -> validateClovaResponse(clovaResponse, requestId))
+                    .toFuture();
+        }
+
+        try {
+            return CompletableFuture.supplyAsync(() -> callClovaApiSafely(requestBody, requestId), clovaExecutor)
+                    .orTimeout(remaining.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            log.error("Clova 작업 큐 포화로 요청 거절. requestId: {}", requestId);
+            return CompletableFuture.failedFuture(new RuntimeException("AI 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+        }
+    }
+
+    /**
+     * 병렬 생성 결과를 모읍니다. 각 호출에 마감 시각이 걸려 있으므로 늦어도 마감 시각에는 완료됩니다.
+     * 일부만 실패하면 실패한 슬롯은 null로 두고 나머지를 반환하며, 모두 실패하면 첫 번째 오류로 실패합니다.
+     */
+    private CompletableFuture<List<String>> joinAffirmations(List<CompletableFuture<String>> futures, Long userId) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .handle((ignored, failure) -> collectAffirmations(futures, userId));
+    }
+
+    private List<String> collectAffirmations(List<CompletableFuture<String>> futures, Long userId) {
+        List<String> affirmations = new ArrayList<>(futures.size());
+        RuntimeException firstFailure = null;
+        for (int i = 0; i < futures.size(); i++) {
+            CompletableFuture<String> future = futures.get(i);
+            if (!future.isCompletedExceptionally()) {
+                affirmations.add(future.join());
+                continue;
+            }
+
+            affirmations.add(null);
+            RuntimeException cause = unwrapFailure(future.exceptionNow());
+            log.warn("메인 확언 {}번째 생성 실패. userId: {}, error: {}", i + 1, userId, cause.getMessage());
+            if (firstFailure == null) {
+                firstFailure = cause;
+            }
+        }
+
+        if (affirmations.stream().allMatch(Objects::isNull)) {
+            log.error("메인 확언 생성 전부 실패. userId: {}", userId);
+            throw firstFailure;
+        }
+
+        if (firstFailure != null) {
+            log.warn("메인 확언 일부만 생성됨. userId: {}, 생성 수: {}/{}", userId,
+                    affirmations.stream().filter(Objects::nonNull).count(), futures.size());
+        }
+        return affirmations;
+    }
+
+    /**
+     * 비동기 실패 원인을 사용자에게 보여줄 RuntimeException으로 변환합니다.
+     */
+    private RuntimeException unwrapFailure(Throwable failure) {
+        Throwable cause = failure;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof TimeoutException) {
+            return new RuntimeException("AI 서버 응답 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return cause instanceof RuntimeException runtimeException
+                ? runtimeException
+                : new RuntimeException("AI 서버와의 통신 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.", cause);
+    }
+
     /**
      * 메인 확언을 위한 프롬프트를 생성합니다.
      */
@@ -578,152 +1097,83 @@ public class AffirmationService {
     }
 
     /**
-     * Clova API 응답에서 확언 문구를 추출합니다.
+     * 한 번의 호출로 여러 확언을 받기 위한 프롬프트를 생성합니다.
+     * 문제·톤 설명은 한 번만 싣고, 슬롯별 문제만 번호로 나열합니다.
      */
-    private String extractAffirmationFromResponse(String clovaResponse, String requestId) {
-        StringBuilder contentBuilder = new StringBuilder();
-
-        try {
-            String[] lines = clovaResponse.split("\\n");
-
-            for (String line : lines) {
-                if (line.startsWith(SSE_DATA_PREFIX)) {
-                    String data = line.substring(SSE_DATA_PREFIX.length()).trim();
-                    if (!data.isEmpty() && !data.equals(SSE_DONE_SIGNAL)) {
-                        String content = extractContentFromSseData(data);
-                        if (content != null) {
-                            contentBuilder.append(content);
-                        }
-                    }
-                }
-            }
-        } catch (Exception e) {
-            log.error("SSE 응답 처리 중 오류 발생. requestId: {}, error: {}", requestId, e.getMessage());
-            throw new RuntimeException("AI 응답 처리 중 오류가 발생했습니다. 다시 시도해주세요.");
+    private String createBatchAffirmationPrompt(List<Category> slotProblems, Category toneCategory) {
+        StringBuilder slots = new StringBuilder();
+        for (int i = 0; i < slotProblems.size(); i++) {
+            slots.append(i + 1).append(". ").append(slotProblems.get(i).getName()).append('\n');
         }
 
-        String affirmation = contentBuilder.toString().trim()
-                .replaceAll("\\*\\*|#", "") // 마크다운 제거
-                .replaceAll("\"", "") // 따옴표 제거  
-                .trim();
-
-        // 중복된 내용 제거 (같은 문장이 반복되는 경우)
-        affirmation = removeDuplicateContent(affirmation);
+        final String BATCH_AFFIRMATION_PROMPT = """
+                사용자 정보:
+                - 선택한 톤: %s
+                - 번호별 문제:
+                %s
+                위 정보를 바탕으로 번호마다 하나씩, 총 %d개의 확언 문구를 생성해주세요.
+                
+                요구사항:
+                1. 각 번호의 문제에 집중한 구체적인 확언 문구
+                2. 선택된 톤(%s)의 특성을 반영
+                3. 1인칭 관점으로 작성 ("나는", "내가" 등)
+                4. 긍정적이고 힘이 되는 메시지
+                5. 한국어로 작성
+                6. 각 문구는 30자 이상 80자 이하의 적절한 길이
+                7. 서로 겹치지 않는 다양한 확언 문구
+                
+                출력 형식 — 정확히 아래 %d줄만 출력하고 다른 설명은 포함하지 마세요.
+                %s""";
 
-        if (affirmation.isEmpty()) {
-            log.error("AI 응답 내용이 비어있음. requestId: {}, response: {}", requestId, clovaResponse);
-            throw new RuntimeException("AI가 응답을 생성하지 못했습니다. 다시 시도해주세요.");
+        StringBuilder format = new StringBuilder();
+        for (int i = 1; i <= slotProblems.size(); i++) {
+            format.append(i).append(". <확언 문구>\n");
         }
 
-        return affirmation;
+        String toneName = toneCategory.getName();
+        return String.format(BATCH_AFFIRMATION_PROMPT, toneName, slots, slotProblems.size(), toneName, slotProblems.size(), format);
     }
 
     /**
-     * 중복된 내용을 제거합니다 (메인 확언용).
+     * Clova API 응답에서 확언 문구를 추출합니다.
      */
-    private String removeDuplicateContent(String content) {
-        if (content == null || content.isEmpty()) {
-            return content;
-        }
+    private String extractAffirmationFromResponse(String clovaResponse, String requestId) {
+        return cleanAffirmation(collectContentFromSseResponse(clovaResponse, requestId), requestId);
+    }
 
-        log.debug("중복 제거 전 content: {}", content);
-        
-        // 가장 간단한 방법: 전체 문자열을 절반으로 나누어 비교
-        int length = content.length();
-        if (length >= 2) {
-            int halfLength = length / 2;
-            String firstHalf = content.substring(0, halfLength);
-            String secondHalf = content.substring(halfLength);
-            
-            // 정확히 같은 경우
-            if (firstHalf.equals(secondHalf)) {
-                log.warn("정확한 중복 내용 감지 및 제거: {}", secondHalf);
-                return firstHalf;
-            }
-            
-            // 거의 같은 경우 (길이 차이가 1-2자 정도)
-            if (Math.abs(firstHalf.length() - secondHalf.length()) <= 2) {
-                int minLength = Math.min(firstHalf.length(), secondHalf.length());
-                if (minLength > 0 && firstHalf.substring(0, minLength).equals(secondHalf.substring(0, minLength))) {
-                    // 80% 이상 겹치면 중복으로 간주
-                    double similarity = (double) minLength / Math.max(firstHalf.length(), secondHalf.length());
-                    if (similarity >= 0.8) {
-                        log.warn("유사한 중복 내용 감지 및 제거. 유사도: {}", similarity);
-                        return firstHalf.length() >= secondHalf.length() ? firstHalf : secondHalf;
-                    }
-                }
-            }
+    /**
+     * 모델이 생성한 확언 원문에서 마크다운·따옴표·반복을 제거합니다.
+     */
+    private String cleanAffirmation(String content, String requestId) {
+        String affirmation = clovaTextPostProcessor.cleanAffirmation(content);
+
+        if (affirmation.isEmpty()) {
+            log.error("AI 응답 내용이 비어있음. requestId: {}, content: {}", requestId, content);
+            throw new RuntimeException("AI가 응답을 생성하지 못했습니다. 다시 시도해주세요.");
         }
 
-        return content;
+        return affirmation;
     }
-    
-    
+
     /**
      * Save user's selected tone (delegate to helper)
      */
     @Transactional
     public void saveToneSelection(Long userId, String toneName) {
         userCategoryBridgeHelper.saveToneByName(userId, toneName);
+        // 고른 톤의 미리 생성된 세트만 남기고 나머지는 버림
+        speculativeAffirmationStore.retainTone(userId, toneName);
     }
 
     /**
-     * Save generated tone examples to CategoryRepository
-     */
-    private void saveTonesToCategory(String[] tones, Long problemId) {
-        String[] toneNames = {"Joy", "Wednesday", "Zelda"};
-        
-        // Clean up any existing tone examples for this problem to avoid duplicates
-        cleanupExistingToneExamples(problemId);
-        
-        for (int i = 0; i < tones.length && i < toneNames.length; i++) {
-            // Use nanoTime + random to ensure uniqueness even in rapid succession
-            String uniqueId = System.nanoTime() + "_" + (int)(Math.random() * 10000);
-            String categoryName = toneNames[i] + "_Example_" + problemId + "_" + uniqueId;
-            
-            // Check if category name already exists to avoid constraint violation
-            if (categoryRepository.existsByTypeAndName(CategoryType.TONE, categoryName)) {
-                log.warn("Category name already exists, skipping: {}", categoryName);
-                continue;
-            }
-            
-            Category toneExampleCategory = Category.builder()
-                    .type(CategoryType.TONE)
-                    .name(categoryName)
-                    .build();
-            
-            try {
-                categoryRepository.save(toneExampleCategory);
-                log.info("Saved tone example to category: {} -> {}", categoryName, tones[i]);
-            } catch (Exception e) {
-                log.error("Failed to save tone example category: {}", categoryName, e);
-                // Continue with next tone instead of failing completely
-            }
-        }
-    }
-    
-    /**
-     * Clean up existing tone examples for a specific problem to avoid duplicates
+     * 생성된 톤 예시를 문제별로 저장합니다 (문제 × 톤 당 한 행, 한 번의 upsert).
      */
-    private void cleanupExistingToneExamples(Long problemId) {
-        try {
-            String[] toneNames = {"Joy", "Wednesday", "Zelda"};
-            for (String toneName : toneNames) {
-                String pattern = toneName + "_Example_" + problemId + "_";
-                // Find and delete categories that match the pattern
-                categoryRepository.findByTypeAndNameStartingWith(CategoryType.TONE, pattern)
-                    .forEach(category -> {
-                        try {
-                            categoryRepository.delete(category);
-                            log.info("Cleaned up existing tone example: {}", category.getName());
-                        } catch (Exception e) {
-                            log.warn("Failed to cleanup tone example: {}", category.getName(), e);
-                        }
-                    });
-            }
-        } catch (Exception e) {
-            log.warn("Failed to cleanup existing tone examples for problemId: {}", problemId, e);
-        }
+    private void saveToneExamples(String[] tones, Long problemId) {
+        toneExampleRepository.upsertAll(problemId,
+                TONE_NAMES.get(0), tones[0],
+                TONE_NAMES.get(1), tones[1],
+                TONE_NAMES.get(2), tones[2]);
+        log.info("톤 예시 저장. problemId: {}", problemId);
     }
 
     /**
@@ -733,13 +1183,16 @@ public class AffirmationService {
         String[] toneNames = {"Joy", "Wednesday", "Zelda"};
 
         for (String toneName : toneNames) {
-            if (!categoryRepository.existsByTypeAndName(CategoryType.TONE, toneName)) {
+            // 카탈로그에 있으면 DB 조회(잠금) 없이 통과, 없을 때만 잠금 조회 후 생성
+            if (categoryCatalog.findByTypeAndName(CategoryType.TONE, toneName).isEmpty()
+                    && !categoryRepository.existsByTypeAndName(CategoryType.TONE, toneName)) {
                 Category toneCategory = Category.builder()
                         .type(CategoryType.TONE)
                         .name(toneName)
                         .build();
                 categoryRepository.save(toneCategory);
                 log.info("Created tone category: {}", toneName);
+                eventPublisher.publishEvent(new CategoryChangedEvent("tone category created: " + toneName));
             }
         }
     }
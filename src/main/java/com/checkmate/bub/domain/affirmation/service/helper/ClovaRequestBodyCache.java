@@ -0,0 +1,70 @@
+package com.checkmate.bub.domain.affirmation.service.helper;
+
+import com.checkmate.bub.domain.category.event.CategoryChangedEvent;
+import com.checkmate.bub.global.cache.BoundedCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 직렬화가 끝난 Clova 요청 바디(JSON 바이트)를 (프롬프트 종류, 문제, 톤, ...) 키로 캐시합니다.
+ * 프롬프트 템플릿은 최대 15KB에 달하지만 입력은 카테고리 이름뿐이므로, 한 번 렌더링·직렬화한 결과를 그대로 재사용합니다.
+ * 요청 ID 등 호출마다 달라지는 값은 헤더로 전달되므로 바디에는 포함되지 않습니다.
+ *
+ * 최대 항목 수(max-entries)를 넘으면 BoundedCache 정책으로 밀어내고, 일정 시간(expire-after-access-ms) 쓰이지 않은 바디는 만료됩니다.
+ * 카테고리가 생성·변경되면(CategoryChangedEvent) 전체를 비웁니다.
+ */
+@Component
+@Slf4j
+public class ClovaRequestBodyCache {
+
+    private final ObjectMapper objectMapper;
+
+    private final Cache<String, byte[]> bodies;
+
+    // max-entries: 문제 9개 × 톤 3개 조합 기준으로 넉넉한 상한
+    public ClovaRequestBodyCache(ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${clova.request-body-cache.max-entries:2048}") int maxEntries,
+                                 @Value("${clova.request-body-cache.expire-after-access-ms:3600000}") long expireAfterAccessMs) {
+        this.objectMapper = objectMapper;
+        this.bodies = BoundedCache.create(meterRegistry, "clova.request_body_cache.size", maxEntries,
+                builder -> builder.expireAfterAccess(Duration.ofMillis(expireAfterAccessMs)));
+    }
+
+    /**
+     * 키에 해당하는 요청 바디를 반환합니다. 없으면 bodyFactory로 만든 바디를 직렬화해 저장합니다.
+     * 반환된 배열은 여러 요청이 공유하므로 수정하면 안 됩니다.
+     */
+    public byte[] get(String key, Supplier<Map<String, Object>> bodyFactory) {
+        return bodies.get(key, k -> serialize(bodyFactory.get()));
+    }
+
+    public long size() {
+        return bodies.estimatedSize();
+    }
+
+    @EventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        log.info("카테고리 변경으로 Clova 요청 바디 캐시 초기화. reason: {}, entries: {}", event.reason(), bodies.estimatedSize());
+        bodies.invalidateAll();
+    }
+
+    private byte[] serialize(Map<String, Object> body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            log.error("Clova 요청 바디 직렬화 실패. error: {}", e.getMessage());
+            throw new RuntimeException("AI 요청 생성 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.checkmate.bub.domain.affirmation.service.helper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 같은 프롬프트 키로 동시에 들어온 Clova 호출을 묶어, 진행 중인 호출의 결과를 함께 받게 합니다 (single-flight).
+ * 키마다 최대 maxFanOut개의 호출까지는 새로 보내 문구 다양성을 유지하고, 그 이상은 진행 중인 호출 중 하나에 합류시킵니다.
+ *
+ * 합류한 호출자는 결과의 복사본을 받으므로, 각자 시간 초과·취소를 걸어도 다른 호출자에게 영향을 주지 않습니다.
+ */
+@Component
+@Slf4j
+public class ClovaRequestCoalescer {
+
+    private final Map<String, List<CompletableFuture<String>>> inFlight = new ConcurrentHashMap<>();
+
+    private final int maxFanOut;
+    private final boolean enabled;
+
+    private final Counter issued;
+    private final Counter collapsed;
+
+    public ClovaRequestCoalescer(MeterRegistry meterRegistry,
+                                 @Value("${clova.coalescing.max-fan-out:3}") int maxFanOut,
+                                 @Value("${clova.coalescing.enabled:true}") boolean enabled) {
+        this.maxFanOut = Math.max(1, maxFanOut);
+        this.enabled = enabled;
+        this.issued = Counter.builder("clova.coalescer.calls").tag("outcome", "issued").register(meterRegistry);
+        this.collapsed = Counter.builder("clova.coalescer.calls").tag("outcome", "collapsed").register(meterRegistry);
+        meterRegistry.gauge("clova.coalescer.in_flight_keys", inFlight, Map::size);
+    }
+
+    /**
+     * key에 대해 진행 중인 호출이 maxFanOut개 미만이면 call로 새 호출을 보내고, 아니면 진행 중인 호출의 결과를 공유합니다.
+     * call은 맵 잠금 밖에서 실행되므로 블로킹 호출이어도 됩니다.
+     */
+    public CompletableFuture<String> execute(String key, Supplier<CompletableFuture<String>> call) {
+        if (!enabled) {
+            issued.increment();
+            return call.get();
+        }
+
+        CompletableFuture<String> flight = new CompletableFuture<>();
+        List<CompletableFuture<String>> shared = new ArrayList<>(1);
+        inFlight.compute(key, (k, flights) -> {
+            if (flights != null && flights.size() >= maxFanOut) {
+                shared.add(flights.get(ThreadLocalRandom.current().nextInt(flights.size())));
+                return flights;
+            }
+            List<CompletableFuture<String>> next = flights == null ? new ArrayList<>(maxFanOut) : new ArrayList<>(flights);
+            next.add(flight);
+            return List.copyOf(next);
+        });
+
+        if (!shared.isEmpty()) {
+            collapsed.increment();
+            log.debug("진행 중인 Clova 호출에 합류. key: {}", key);
+            return shared.getFirst().copy();
+        }
+
+        issued.increment();
+        try {
+            call.get().whenComplete((response, failure) -> {
+                remove(key, flight);
+                if (failure != null) {
+                    flight.completeExceptionally(failure);
+                } else {
+                    flight.complete(response);
+                }
+            });
+        } catch (RuntimeException e) {
+            remove(key, flight);
+            flight.completeExceptionally(e);
+        }
+        return flight.copy();
+    }
+
+    private void remove(String key, CompletableFuture<String> flight) {
+        inFlight.computeIfPresent(key, (k, flights) -> {
+            List<CompletableFuture<String>> next = new ArrayList<>(flights);
+            next.remove(flight);
+            return next.isEmpty() ? null : List.copyOf(next);
+        });
+    }
+}
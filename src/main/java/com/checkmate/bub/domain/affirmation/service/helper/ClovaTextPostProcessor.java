@@ -0,0 +1,210 @@
+package com.checkmate.bub.domain.affirmation.service.helper;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Clova가 생성한 원문을 화면에 보여줄 문구로 정리합니다.
+ * 정규식을 매번 적용하는 대신 문자를 한 번만 훑는 상태 기계로 마크다운(**, #)·따옴표를 지우고,
+ * "Joy:" / "Wednesday:" / "Zelda:" 구간을 나누며, 같은 문장이 두 번 이어 붙은 응답을 걸러냅니다.
+ */
+@Component
+public class ClovaTextPostProcessor {
+
+    // 톤 예시 응답의 구간 라벨 (반환 배열의 순서와 같음)
+    private static final String[] TONE_LABELS = {"Joy:", "Wednesday:", "Zelda:"};
+    private static final int TONE_COUNT = TONE_LABELS.length;
+
+    // 앞 절반과 뒤 절반이 이 비율 이상 겹치면 중복 생성으로 간주
+    private static final double DUPLICATE_SIMILARITY = 0.8;
+
+    // 구간 파싱 상태
+    private static final int NO_SECTION = -1;   // 첫 라벨 이전
+    private static final int SKIP_SECTION = -2; // 이미 받은 라벨의 반복이거나 다른 톤 이름이 섞인 뒤
+
+    /**
+     * 메인 확언 원문에서 마크다운·큰따옴표·앞뒤 공백을 지우고, 같은 문장이 반복된 경우 한 번만 남깁니다.
+     *
+     * @return 정리된 문구 (내용이 없으면 빈 문자열)
+     */
+    public String cleanAffirmation(String content) {
+        if (content == null) {
+            return "";
+        }
+        StringBuilder out = new StringBuilder(content.length());
+        int length = content.length();
+        for (int i = 0; i < length; i++) {
+            char c = content.charAt(i);
+            if (c == '*' && i + 1 < length && content.charAt(i + 1) == '*') {
+                i++;
+            } else if (c != '#' && c != '"' && (c > ' ' || !out.isEmpty())) {
+                out.append(c);
+            }
+        }
+        trimTrailing(out);
+        return removeDuplicatedHalf(out.toString());
+    }
+
+    /**
+     * 응답이 같은 내용을 두 번 이어 붙인 형태면 한 번 분량만 반환합니다.
+     * 정확히 같은 두 절반은 앞 절반을, 한 글자 차이로 거의 같은 두 절반(80% 이상 겹침)은 더 긴 뒤 절반을 남깁니다.
+     */
+    public String removeDuplicatedHalf(String content) {
+        if (content == null || content.length() < 2) {
+            return content;
+        }
+        int length = content.length();
+        int half = length / 2;
+        if (!content.regionMatches(0, content, half, half)) {
+            return content;
+        }
+        if (length % 2 == 0) {
+            return content.substring(0, half);
+        }
+        // 홀수 길이면 뒤 절반이 한 글자 더 김
+        return (double) half / (half + 1) >= DUPLICATE_SIMILARITY ? content.substring(half) : content;
+    }
+
+    /**
+     * 톤 예시 응답을 Joy, Wednesday, Zelda 순서의 문구 배열로 나눕니다.
+     * 각 라벨은 처음 나온 구간만 사용하고, 구간 안의 줄바꿈·큰따옴표와 앞뒤 작은따옴표를 지웁니다.
+     * 구간 중간에 다른 톤 이름이 섞이면 거기서 끊고, 같은 라벨이 다시 나오면 다음 라벨까지 무시합니다.
+     * 라벨이 하나도 없으면 비어 있지 않은 줄을 앞에서부터 최대 3개 사용합니다.
+     *
+     * @return 파싱된 문구 (톤 수가 3개가 아닐 수 있음, 내용이 없으면 빈 배열)
+     */
+    public String[] parseTones(String content) {
+        if (content == null) {
+            return new String[0];
+        }
+
+        StringBuilder[] sections = new StringBuilder[TONE_COUNT];
+        List<String> lines = new ArrayList<>(TONE_COUNT);
+        StringBuilder line = new StringBuilder();
+        int current = NO_SECTION;
+        boolean lineStart = true;
+
+        int length = content.length();
+        for (int i = 0; i < length; i++) {
+            char c = content.charAt(i);
+
+            if (c == '*' && i + 1 < length && content.charAt(i + 1) == '*') {
+                i++;
+                continue;
+            }
+            if (c == '#') {
+                continue;
+            }
+            if (c == '\n' || c == '\r') {
+                addLine(lines, line);
+                if (current >= 0) {
+                    // 줄 단위로 앞뒤 공백을 정리한 뒤 줄바꿈 없이 이어 붙임
+                    trimTrailing(sections[current]);
+                }
+                lineStart = true;
+                continue;
+            }
+
+            if (c > ' ') {
+                lineStart = false;
+            }
+            if (lines.size() < TONE_COUNT && (c > ' ' || !line.isEmpty())) {
+                line.append(c);
+            }
+
+            int label = labelAt(content, i);
+            if (label >= 0) {
+                current = sections[label] == null ? label : SKIP_SECTION;
+                if (current >= 0) {
+                    sections[current] = new StringBuilder();
+                }
+                int skip = TONE_LABELS[label].length() - 1;
+                if (lines.size() < TONE_COUNT) {
+                    line.append(content, i + 1, i + 1 + skip);
+                }
+                i += skip;
+                continue;
+            }
+            if (current >= 0 && otherToneNameAt(content, i, current)) {
+                current = SKIP_SECTION;
+            }
+
+            if (current >= 0 && c != '"') {
+                StringBuilder section = sections[current];
+                if (c > ' ' || !(section.isEmpty() || lineStart)) {
+                    section.append(c);
+                }
+            }
+        }
+        addLine(lines, line);
+
+        List<String> tones = new ArrayList<>(TONE_COUNT);
+        for (StringBuilder section : sections) {
+            if (section != null) {
+                String tone = stripQuotes(section);
+                if (!tone.isEmpty()) {
+                    tones.add(tone);
+                }
+            }
+        }
+        if (!tones.isEmpty()) {
+            return tones.toArray(new String[0]);
+        }
+        return lines.stream().map(l -> stripQuotes(new StringBuilder(l))).toArray(String[]::new);
+    }
+
+    private static int labelAt(String content, int index) {
+        for (int t = 0; t < TONE_COUNT; t++) {
+            if (content.startsWith(TONE_LABELS[t], index)) {
+                return t;
+            }
+        }
+        return NO_SECTION;
+    }
+
+    private static boolean otherToneNameAt(String content, int index, int current) {
+        for (int t = 0; t < TONE_COUNT; t++) {
+            // 라벨에서 ':'을 뺀 톤 이름
+            if (t != current && content.regionMatches(index, TONE_LABELS[t], 0, TONE_LABELS[t].length() - 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void addLine(List<String> lines, StringBuilder line) {
+        trimTrailing(line);
+        if (!line.isEmpty() && lines.size() < TONE_COUNT) {
+            lines.add(line.toString());
+        }
+        line.setLength(0);
+    }
+
+    // 앞뒤 공백과 바깥쪽 따옴표 한 겹을 제거
+    private static String stripQuotes(StringBuilder text) {
+        trimTrailing(text);
+        int start = 0;
+        int end = text.length();
+        if (end > 0 && isQuote(text.charAt(0))) {
+            start++;
+        }
+        if (end > start && isQuote(text.charAt(end - 1))) {
+            end--;
+        }
+        return text.substring(start, end).trim();
+    }
+
+    private static boolean isQuote(char c) {
+        return c == '"' || c == '\'';
+    }
+
+    private static void trimTrailing(StringBuilder text) {
+        int end = text.length();
+        while (end > 0 && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        text.setLength(end);
+    }
+}
@@ -0,0 +1,66 @@
+package com.checkmate.bub.domain.affirmation.service.helper;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 한 번의 Clova 호출로 받은 "1. ... / 2. ... / 3. ..." 형식의 응답을 슬롯별 확언 문구로 분리합니다.
+ * 형식이 어긋나거나 검증을 통과하지 못한 슬롯은 null로 남겨, 호출부에서 해당 슬롯만 개별 재생성하게 합니다.
+ */
+public final class NumberedAffirmationParser {
+
+    // 줄 맨 앞의 번호 표기: "1.", "1)", "1:", "1번:", "[1]" 등 (빈 항목이 다음 줄을 삼키지 않도록 공백은 같은 줄 안에서만 허용)
+    private static final Pattern NUMBERED_ITEM = Pattern.compile(
+            "(?m)^[ \\t]*\\[?(\\d{1,2})[ \\t]*(?:번)?[ \\t]*[.):\\]][ \\t]*(.*)$");
+    private static final Pattern MARKDOWN = Pattern.compile("\\*\\*|#");
+    private static final Pattern SURROUNDING_QUOTES = Pattern.compile("^[\"'“”‘’]+|[\"'“”‘’]+$");
+
+    // 프롬프트 요구사항(30~80자)보다 너그럽게 잡아, 명백히 잘린 응답이나 장황한 응답만 걸러냄
+    private static final int MIN_LENGTH = 10;
+    private static final int MAX_LENGTH = 150;
+
+    private NumberedAffirmationParser() {}  // 인스턴스화 방지
+
+    /**
+     * @param content 마크다운·중복 제거 전의 전체 응답 텍스트
+     * @param expectedCount 기대하는 항목 수
+     * @return 길이가 expectedCount인 배열 (검증 실패 슬롯은 null)
+     */
+    public static String[] parse(String content, int expectedCount) {
+        String[] items = new String[expectedCount];
+        if (content == null || content.isBlank()) {
+            return items;
+        }
+
+        Matcher matcher = NUMBERED_ITEM.matcher(MARKDOWN.matcher(content).replaceAll(""));
+        while (matcher.find()) {
+            int slot = Integer.parseInt(matcher.group(1)) - 1;
+            // 범위 밖 번호이거나 이미 채워진 슬롯(응답 반복)은 무시
+            if (slot < 0 || slot >= expectedCount || items[slot] != null) {
+                continue;
+            }
+            String candidate = clean(matcher.group(2));
+            if (isValid(candidate, items)) {
+                items[slot] = candidate;
+            }
+        }
+        return items;
+    }
+
+    private static String clean(String raw) {
+        return SURROUNDING_QUOTES.matcher(raw.trim()).replaceAll("").trim();
+    }
+
+    private static boolean isValid(String candidate, String[] accepted) {
+        if (candidate.length() < MIN_LENGTH || candidate.length() > MAX_LENGTH) {
+            return false;
+        }
+        // 다른 슬롯과 같은 문장이면 다양성 확보를 위해 실패로 간주
+        for (String other : accepted) {
+            if (candidate.equals(other)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,119 @@
+package com.checkmate.bub.domain.affirmation.service.helper;
+
+import com.checkmate.bub.domain.category.domain.Category;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 온보딩 중 미리 생성해 둔 메인 확언(톤별 1세트)을 사용자별로 잠시 보관하는 저장소
+ * 문제 선택 직후 3개 톤 모두에 대해 생성을 시작하고, 톤이 정해지면 나머지는 버리며,
+ * 첫 홈 화면 요청이 선택된 톤의 세트를 한 번만 꺼내 갑니다. 보관 기간(ttl)이 지난 세트는 주기적으로 정리합니다.
+ */
+@Component
+public class SpeculativeAffirmationStore {
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    private final long ttlNanos;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter discarded;
+
+    /**
+     * 미리 생성한 한 톤의 세트. selectedProblemIds는 생성을 시작할 때 사용자가 고른 문제 전체, problems는 슬롯별 문제 카테고리입니다.
+     */
+    public record Speculation(Set<Long> selectedProblemIds, List<Category> problems,
+                              CompletableFuture<List<String>> affirmations) {}
+
+    private record Entry(Map<String, Speculation> byTone, long createdAtNanos) {}
+
+    public SpeculativeAffirmationStore(MeterRegistry meterRegistry,
+                                       @Value("${affirmation.speculative.ttl-ms:600000}") long ttlMs) {
+        this.ttlNanos = ttlMs * 1_000_000L;
+        this.hits = outcomeCounter(meterRegistry, "hit");
+        this.misses = outcomeCounter(meterRegistry, "miss");
+        this.discarded = outcomeCounter(meterRegistry, "discarded");
+        meterRegistry.gauge("affirmation.speculative.users", entries, Map::size);
+    }
+
+    /**
+     * 사용자의 미리 생성된 세트를 교체합니다 (문제를 다시 고르면 이전 세트는 버림).
+     */
+    public void put(Long userId, Map<String, Speculation> byTone) {
+        Entry previous = entries.put(userId, new Entry(Map.copyOf(byTone), System.nanoTime()));
+        if (previous != null) {
+            discard(previous.byTone().values());
+        }
+    }
+
+    /**
+     * 선택된 톤의 세트만 남기고 나머지는 버립니다.
+     */
+    public void retainTone(Long userId, String toneName) {
+        entries.computeIfPresent(userId, (id, entry) -> {
+            Speculation kept = entry.byTone().get(toneName);
+            discard(entry.byTone().entrySet().stream()
+                    .filter(e -> !e.getKey().equals(toneName))
+                    .map(Map.Entry::getValue)
+                    .toList());
+            return kept == null ? null : new Entry(Map.of(toneName, kept), entry.createdAtNanos());
+        });
+    }
+
+    /**
+     * 톤과 사용자가 고른 문제 전체가 일치하는 세트를 꺼냅니다. 꺼낸 뒤에는 사용자의 항목 전체가 삭제됩니다.
+     */
+    public Speculation take(Long userId, String toneName, Set<Long> selectedProblemIds) {
+        Entry entry = entries.remove(userId);
+        if (entry == null) {
+            return null;
+        }
+
+        Speculation speculation = entry.byTone().get(toneName);
+        boolean usable = speculation != null
+                && !isExpired(entry)
+                && speculation.selectedProblemIds().equals(selectedProblemIds);
+        discard(entry.byTone().values().stream().filter(s -> !usable || s != speculation).toList());
+        (usable ? hits : misses).increment();
+        return usable ? speculation : null;
+    }
+
+    @Scheduled(fixedDelayString = "${affirmation.speculative.eviction-interval-ms:60000}")
+    public void evictExpired() {
+        entries.entrySet().removeIf(e -> {
+            if (!isExpired(e.getValue())) {
+                return false;
+            }
+            discard(e.getValue().byTone().values());
+            return true;
+        });
+    }
+
+    private void discard(Iterable<Speculation> speculations) {
+        for (Speculation speculation : speculations) {
+            // 진행 중인 생성은 결과를 버리도록 취소 (이미 보낸 Clova 호출은 끝까지 진행됨)
+            speculation.affirmations().cancel(false);
+            discarded.increment();
+        }
+    }
+
+    private boolean isExpired(Entry entry) {
+        return System.nanoTime() - entry.createdAtNanos() > ttlNanos;
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("affirmation.speculative.sets")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
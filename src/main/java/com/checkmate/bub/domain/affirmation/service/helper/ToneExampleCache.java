@@ -0,0 +1,135 @@
+package com.checkmate.bub.domain.affirmation.service.helper;
+
+import com.checkmate.bub.domain.category.event.CategoryChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 온보딩 톤 예시(Joy/Wednesday/Zelda 3문장)를 문제 ID별로 여러 벌 보관하는 공유 캐시
+ * 톤 예시는 사용자와 무관하게 문제(1~9)에만 의존하므로, 가입이 몰려도 캐시에서 바로 응답할 수 있습니다.
+ *
+ * 보관 기간(ttl)이 지났거나 벌 수가 부족한 항목도 그대로 제공하고(stale-while-revalidate),
+ * 호출부가 tryStartRefresh로 문제별 1건의 백그라운드 재생성만 시작하도록 합니다. 새 예시가 들어오면 가장 오래된 것을 밀어냅니다.
+ */
+@Component
+@Slf4j
+public class ToneExampleCache {
+
+    private final Map<Long, List<Variant>> variantsByProblem = new ConcurrentHashMap<>();
+    private final Set<Long> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final int variantsPerProblem;
+    private final long ttlNanos;
+
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Counter refreshSuccesses;
+    private final Counter refreshFailures;
+
+    public record Lookup(String[] tones, boolean needsRefresh) {}
+
+    private record Variant(String[] tones, long createdAtNanos) {}
+
+    public ToneExampleCache(MeterRegistry meterRegistry,
+                            @Value("${affirmation.tone-example-cache.variants:3}") int variantsPerProblem,
+                            @Value("${affirmation.tone-example-cache.ttl-ms:21600000}") long ttlMs) {
+        this.variantsPerProblem = variantsPerProblem;
+        this.ttlNanos = ttlMs * 1_000_000L;
+
+        this.hits = lookupCounter(meterRegistry, "hit");
+        this.staleHits = lookupCounter(meterRegistry, "stale");
+        this.misses = lookupCounter(meterRegistry, "miss");
+        this.refreshSuccesses = refreshCounter(meterRegistry, "success");
+        this.refreshFailures = refreshCounter(meterRegistry, "failure");
+        meterRegistry.gauge("affirmation.tone_example_cache.variants", variantsByProblem,
+                map -> map.values().stream().mapToInt(List::size).sum());
+    }
+
+    /**
+     * 문제에 해당하는 예시 중 하나를 무작위로 반환합니다. 캐시에 없으면 null입니다.
+     */
+    public Lookup lookup(Long problemId) {
+        List<Variant> variants = variantsByProblem.get(problemId);
+        if (variants == null || variants.isEmpty()) {
+            misses.increment();
+            return null;
+        }
+
+        Variant picked = variants.get(ThreadLocalRandom.current().nextInt(variants.size()));
+        boolean needsRefresh = variants.size() < variantsPerProblem || isExpired(variants.getFirst());
+        (needsRefresh ? staleHits : hits).increment();
+        return new Lookup(picked.tones().clone(), needsRefresh);
+    }
+
+    /**
+     * 새로 생성된 예시를 추가합니다. 벌 수를 넘으면 가장 오래된 예시를 버립니다.
+     */
+    public void put(Long problemId, String[] tones) {
+        Variant variant = new Variant(tones.clone(), System.nanoTime());
+        variantsByProblem.compute(problemId, (id, current) -> {
+            List<Variant> next = new ArrayList<>(variantsPerProblem);
+            if (current != null) {
+                next.addAll(current);
+            }
+            next.add(variant);
+            while (next.size() > variantsPerProblem) {
+                next.removeFirst();
+            }
+            return List.copyOf(next);
+        });
+    }
+
+    /**
+     * 채워야 할 예시 수 (예열용)
+     */
+    public int missingVariants(Long problemId) {
+        List<Variant> variants = variantsByProblem.get(problemId);
+        return variantsPerProblem - (variants == null ? 0 : variants.size());
+    }
+
+    /**
+     * 문제별로 한 건의 재생성만 진행되도록 합니다. 이미 진행 중이면 false를 반환합니다.
+     */
+    public boolean tryStartRefresh(Long problemId) {
+        return refreshing.add(problemId);
+    }
+
+    public void finishRefresh(Long problemId, boolean success) {
+        refreshing.remove(problemId);
+        (success ? refreshSuccesses : refreshFailures).increment();
+    }
+
+    @EventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        log.info("카테고리 변경으로 톤 예시 캐시 초기화. reason: {}, problems: {}", event.reason(), variantsByProblem.size());
+        variantsByProblem.clear();
+    }
+
+    private boolean isExpired(Variant variant) {
+        return System.nanoTime() - variant.createdAtNanos() > ttlNanos;
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("affirmation.tone_example_cache.lookups")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter refreshCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("affirmation.tone_example_cache.refreshes")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
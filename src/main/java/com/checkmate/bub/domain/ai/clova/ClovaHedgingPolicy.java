@@ -0,0 +1,114 @@
+package com.checkmate.bub.domain.ai.clova;
+
+import com.checkmate.bub.global.config.resilience.RetryBudget;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Clova 채팅 호출의 헤지(hedged request) 정책
+ * 최근 응답들의 첫 바이트 도착 시간(TTFB)을 기록해 백분위수(기본 p95)를 헤지 지연으로 쓰고,
+ * 그 시간 안에 첫 바이트가 오지 않은 느린 요청에만 두 번째 요청을 보냅니다.
+ * 헤지 수는 요청 수의 일정 비율(RetryBudget)로 제한되어 장애 중에도 부하를 크게 늘리지 않습니다.
+ */
+@Component
+public class ClovaHedgingPolicy {
+
+    private static final int SAMPLE_SIZE = 256;
+    private static final int MIN_SAMPLES = 20;
+
+    private final AtomicLongArray ttfbSamples = new AtomicLongArray(SAMPLE_SIZE);
+    private final AtomicLong sampleCount = new AtomicLong();
+
+    private final boolean enabled;
+    private final double percentile;
+    private final long initialDelayNanos;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private final RetryBudget hedgeBudget;
+
+    private final Counter fired;
+    private final Counter won;
+    private final Counter denied;
+
+    public ClovaHedgingPolicy(MeterRegistry meterRegistry,
+                              @Value("${clova.hedging.enabled:true}") boolean enabled,
+                              @Value("${clova.hedging.percentile:0.95}") double percentile,
+                              @Value("${clova.hedging.initial-delay-ms:3000}") long initialDelayMs,
+                              @Value("${clova.hedging.min-delay-ms:500}") long minDelayMs,
+                              @Value("${clova.hedging.max-delay-ms:10000}") long maxDelayMs,
+                              @Value("${clova.hedging.max-ratio:0.05}") double maxRatio,
+                              @Value("${clova.hedging.max-burst:5}") int maxBurst) {
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.initialDelayNanos = TimeUnit.MILLISECONDS.toNanos(initialDelayMs);
+        this.minDelayNanos = TimeUnit.MILLISECONDS.toNanos(minDelayMs);
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMs);
+        this.hedgeBudget = new RetryBudget(maxRatio, maxBurst);
+
+        this.fired = Counter.builder("clova.hedge.requests").tag("outcome", "fired").register(meterRegistry);
+        this.won = Counter.builder("clova.hedge.requests").tag("outcome", "won").register(meterRegistry);
+        this.denied = Counter.builder("clova.hedge.requests").tag("outcome", "denied").register(meterRegistry);
+        Gauge.builder("clova.hedge.delay", this, policy -> policy.hedgeDelay().toMillis())
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 최초 요청 1건을 기록해 헤지 예산을 적립합니다.
+     */
+    public void recordRequest() {
+        hedgeBudget.recordRequest();
+    }
+
+    public void recordFirstByte(long ttfbNanos) {
+        long index = sampleCount.getAndIncrement();
+        ttfbSamples.set((int) (index % SAMPLE_SIZE), ttfbNanos);
+    }
+
+    /**
+     * 헤지를 보내기 전에 기다릴 시간. 표본이 적으면 초기값을 쓰고, 이후에는 최근 TTFB의 백분위수를 [min, max]로 제한해 씁니다.
+     */
+    public Duration hedgeDelay() {
+        int count = (int) Math.min(sampleCount.get(), SAMPLE_SIZE);
+        if (count < MIN_SAMPLES) {
+            return Duration.ofNanos(initialDelayNanos);
+        }
+
+        long[] sorted = new long[count];
+        for (int i = 0; i < count; i++) {
+            sorted[i] = ttfbSamples.get(i);
+        }
+        Arrays.sort(sorted);
+        long delay = sorted[(int) Math.min(count - 1, Math.ceil(percentile * count) - 1)];
+        return Duration.ofNanos(Math.clamp(delay, minDelayNanos, maxDelayNanos));
+    }
+
+    /**
+     * 헤지 1회분의 예산을 꺼냅니다. 예산이 없으면 헤지하지 않습니다.
+     */
+    public boolean tryAcquireHedge() {
+        if (hedgeBudget.tryAcquireRetry()) {
+            fired.increment();
+            return true;
+        }
+        denied.increment();
+        return false;
+    }
+
+    public void recordHedgeWin() {
+        won.increment();
+    }
+}
@@ -0,0 +1,206 @@
+package com.checkmate.bub.domain.ai.clova;
+
+import com.checkmate.bub.global.util.UuidUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Clova HCX-005 논블로킹 클라이언트 (WebClient 기반)
+ * Feign(ClovaClient)과 달리 응답을 기다리는 동안 스레드를 점유하지 않으며, 토큰 단위 스트리밍도 지원합니다.
+ * 구독을 취소하면 Clova와의 연결도 함께 끊깁니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClovaReactiveClient {
+
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE = new ParameterizedTypeReference<>() {};
+
+    // HCX-005 SSE 이벤트 종류: token(부분 토큰) → result(전체 결과) → signal([DONE])
+    private static final String EVENT_TOKEN = "token";
+    private static final String EVENT_ERROR = "error";
+
+    private final WebClient webClient;
+    private final ClovaResilience clovaResilience;
+    private final ClovaHedgingPolicy hedgingPolicy;
+
+    @Value("${clova.api-key}")
+    private String apiKey;
+
+    @Value("${clova.chat-completions-url:https://clovastudio.stream.ntruss.com/v3/chat-completions/HCX-005}")
+    private String chatCompletionsUrl;
+
+    /**
+     * ClovaClient.callApi와 같은 요청(직렬화된 JSON 바디)을 보내고, SSE 응답 본문 전체를 문자열로 받습니다.
+     * 헤지가 켜져 있으면 첫 바이트가 늦은 요청에 한해 같은 요청을 한 번 더 보내고, 먼저 끝난 응답을 사용합니다.
+     */
+    public Mono<String> callApi(byte[] body, String requestId) {
+        Mono<String> response = hedgingPolicy.isEnabled() ? hedged(body, requestId) : exchange(body, requestId, null);
+        return response
+                .onErrorMap(ClovaResilience::isRejected, e -> toRejectedException(e, requestId))
+                .onErrorMap(WebClientResponseException.class, e -> toClovaException(e, requestId))
+                .onErrorMap(WebClientRequestException.class, e -> {
+                    log.error("Clova API 연결 실패. requestId: {}, error: {}", requestId, e.getMessage());
+                    return new RuntimeException("AI 서버와의 통신 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
+                });
+    }
+
+    // 본문을 DataBuffer 단위로 받아 첫 바이트 도착 시점을 기록하고, 끝까지 모아 문자열로 만듭니다
+    private Mono<String> exchange(byte[] body, String requestId, AtomicBoolean firstByteSeen) {
+        return clovaResilience.mono(ClovaResilience.CHAT, Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            AtomicBoolean received = new AtomicBoolean();
+            Flux<DataBuffer> buffers = request(body, requestId).bodyToFlux(DataBuffer.class)
+                    .doOnNext(buffer -> {
+                        if (received.compareAndSet(false, true)) {
+                            hedgingPolicy.recordFirstByte(System.nanoTime() - startNanos);
+                            if (firstByteSeen != null) {
+                                firstByteSeen.set(true);
+                            }
+                        }
+                    });
+            return DataBufferUtils.join(buffers)
+                    .map(buffer -> {
+                        try {
+                            return buffer.toString(StandardCharsets.UTF_8);
+                        } finally {
+                            DataBufferUtils.release(buffer);
+                        }
+                    })
+                    .defaultIfEmpty("");
+        }));
+    }
+
+    /**
+     * 헤지 요청: 원 요청이 헤지 지연(최근 TTFB 백분위수) 안에 첫 바이트를 받지 못하면, 예산이 허락하는 경우 같은 요청을 하나 더 보냅니다.
+     * 먼저 값을 낸 쪽을 사용하고 나머지 구독은 취소해 연결을 끊습니다. 모든 시도가 실패해야 오류로 끝납니다.
+     */
+    private Mono<String> hedged(byte[] body, String requestId) {
+        return Mono.create(sink -> {
+            hedgingPolicy.recordRequest();
+            HedgedCall call = new HedgedCall(sink);
+            AtomicBoolean firstByteSeen = new AtomicBoolean();
+
+            call.attempt(exchange(body, requestId, firstByteSeen), false);
+            call.attempts.add(Mono.delay(hedgingPolicy.hedgeDelay()).subscribe(tick -> {
+                if (call.done.get() || firstByteSeen.get() || !hedgingPolicy.tryAcquireHedge()) {
+                    return;
+                }
+                String hedgeRequestId = UuidUtil.generateRequestId();
+                log.info("Clova 응답 지연으로 헤지 요청 전송. requestId: {}, hedgeRequestId: {}", requestId, hedgeRequestId);
+                call.attempt(exchange(body, hedgeRequestId, null), true);
+            }));
+        });
+    }
+
+    // 원 요청과 헤지 요청 중 먼저 값을 낸 쪽으로 sink를 한 번만 완료합니다. 완료·취소 시 남은 시도는 모두 취소됩니다.
+    private final class HedgedCall {
+
+        private final MonoSink<String> sink;
+        private final Disposable.Composite attempts = Disposables.composite();
+        private final AtomicBoolean done = new AtomicBoolean();
+        private final AtomicInteger running = new AtomicInteger();
+
+        private HedgedCall(MonoSink<String> sink) {
+            this.sink = sink;
+            sink.onDispose(attempts);
+        }
+
+        private void attempt(Mono<String> response, boolean hedge) {
+            running.incrementAndGet();
+            attempts.add(response.subscribe(
+                    value -> {
+                        if (done.compareAndSet(false, true)) {
+                            if (hedge) {
+                                hedgingPolicy.recordHedgeWin();
+                            }
+                            sink.success(value);
+                        }
+                    },
+                    error -> {
+                        if (running.decrementAndGet() == 0 && done.compareAndSet(false, true)) {
+                            sink.error(error);
+                        }
+                    }));
+        }
+    }
+
+    /**
+     * 요청 바디를 스트리밍 모드로 보내고, token 이벤트의 content만 순서대로 방출합니다.
+     * result 이벤트는 token을 모두 이어 붙인 것과 같으므로 무시합니다 (중복 방지).
+     */
+    public Flux<String> streamContent(byte[] body, String requestId) {
+        return clovaResilience.flux(ClovaResilience.CHAT, request(body, requestId).bodyToFlux(SSE_TYPE))
+                .<String>handle((event, sink) -> {
+                    if (EVENT_ERROR.equals(event.event())) {
+                        log.error("Clova 스트림 오류 이벤트. requestId: {}, data: {}", requestId, event.data());
+                        sink.error(new RuntimeException("AI 서버에서 오류가 발생했습니다. 잠시 후 다시 시도해주세요."));
+                        return;
+                    }
+                    if (!EVENT_TOKEN.equals(event.event()) || event.data() == null) {
+                        return;
+                    }
+                    String content = ClovaSseDecoder.extractContent(event.data());
+                    if (content != null && !content.isEmpty()) {
+                        sink.next(content);
+                    }
+                })
+                .onErrorMap(ClovaResilience::isRejected, e -> toRejectedException(e, requestId))
+                .onErrorMap(WebClientResponseException.class, e -> toClovaException(e, requestId))
+                .onErrorMap(WebClientRequestException.class, e -> {
+                    log.error("Clova API 연결 실패. requestId: {}, error: {}", requestId, e.getMessage());
+                    return new RuntimeException("AI 서버와의 통신 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
+                });
+    }
+
+    // 서킷이 열렸거나 동시 호출 한도를 넘어 호출 없이 거절된 경우
+    private RuntimeException toRejectedException(Throwable e, String requestId) {
+        log.warn("Clova 호출 차단(서킷 열림 또는 동시 호출 한도). requestId: {}, reason: {}", requestId, e.getMessage());
+        return new RuntimeException("AI 서버가 혼잡합니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private WebClient.ResponseSpec request(byte[] body, String requestId) {
+        return webClient.post()
+                .uri(chatCompletionsUrl)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+                .header("X-NCP-CLOVASTUDIO-REQUEST-ID", requestId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(body)
+                .retrieve();
+    }
+
+    // AffirmationService.callClovaApiSafely의 FeignException 처리와 같은 메시지로 변환
+    private RuntimeException toClovaException(WebClientResponseException e, String requestId) {
+        int status = e.getStatusCode().value();
+        log.error("Clova API 호출 실패. requestId: {}, status: {}, message: {}", requestId, status, e.getMessage());
+        if (status == 401) {
+            return new RuntimeException("AI 서비스 인증에 실패했습니다. 관리자에게 문의하세요.");
+        } else if (status == 429) {
+            return new RuntimeException("AI 요청 한도를 초과했습니다. 잠시 후 다시 시도해주세요.");
+        } else if (status >= 500) {
+            return new RuntimeException("AI 서버에서 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return new RuntimeException("AI 서버와의 통신 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
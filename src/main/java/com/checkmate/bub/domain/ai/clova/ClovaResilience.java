@@ -0,0 +1,139 @@
+package com.checkmate.bub.domain.ai.clova;
+
+import com.checkmate.bub.global.config.resilience.RetryBudget;
+import feign.FeignException;
+import feign.RetryableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Clova 외부 호출(Feign·WebClient 공통)에 벌크헤드 → 서킷 브레이커 → 재시도를 적용합니다.
+ * 재시도가 가장 바깥에 있으므로 재시도 1회마다 서킷 브레이커와 벌크헤드를 다시 통과하며, 백오프 대기 중에는 벌크헤드 자리를 차지하지 않습니다.
+ * 설정은 ClovaResilienceConfig를 참고하세요.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClovaResilience {
+
+    public static final String CHAT = "clovaChat";
+    public static final String SPEECH = "clovaSpeech";
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final RetryRegistry retryRegistry;
+    private final RetryBudget retryBudget;
+
+    /**
+     * 블로킹 호출(Feign)에 적용합니다. 서킷이 열려 있거나 벌크헤드가 가득 차면 즉시 예외를 던집니다.
+     */
+    public <T> T call(String downstream, Supplier<T> call) {
+        retryBudget.recordRequest();
+        Retry retry = retryRegistry.retry(downstream);
+        AtomicInteger attempts = new AtomicInteger();
+        Supplier<T> decorated = Bulkhead.decorateSupplier(bulkheadRegistry.bulkhead(downstream), call);
+        decorated = CircuitBreaker.decorateSupplier(circuitBreakerRegistry.circuitBreaker(downstream), decorated);
+        Supplier<T> attempt = decorated;
+        Supplier<T> budgeted = () -> {
+            try {
+                return attempt.get();
+            } catch (RuntimeException e) {
+                throw (RuntimeException) spendRetryBudget(e, attempts.incrementAndGet(), retry);
+            }
+        };
+        try {
+            return Retry.decorateSupplier(retry, budgeted).get();
+        } catch (RetryDenied e) {
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    /**
+     * 논블로킹 호출(WebClient)에 적용합니다. 예산은 구독 1회에 한 번 적립되고, 재시도는 그 안쪽 재구독으로 이루어집니다.
+     */
+    public <T> Mono<T> mono(String downstream, Mono<T> call) {
+        Retry retry = retryRegistry.retry(downstream);
+        return Mono.defer(() -> {
+            retryBudget.recordRequest();
+            AtomicInteger attempts = new AtomicInteger();
+            return call.transformDeferred(BulkheadOperator.of(bulkheadRegistry.bulkhead(downstream)))
+                    .transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(downstream)))
+                    .onErrorMap(e -> spendRetryBudget(e, attempts.incrementAndGet(), retry))
+                    .transformDeferred(RetryOperator.of(retry))
+                    .onErrorMap(RetryDenied.class, Throwable::getCause);
+        });
+    }
+
+    /**
+     * 스트리밍 호출에 적용합니다. 이미 보낸 토큰이 중복되지 않도록 재시도는 하지 않습니다.
+     */
+    public <T> Flux<T> flux(String downstream, Flux<T> call) {
+        return call.transformDeferred(BulkheadOperator.of(bulkheadRegistry.bulkhead(downstream)))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(downstream)));
+    }
+
+    /**
+     * 서킷 브레이커가 열렸거나 벌크헤드가 가득 차서 호출 없이 거절된 경우
+     */
+    public static boolean isRejected(Throwable e) {
+        return e instanceof CallNotPermittedException || e instanceof BulkheadFullException;
+    }
+
+    /**
+     * 다시 시도하면 성공할 수 있는 일시적 장애인지 판별합니다 (429, 5xx, 연결 실패, 시간 초과).
+     * 서킷 브레이커의 실패 집계와 재시도 대상 판별에 함께 사용합니다.
+     */
+    public static boolean isTransient(Throwable e) {
+        if (e instanceof RetryableException) {
+            return true;  // Feign의 I/O 오류 (연결 실패, 읽기 시간 초과)
+        }
+        if (e instanceof FeignException fe) {
+            return isTransientStatus(fe.status());
+        }
+        if (e instanceof WebClientResponseException we) {
+            return isTransientStatus(we.getStatusCode().value());
+        }
+        return e instanceof WebClientRequestException || e instanceof TimeoutException || e instanceof IOException;
+    }
+
+    private static boolean isTransientStatus(int status) {
+        return status == 429 || status >= 500;
+    }
+
+    /**
+     * 실패한 시도 뒤에 재시도가 실제로 예약될 때만 예산을 씁니다 (마지막 시도나 재시도 대상이 아닌 실패는 쓰지 않음).
+     * 예산이 없으면 RetryDenied로 감싸 재시도를 멈추고, 재시도 바깥에서 원래 예외로 되돌립니다.
+     * Retry의 retryOnException은 시도 횟수 확인보다 먼저 호출되어 마지막 시도인지 알 수 없으므로 여기서 판단합니다.
+     */
+    private Throwable spendRetryBudget(Throwable failure, int attempt, Retry retry) {
+        if (!isTransient(failure) || attempt >= retry.getRetryConfig().getMaxAttempts() || retryBudget.tryAcquireRetry()) {
+            return failure;
+        }
+        return new RetryDenied(failure);
+    }
+
+    private static final class RetryDenied extends RuntimeException {
+        RetryDenied(Throwable cause) {
+            super(null, cause, false, false);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.checkmate.bub.domain.ai.clova;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+// Clova Speech Recognition (STT) 논블로킹 클라이언트: ClovaSpeechClient(Feign)와 같은 요청을 WebClient로 보냄
+@Component
+@RequiredArgsConstructor
+public class ClovaSpeechReactiveClient {
+
+    private static final ParameterizedTypeReference<Map<String, Object>> RESULT_TYPE = new ParameterizedTypeReference<>() {};
+
+    private final WebClient webClient;
+    private final ClovaResilience clovaResilience;
+
+    @Value("${clova.speech-recognition.url:https://naveropenapi.apigw.ntruss.com/recog/v1/stt}")
+    private String speechRecognitionUrl;
+
+    public Mono<Map<String, Object>> recognizeSpeech(String apiKeyId, String apiKey, String language, byte[] audioData) {
+        Mono<Map<String, Object>> call = webClient.post()
+                .uri(speechRecognitionUrl, uriBuilder -> uriBuilder.queryParam("lang", language).build())
+                .header("X-NCP-APIGW-API-KEY-ID", apiKeyId)  // 앱 등록 시 발급받은 Client ID
+                .header("X-NCP-APIGW-API-KEY", apiKey)       // 앱 등록 시 발급받은 Client Secret
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(audioData)
+                .retrieve()
+                .bodyToMono(RESULT_TYPE);
+        return clovaResilience.mono(ClovaResilience.SPEECH, call);
+    }
+}
@@ -0,0 +1,192 @@
+package com.checkmate.bub.domain.ai.clova;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Clova HCX-005 SSE 응답에서 message.content만 뽑아내는 스트리밍 디코더
+ * 응답 전체를 줄 배열로 나누거나 JsonNode 트리를 만들지 않고, 한 줄 버퍼와 Jackson 스트리밍 파서로 필요한 필드만 읽습니다.
+ *
+ * HCX-005는 token 이벤트들 뒤에 전체 문구를 담은 result 이벤트를 한 번 더 보내므로,
+ * result 이벤트가 있으면 그 내용을, 없으면 token(및 이벤트명 없는 data) 내용을 이어 붙여 반환합니다.
+ */
+@Slf4j
+public final class ClovaSseDecoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final char[] DATA_FIELD = "data:".toCharArray();
+    private static final char[] EVENT_FIELD = "event:".toCharArray();
+    private static final char[] EVENT_RESULT = "result".toCharArray();
+    private static final char[] EVENT_SIGNAL = "signal".toCharArray();
+    private static final char[] EVENT_ERROR = "error".toCharArray();
+    private static final char[] DONE_SIGNAL = "[DONE]".toCharArray();
+
+    private static final int READ_BUFFER_SIZE = 4096;
+    private static final int INITIAL_LINE_CAPACITY = 512;
+
+    // 현재 이벤트 종류
+    private static final int EVENT_TYPE_CONTENT = 0;  // token 또는 이벤트명 없음
+    private static final int EVENT_TYPE_RESULT = 1;
+    private static final int EVENT_TYPE_IGNORED = 2;  // signal, error 등 (오류 판별은 호출부 책임)
+
+    private ClovaSseDecoder() {}  // 인스턴스화 방지
+
+    public static String decodeContent(String body) throws IOException {
+        return decodeContent(new StringReader(body));
+    }
+
+    public static String decodeContent(InputStream body) throws IOException {
+        return decodeContent(new InputStreamReader(body, StandardCharsets.UTF_8));
+    }
+
+    public static String decodeContent(Reader reader) throws IOException {
+        DecodeState state = new DecodeState();
+        char[] buffer = new char[READ_BUFFER_SIZE];
+        char[] line = new char[INITIAL_LINE_CAPACITY];
+        int lineLength = 0;
+
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                char c = buffer[i];
+                if (c == '\n') {
+                    state.acceptLine(line, lineLength);
+                    lineLength = 0;
+                    continue;
+                }
+                if (lineLength == line.length) {
+                    char[] grown = new char[line.length * 2];
+                    System.arraycopy(line, 0, grown, 0, lineLength);
+                    line = grown;
+                }
+                line[lineLength++] = c;
+            }
+        }
+        if (lineLength > 0) {
+            state.acceptLine(line, lineLength);
+        }
+        return state.content();
+    }
+
+    /**
+     * data 필드 하나(JSON 문자열)에서 message.content를 읽습니다. 없거나 형식이 다르면 null을 반환합니다.
+     */
+    public static String extractContent(String data) {
+        StringBuilder out = new StringBuilder();
+        try (JsonParser parser = JSON_FACTORY.createParser(data)) {
+            return appendMessageContent(parser, out) ? out.toString() : null;
+        } catch (IOException e) {
+            log.debug("Clova data 파싱 실패, 건너뜀: {}", data);
+            return null;
+        }
+    }
+
+    private static final class DecodeState {
+        private final StringBuilder tokens = new StringBuilder();
+        private final StringBuilder result = new StringBuilder();
+        private int eventType = EVENT_TYPE_CONTENT;
+
+        void acceptLine(char[] line, int length) throws IOException {
+            if (length > 0 && line[length - 1] == '\r') {
+                length--;
+            }
+            // 빈 줄은 이벤트 경계
+            if (length == 0) {
+                eventType = EVENT_TYPE_CONTENT;
+                return;
+            }
+            if (startsWith(line, length, EVENT_FIELD)) {
+                eventType = eventTypeOf(line, EVENT_FIELD.length, length);
+                return;
+            }
+            if (!startsWith(line, length, DATA_FIELD) || eventType == EVENT_TYPE_IGNORED) {
+                return;
+            }
+
+            int offset = skipSpaces(line, DATA_FIELD.length, length);
+            if (offset == length || regionEquals(line, offset, length, DONE_SIGNAL)) {
+                return;
+            }
+
+            StringBuilder target = eventType == EVENT_TYPE_RESULT ? result : tokens;
+            try (JsonParser parser = JSON_FACTORY.createParser(line, offset, length - offset)) {
+                appendMessageContent(parser, target);
+            } catch (JsonProcessingException e) {
+                log.debug("Clova data 라인 파싱 실패, 건너뜀: {}", new String(line, offset, length - offset));
+            }
+        }
+
+        String content() {
+            return result.length() > 0 ? result.toString() : tokens.toString();
+        }
+    }
+
+    /**
+     * {"message": {"content": "..."}} 구조에서 content 문자열만 out에 덧붙입니다. 다른 필드는 건너뜁니다.
+     */
+    private static boolean appendMessageContent(JsonParser parser, StringBuilder out) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("message".equals(field) && value == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String messageField = parser.currentName();
+                    JsonToken messageValue = parser.nextToken();
+                    if ("content".equals(messageField) && messageValue == JsonToken.VALUE_STRING) {
+                        out.append(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                        return true;
+                    }
+                    parser.skipChildren();
+                }
+                return false;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private static int eventTypeOf(char[] line, int from, int length) {
+        int offset = skipSpaces(line, from, length);
+        if (regionEquals(line, offset, length, EVENT_RESULT)) {
+            return EVENT_TYPE_RESULT;
+        }
+        if (regionEquals(line, offset, length, EVENT_SIGNAL) || regionEquals(line, offset, length, EVENT_ERROR)) {
+            return EVENT_TYPE_IGNORED;
+        }
+        return EVENT_TYPE_CONTENT;
+    }
+
+    private static int skipSpaces(char[] line, int from, int length) {
+        int offset = from;
+        while (offset < length && line[offset] == ' ') {
+            offset++;
+        }
+        return offset;
+    }
+
+    private static boolean startsWith(char[] line, int length, char[] prefix) {
+        return length >= prefix.length && regionEquals(line, 0, prefix.length, prefix);
+    }
+
+    private static boolean regionEquals(char[] line, int offset, int end, char[] expected) {
+        if (end - offset != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (line[offset + i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -7,14 +7,22 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
 /**
  * UR-USER-021, UR-USER-022, AR-ADMIN-005: 확언 북마크 엔티티
  * 사용자가 문장을 정확히 읽은 후 북마크에 추가/제거할 수 있는 기능
+ *
+ * 문장(최대 1000자) 대신 고정 길이 다이제스트(sentence_hash)로 인덱스를 걸어 조회하고,
+ * 다이제스트가 같아도 문장 원문까지 비교하여 충돌 시에도 다른 문장을 같은 북마크로 보지 않습니다.
  */
 @Entity
 @Table(
         name = "bookmark",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"user_nickname", "sentence"})
+        uniqueConstraints = @UniqueConstraint(name = "uk_bookmark_user_sentence_hash", columnNames = {"user_nickname", "sentence_hash"})
 )
 @Getter
 @NoArgsConstructor
@@ -33,8 +41,27 @@ public class Bookmark extends BaseTimeEntity {
     // 북마크된 문장 내용
     @Column(nullable = false, length = 1000)
     private String sentence;
+
+    // 문장의 SHA-256 (hex 64자) - 저장 시 자동 계산, 기존 행은 V2__bookmark_sentence_hash.sql이 채움
+    @Column(nullable = false, length = 64)
+    private String sentenceHash;
     
     // 문장의 톤
     @Column(nullable = false)
     private String tone;
+
+    @PrePersist
+    public void assignSentenceHash() {
+        this.sentenceHash = hashSentence(sentence);
+    }
+
+    public static String hashSentence(String sentence) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(sentence.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 지원해야 함
+            throw new IllegalStateException(e);
+        }
+    }
 }
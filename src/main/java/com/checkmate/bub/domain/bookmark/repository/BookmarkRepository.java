@@ -10,6 +10,8 @@ import java.util.Optional;
 /**
  * UR-USER-021, UR-USER-022, AR-ADMIN-005: 북마크 Repository
  * 사용자의 북마크된 문장을 관리
+ *
+ * 문장 단위 조회는 (user_nickname, sentence_hash) 인덱스로 찾은 뒤 문장 원문을 한 번 더 비교합니다.
  */
 @Repository
 public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
@@ -18,11 +20,23 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     List<Bookmark> findByUserNicknameOrderByCreatedAtDesc(String userNickname);
     
     // 특정 사용자의 특정 문장 북마크 조회
-    Optional<Bookmark> findByUserNicknameAndSentence(String userNickname, String sentence);
+    default Optional<Bookmark> findByUserNicknameAndSentence(String userNickname, String sentence) {
+        return findByUserNicknameAndSentenceHashAndSentence(userNickname, Bookmark.hashSentence(sentence), sentence);
+    }
     
     // 북마크 존재 여부 확인
-    boolean existsByUserNicknameAndSentence(String userNickname, String sentence);
+    default boolean existsByUserNicknameAndSentence(String userNickname, String sentence) {
+        return existsByUserNicknameAndSentenceHashAndSentence(userNickname, Bookmark.hashSentence(sentence), sentence);
+    }
     
     // 특정 사용자의 북마크 삭제
-    void deleteByUserNicknameAndSentence(String userNickname, String sentence);
+    default void deleteByUserNicknameAndSentence(String userNickname, String sentence) {
+        deleteByUserNicknameAndSentenceHashAndSentence(userNickname, Bookmark.hashSentence(sentence), sentence);
+    }
+
+    Optional<Bookmark> findByUserNicknameAndSentenceHashAndSentence(String userNickname, String sentenceHash, String sentence);
+
+    boolean existsByUserNicknameAndSentenceHashAndSentence(String userNickname, String sentenceHash, String sentence);
+
+    void deleteByUserNicknameAndSentenceHashAndSentence(String userNickname, String sentenceHash, String sentence);
 }
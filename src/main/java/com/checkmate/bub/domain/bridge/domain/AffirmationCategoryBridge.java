@@ -33,4 +33,9 @@ public class AffirmationCategoryBridge {
     @JoinColumn(name = "category_id", nullable = false)
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     private Category category;
+
+    public AffirmationCategoryBridge(Affirmation affirmation, Category category) {
+        this.affirmation = affirmation;
+        this.category = category;
+    }
 }
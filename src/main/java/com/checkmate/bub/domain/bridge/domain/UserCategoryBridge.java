@@ -16,8 +16,10 @@ import lombok.NoArgsConstructor;
 )
 public class UserCategoryBridge {
 
+    // IDENTITY는 INSERT마다 키를 받아와야 해서 JDBC 배치가 꺼지므로, 50개씩 미리 할당하는 시퀀스를 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_category_bridge_seq")
+    @SequenceGenerator(name = "user_category_bridge_seq", sequenceName = "user_category_bridge_seq", allocationSize = 50)
     private Long id;
 
     @JoinColumn(name = "user_id")
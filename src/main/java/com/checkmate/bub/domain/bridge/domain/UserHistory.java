@@ -8,6 +8,11 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
+// 오늘 본 확언 조회(사용자별 viewedAt 범위 검색)용 인덱스
+@Table(
+        name = "user_history",
+        indexes = {@Index(name = "idx_user_history_user_viewed_at", columnList = "user_id, viewed_at")}
+)
 @Getter
 //* 1. JPA를 위해 기본 생성자는 필요하지만, 외부에서 함부로 쓰지 못하게 protected로 제한합니다.
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -31,4 +36,12 @@ public class UserHistory {
     @ManyToOne(fetch = FetchType.LAZY)
     private Affirmation affirmation;
     private LocalDateTime viewedAt;
+
+    // 한 번의 메인 확언 요청에서 함께 제공된 세트의 식별자와 세트 안의 슬롯 순번 (오늘 받은 세트 재사용용)
+    @Column(length = 36)
+    private String setId;
+    private Integer slotIndex;
+
+    // 세트를 만들 때 사용자가 선택한 문제·톤 (선택이 바뀌면 오늘 받은 세트를 재사용하지 않음)
+    private String selectionKey;
 }
@@ -0,0 +1,15 @@
+package com.checkmate.bub.domain.bridge.dto;
+
+import com.checkmate.bub.domain.category.constant.CategoryType;
+import com.checkmate.bub.domain.category.domain.Category;
+
+/**
+ * 사용자가 선택한 카테고리 한 건 (user_category_bridge와 category를 조인해 한 번의 쿼리로 조회)
+ */
+public record UserCategorySelectionDto(Long categoryId, CategoryType type, String name) {
+
+    // 확언 생성에 넘길 카테고리 값 객체 (영속 상태가 아니므로 연관관계 저장에는 getReferenceById 사용)
+    public Category toCategory() {
+        return Category.builder().id(categoryId).type(type).name(name).build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.checkmate.bub.domain.bridge.repository;
+
+import com.checkmate.bub.domain.bridge.domain.AffirmationCategoryBridge;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+//* 확언 코퍼스 조회용: 하나의 확언은 문제 카테고리 1개 + 톤 카테고리 1개와 매핑됨
+public interface AffirmationCategoryBridgeRepository extends JpaRepository<AffirmationCategoryBridge, Long> {
+
+    // (문제, 톤) 쌍에 속하면서 해당 사용자가 아직 보지 않은 확언 중 무작위 limit개의 ID
+    // 후보 전체를 애플리케이션으로 가져오지 않도록 DB에서 섞어서 필요한 개수만 반환
+    @Query(value = """
+            SELECT acb.affirmation_id FROM affirmation_category_bridge acb
+            WHERE acb.category_id = :problemId
+              AND EXISTS (SELECT 1 FROM affirmation_category_bridge tone
+                          WHERE tone.affirmation_id = acb.affirmation_id AND tone.category_id = :toneId)
+              AND NOT EXISTS (SELECT 1 FROM user_history uh
+                              WHERE uh.affirmation_id = acb.affirmation_id AND uh.user_id = :userId)
+            ORDER BY random()
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findRandomUnseenAffirmationIds(@Param("problemId") Long problemId,
+                                              @Param("toneId") Long toneId,
+                                              @Param("userId") Long userId,
+                                              @Param("limit") int limit);
+
+    // (문제, 톤) 쌍에 속하면서 아직 아무에게도 제공되지 않은 확언 수 (리필 기준)
+    @Query("""
+            SELECT COUNT(acb) FROM AffirmationCategoryBridge acb
+            WHERE acb.category.id = :problemId
+              AND EXISTS (SELECT 1 FROM AffirmationCategoryBridge tone
+                          WHERE tone.affirmation = acb.affirmation AND tone.category.id = :toneId)
+              AND NOT EXISTS (SELECT 1 FROM UserHistory uh WHERE uh.affirmation = acb.affirmation)
+            """)
+    long countUnservedByPair(@Param("problemId") Long problemId, @Param("toneId") Long toneId);
+
+    // (문제, 톤) 쌍에 속한 전체 확언 수 (코퍼스 상한 확인용)
+    @Query("""
+            SELECT COUNT(acb) FROM AffirmationCategoryBridge acb
+            WHERE acb.category.id = :problemId
+              AND EXISTS (SELECT 1 FROM AffirmationCategoryBridge tone
+                          WHERE tone.affirmation = acb.affirmation AND tone.category.id = :toneId)
+            """)
+    long countByPair(@Param("problemId") Long problemId, @Param("toneId") Long toneId);
+}
@@ -1,11 +1,13 @@
 package com.checkmate.bub.domain.bridge.repository;
 
 import com.checkmate.bub.domain.bridge.domain.UserCategoryBridge;
+import com.checkmate.bub.domain.bridge.dto.UserCategorySelectionDto;
 import com.checkmate.bub.domain.category.constant.CategoryType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -14,6 +16,18 @@ public interface UserCategoryBridgeRepository extends JpaRepository<UserCategory
     @Query("SELECT ucb FROM UserCategoryBridge ucb WHERE ucb.user.id = :userId")
     List<UserCategoryBridge> findByUserId(@Param("userId") Long userId);
 
+    // 선택한 카테고리를 조인 한 번으로 조회 (bridge.getCategory()의 지연 로딩으로 건마다 쿼리가 나가지 않도록)
+    // 홈 화면 확언은 트랜잭션 밖에서 조회하므로, 커넥션을 요청 끝까지 붙잡지 않고 조회 직후 반환하도록 자체 트랜잭션으로 실행
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.checkmate.bub.domain.bridge.dto.UserCategorySelectionDto(c.id, c.type, c.name) "
+            + "FROM UserCategoryBridge ucb JOIN ucb.category c WHERE ucb.user.id = :userId ORDER BY ucb.id")
+    List<UserCategorySelectionDto> findSelectionsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT new com.checkmate.bub.domain.bridge.dto.UserCategorySelectionDto(c.id, c.type, c.name) "
+            + "FROM UserCategoryBridge ucb JOIN ucb.category c WHERE ucb.user.id = :userId AND c.type = :categoryType ORDER BY ucb.id")
+    List<UserCategorySelectionDto> findSelectionsByUserIdAndCategoryType(@Param("userId") Long userId,
+                                                                         @Param("categoryType") CategoryType categoryType);
+
     @Modifying
     @Query("DELETE FROM UserCategoryBridge ucb WHERE ucb.user.id = :userId")
     void deleteByUserId(@Param("userId") Long userId);
@@ -22,7 +36,12 @@ public interface UserCategoryBridgeRepository extends JpaRepository<UserCategory
     List<UserCategoryBridge> findByUserIdAndCategoryType(@Param("userId") Long userId, @Param("categoryType") CategoryType categoryType);
 
     boolean existsByUserIdAndCategoryType(Long userId, CategoryType category);
-    
-    @Query("SELECT COUNT(ucb) > 0 FROM UserCategoryBridge ucb WHERE ucb.user.id = :userId AND ucb.category.id = :categoryId")
-    boolean existsByUserIdAndCategoryId(@Param("userId") Long userId, @Param("categoryId") Long categoryId);
+
+    // 선택 변경 시 현재 선택과의 차이 계산용
+    @Query("SELECT ucb.category.id FROM UserCategoryBridge ucb WHERE ucb.user.id = :userId AND ucb.category.type = :categoryType")
+    List<Long> findCategoryIdsByUserIdAndCategoryType(@Param("userId") Long userId, @Param("categoryType") CategoryType categoryType);
+
+    @Modifying
+    @Query("DELETE FROM UserCategoryBridge ucb WHERE ucb.user.id = :userId AND ucb.category.id IN :categoryIds")
+    int deleteByUserIdAndCategoryIdIn(@Param("userId") Long userId, @Param("categoryIds") List<Long> categoryIds);
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.checkmate.bub.domain.bridge.repository;
+
+import com.checkmate.bub.domain.bridge.domain.UserHistory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface UserHistoryRepository extends JpaRepository<UserHistory, Long> {
+
+    // since 이후에 사용자가 같은 문제·톤 선택으로 받은 세트 중, 슬롯이 모두(count개) 채워진 마지막 세트의 식별자
+    // 일부 슬롯 생성에 실패한 세트는 건너뛰어 그 이전의 완전한 세트를 재사용 (최신 1건만 필요하므로 Pageable로 제한)
+    @Query("""
+            SELECT uh.setId FROM UserHistory uh
+            WHERE uh.user.id = :userId AND uh.viewedAt >= :since AND uh.selectionKey = :selectionKey
+            GROUP BY uh.setId
+            HAVING COUNT(DISTINCT uh.slotIndex) = :count
+            ORDER BY MAX(uh.id) DESC
+            """)
+    List<String> findLatestCompleteSetIds(@Param("userId") Long userId,
+                                          @Param("since") LocalDateTime since,
+                                          @Param("selectionKey") String selectionKey,
+                                          @Param("count") long count,
+                                          Pageable pageable);
+
+    // 한 세트의 기록을 슬롯 순서대로 조회 (확언 문구까지 한 번에 로딩, 사용자·시간 조건으로 (user_id, viewed_at) 인덱스 사용)
+    @Query("""
+            SELECT uh FROM UserHistory uh JOIN FETCH uh.affirmation
+            WHERE uh.user.id = :userId AND uh.viewedAt >= :since AND uh.setId = :setId
+            ORDER BY uh.slotIndex
+            """)
+    List<UserHistory> findSetWithAffirmation(@Param("userId") Long userId,
+                                             @Param("since") LocalDateTime since,
+                                             @Param("setId") String setId);
+}
@@ -0,0 +1,8 @@
+package com.checkmate.bub.domain.category.event;
+
+/**
+ * 문제·톤 카테고리가 생성되거나 변경되었을 때 발행되는 이벤트
+ * 카테고리 이름을 바탕으로 미리 만들어 둔 데이터(프롬프트 캐시 등)를 비우는 데 사용합니다.
+ */
+public record CategoryChangedEvent(String reason) {
+}
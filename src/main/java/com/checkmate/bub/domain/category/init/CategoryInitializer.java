@@ -2,10 +2,12 @@ package com.checkmate.bub.domain.category.init;
 
 import com.checkmate.bub.domain.category.constant.CategoryType;
 import com.checkmate.bub.domain.category.domain.Category;
+import com.checkmate.bub.domain.category.event.CategoryChangedEvent;
 import com.checkmate.bub.domain.category.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,12 +18,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class CategoryInitializer implements CommandLineRunner {
 
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
     public void run(String... args) throws Exception {
         initializeProblemCategories();
         initializeToneCategories();
+        removeLegacyToneExampleCategories();
+        // 카테고리 이름으로 만든 캐시(Clova 요청 바디 등)를 초기화
+        eventPublisher.publishEvent(new CategoryChangedEvent("category initialized"));
     }
 
     private void initializeProblemCategories() {
@@ -57,6 +63,14 @@ public class CategoryInitializer implements CommandLineRunner {
         }
     }
 
+    private void removeLegacyToneExampleCategories() {
+        // 톤 예시는 tone_example 테이블에 저장하므로, 예전에 category 테이블에 쌓인 "Joy_Example_..." 행을 정리
+        int deleted = categoryRepository.deleteLegacyToneExamples(CategoryType.TONE);
+        if (deleted > 0) {
+            log.info("예전 톤 예시 카테고리 정리: {}건", deleted);
+        }
+    }
+
     @Transactional  // 트랜잭션으로 exists와 save를 묶음
     protected void initializeToneCategories() {
         String[] toneNames = {"Joy", "Wednesday", "Zelda"};
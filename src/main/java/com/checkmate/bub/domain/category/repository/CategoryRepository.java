@@ -6,7 +6,10 @@ import jakarta.persistence.LockModeType;
 import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -23,7 +26,12 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     // 조회
     Optional<Category> findByTypeAndName(CategoryType type, String name);
     
-    // 패턴으로 시작하는 카테고리 조회 (톤 예시 정리용)
-    List<Category> findByTypeAndNameStartingWith(CategoryType type, String namePrefix);
+    // 타입별 전체 조회 (확언 코퍼스 리필용)
+    List<Category> findByType(CategoryType type);
+
+    // 예전 방식의 톤 예시 저장용 카테고리(Joy_Example_...) 일괄 삭제 (톤 예시는 tone_example 테이블로 이전)
+    @Modifying
+    @Query("DELETE FROM Category c WHERE c.type = :type AND c.name LIKE '%\\_Example\\_%' ESCAPE '\\'")
+    int deleteLegacyToneExamples(@Param("type") CategoryType type);
 
 }
@@ -0,0 +1,95 @@
+package com.checkmate.bub.domain.category.service;
+
+import com.checkmate.bub.domain.category.constant.CategoryType;
+import com.checkmate.bub.domain.category.domain.Category;
+import com.checkmate.bub.domain.category.event.CategoryChangedEvent;
+import com.checkmate.bub.domain.category.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 문제·톤 카테고리 전체를 메모리에 올려 둔 읽기 전용 스냅샷
+ * 카테고리는 거의 바뀌지 않으므로, 요청마다 DB를 조회(및 잠금)하지 않고 ID나 (타입, 이름)으로 바로 찾습니다.
+ *
+ * 처음 조회할 때 불러오고, 카테고리가 생성·변경되면(CategoryChangedEvent, 커밋 이후) 새 스냅샷을 만들어 통째로 교체합니다.
+ * 스냅샷의 Category는 영속성 컨텍스트와 분리된 객체이므로, 연관관계로 저장할 때는 getReferenceById를 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryCatalog {
+
+    private final CategoryRepository categoryRepository;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    private record Snapshot(Map<Long, Category> byId,
+                            Map<CategoryType, Map<String, Category>> byTypeAndName,
+                            Map<CategoryType, List<Category>> byType) {
+
+        static Snapshot of(List<Category> categories) {
+            Map<Long, Category> byId = new HashMap<>();
+            Map<CategoryType, Map<String, Category>> byTypeAndName = new EnumMap<>(CategoryType.class);
+            Map<CategoryType, List<Category>> byType = new EnumMap<>(CategoryType.class);
+            for (Category category : categories) {
+                byId.put(category.getId(), category);
+                byTypeAndName.computeIfAbsent(category.getType(), type -> new HashMap<>()).put(category.getName(), category);
+                byType.computeIfAbsent(category.getType(), type -> new ArrayList<>()).add(category);
+            }
+            byType.replaceAll((type, list) -> List.copyOf(list));
+            byTypeAndName.replaceAll((type, map) -> Map.copyOf(map));
+            return new Snapshot(Map.copyOf(byId), byTypeAndName, byType);
+        }
+    }
+
+    public Optional<Category> findById(Long id) {
+        return Optional.ofNullable(current().byId().get(id));
+    }
+
+    public Optional<Category> findByTypeAndName(CategoryType type, String name) {
+        return Optional.ofNullable(current().byTypeAndName().getOrDefault(type, Map.of()).get(name));
+    }
+
+    public List<Category> findByType(CategoryType type) {
+        return current().byType().getOrDefault(type, List.of());
+    }
+
+    /**
+     * DB에서 카테고리 전체를 다시 읽어 스냅샷을 교체합니다.
+     */
+    public void reload() {
+        Snapshot loaded = Snapshot.of(categoryRepository.findAll());
+        snapshot.set(loaded);
+        log.info("카테고리 카탈로그 갱신. categories: {}", loaded.byId().size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        log.info("카테고리 변경으로 카탈로그 갱신. reason: {}", event.reason());
+        reload();
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot.get();
+                if (current == null) {
+                    reload();
+                    current = snapshot.get();
+                }
+            }
+        }
+        return current;
+    }
+}
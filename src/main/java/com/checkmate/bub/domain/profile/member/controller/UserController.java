@@ -1,7 +1,7 @@
 package com.checkmate.bub.domain.profile.member.controller;
 
-import com.checkmate.bub.domain.affirmation.dto.MainAffirmationResponseDto;
-import com.checkmate.bub.domain.affirmation.service.AffirmationService;
+import com.checkmate.bub.domain.affirmation.dto.AffirmationJobResponseDto;
+import com.checkmate.bub.domain.affirmation.service.AffirmationJobService;
 import com.checkmate.bub.domain.profile.member.dto.CategorySelectionDto;
 import com.checkmate.bub.domain.profile.member.dto.MyPageCategoryResponseDto;
 import com.checkmate.bub.domain.profile.member.dto.ToneUpdateRequestDto;
@@ -14,6 +14,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
 
 import java.util.HashMap;
 import java.util.List;
@@ -26,8 +30,10 @@ public class UserController {
 
     //* This Controller is used for my-page view.
 
+    private static final Duration JOB_WAIT_TIMEOUT = Duration.ofSeconds(30);
+
     private final UserService userService;
-    private final AffirmationService affirmationService;
+    private final AffirmationJobService affirmationJobService;
     private final CookieHelper cookieHelper;
 
     // 현재 로그인된 사용자 정보 조회 (JavaScript에서 사용)
@@ -53,15 +59,14 @@ public class UserController {
 
     // (2) 문제 수정하기 - 문제 선택 및 저장
     @PutMapping("/categories/problems")
-    public ResponseEntity<MainAffirmationResponseDto> updateUserProblems(
+    public ResponseEntity<AffirmationJobResponseDto> updateUserProblems(
             @Valid @RequestBody UserCategoryRequestDto requestDto,
             Authentication authentication) {
         Long userId = Long.valueOf(authentication.getName());
         userService.updateUserProblems(userId, requestDto.getCategoryIds());
 
-        // 문제 수정 이후 새로운 확언 문구 생성
-        MainAffirmationResponseDto affirmations = affirmationService.generateMainAffirmation(userId);
-        return ResponseEntity.ok(affirmations);
+        // 문제 수정 이후 새로운 확언 문구 생성은 작업으로 넘기고 즉시 응답
+        return accepted(affirmationJobService.submitRegeneration(userId));
     }
 
     // (3) 톤 조회 (톤 수정 페이지용)
@@ -74,14 +79,34 @@ public class UserController {
 
     // (4) 톤 수정하기 - 톤 저장
     @PutMapping("/categories/tones")
-    public ResponseEntity<MainAffirmationResponseDto> updateUserTones(
+    public ResponseEntity<AffirmationJobResponseDto> updateUserTones(
             @Valid @RequestBody ToneUpdateRequestDto requestDto,
             Authentication authentication) {
         Long userId = Long.valueOf(authentication.getName());
         userService.updateUserTone(userId, requestDto.getToneName());
-        // 톤 수정 이후 새로운 확언 문구 생성
-        MainAffirmationResponseDto affirmations = affirmationService.generateMainAffirmation(userId);
-        return ResponseEntity.ok(affirmations);
+        // 톤 수정 이후 새로운 확언 문구 생성은 작업으로 넘기고 즉시 응답
+        return accepted(affirmationJobService.submitRegeneration(userId));
+    }
+
+    // (5) 확언 재생성 작업 조회 - wait=true면 작업이 끝날 때까지(최대 30초) 기다렸다가 응답
+    @GetMapping("/affirmation-jobs/{jobId}")
+    public Mono<ResponseEntity<AffirmationJobResponseDto>> getAffirmationJob(
+            @PathVariable String jobId,
+            @RequestParam(defaultValue = "false") boolean wait,
+            Authentication authentication) {
+        Long userId = Long.valueOf(authentication.getName());
+        if (!wait) {
+            return Mono.just(ResponseEntity.ok(affirmationJobService.getJob(userId, jobId)));
+        }
+        return Mono.fromFuture(affirmationJobService.awaitJob(userId, jobId))
+                .timeout(JOB_WAIT_TIMEOUT, Mono.fromSupplier(() -> affirmationJobService.getJob(userId, jobId)))
+                .map(ResponseEntity::ok);
+    }
+
+    private ResponseEntity<AffirmationJobResponseDto> accepted(AffirmationJobResponseDto job) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/users/me/affirmation-jobs/" + job.getJobId()))
+                .body(job);
     }
 
     // 회원 탈퇴
@@ -11,6 +11,7 @@ import com.checkmate.bub.domain.profile.member.domain.User;
 import com.checkmate.bub.domain.profile.member.dto.CategorySelectionDto;
 import com.checkmate.bub.domain.profile.member.repository.UserRepository;
 import com.checkmate.bub.domain.profile.member.service.helper.UserCategoryBridgeHelper;
+import com.checkmate.bub.domain.profile.member.service.helper.UserSelectionCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +26,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final UserCategoryBridgeRepository userCategoryBridgeRepository;
     private final UserCategoryBridgeHelper userCategoryBridgeHelper;
+    private final UserSelectionCache userSelectionCache;
     private final BookmarkRepository bookmarkRepository;
     private final CustomSentenceRepository customSentenceRepository;
 
@@ -33,17 +35,17 @@ public class UserService {
     }
 
     public List<CategorySelectionDto> getUserProblems(Long userId) {
-        return userCategoryBridgeRepository.findByUserIdAndCategoryType(userId, CategoryType.PROBLEM)
+        return userSelectionCache.get(userId, CategoryType.PROBLEM)
                 .stream()
-                .map(bridge -> new CategorySelectionDto(bridge.getCategory().getId(), bridge.getCategory().getName()))
+                .map(selection -> new CategorySelectionDto(selection.categoryId(), selection.name()))
                 .toList();
     }
 
     public CategorySelectionDto getUserTone(Long userId) {
-        return userCategoryBridgeRepository.findByUserIdAndCategoryType(userId, CategoryType.TONE)
+        return userSelectionCache.get(userId, CategoryType.TONE)
                 .stream()
                 .findFirst()
-                .map(bridge -> new CategorySelectionDto(bridge.getCategory().getId(), bridge.getCategory().getName()))
+                .map(selection -> new CategorySelectionDto(selection.categoryId(), selection.name()))
                 .orElse(null);
     }
 
@@ -81,6 +83,7 @@ public class UserService {
         // 사용자와 연관된 모든 데이터 삭제 (순서 중요: 외래키 제약조건 고려)
         // 1. UserCategoryBridge 삭제 (userId로 조회)
         userCategoryBridgeRepository.deleteByUserId(userId);
+        userSelectionCache.invalidateAfterTransaction(userId);
 
         // 2. Bookmarks 삭제 (userNickname으로 조회)
         List<Bookmark> bookmarks = bookmarkRepository.findByUserNicknameOrderByCreatedAtDesc(userNickname);
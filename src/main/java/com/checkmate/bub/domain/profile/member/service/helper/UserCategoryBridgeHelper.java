@@ -5,6 +5,7 @@ import com.checkmate.bub.domain.bridge.repository.UserCategoryBridgeRepository;
 import com.checkmate.bub.domain.category.constant.CategoryType;
 import com.checkmate.bub.domain.category.domain.Category;
 import com.checkmate.bub.domain.category.repository.CategoryRepository;
+import com.checkmate.bub.domain.category.service.CategoryCatalog;
 import com.checkmate.bub.domain.profile.member.domain.User;
 import com.checkmate.bub.domain.profile.member.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -13,7 +14,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Component
@@ -22,11 +26,14 @@ public class UserCategoryBridgeHelper {
 
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
+    private final CategoryCatalog categoryCatalog;
     private final UserCategoryBridgeRepository userCategoryBridgeRepository;
+    private final UserSelectionCache userSelectionCache;
 
     /**
      * Save user's selected categories (problems/tones)
-     * Deletes existing selections and replaces with new ones
+     * Replaces the current selections of the given type with the new ones by diff:
+     * one user existence check, one query for the current ids, one bulk delete for removed ids and one JDBC-batched insert for added ids
      *
      * @param userId User ID
      * @param categoryIds Selected category ID list
@@ -36,46 +43,39 @@ public class UserCategoryBridgeHelper {
     public void saveSelections(Long userId, List<Long> categoryIds, CategoryType expectedType) {
         log.info("Starting category selection save. userId: {}, categoryIds: {}, type: {}", userId, categoryIds, expectedType);
 
-        // Find user
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("User not found. userId: " + userId));
-
-        // Delete existing selections
-        List<UserCategoryBridge> existingSelections = userCategoryBridgeRepository
-                .findByUserIdAndCategoryType(userId, expectedType);
-        if (!existingSelections.isEmpty()) {
-            userCategoryBridgeRepository.deleteAll(existingSelections);
-            userCategoryBridgeRepository.flush(); // Force immediate deletion
-            log.info("Deleted {} existing selections (type: {})", existingSelections.size(), expectedType);
+        // Check the user exists (an id-only query; inserts below use a proxy reference)
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("User not found. userId: " + userId);
         }
 
-        // Save new selections
-        for (Long categoryId : categoryIds) {
-            Category category = categoryRepository.findById(categoryId)
+        // Validate against the in-memory catalog (no DB round trip per id)
+        Set<Long> requested = new LinkedHashSet<>(categoryIds);
+        for (Long categoryId : requested) {
+            Category category = categoryCatalog.findById(categoryId)
                     .orElseThrow(() -> new EntityNotFoundException("Category not found. categoryId: " + categoryId));
-
             if (category.getType() != expectedType) {
                 throw new IllegalArgumentException("Category type mismatch. expected: " + expectedType + ", categoryId: " + categoryId);
             }
+        }
 
-            // Check if this combination already exists to avoid constraint violation
-            boolean exists = userCategoryBridgeRepository.existsByUserIdAndCategoryId(userId, categoryId);
-            if (exists) {
-                log.warn("User-category bridge already exists: userId={}, categoryId={}, skipping", userId, categoryId);
-                continue;
-            }
+        Set<Long> current = new HashSet<>(userCategoryBridgeRepository.findCategoryIdsByUserIdAndCategoryType(userId, expectedType));
 
-            try {
-                UserCategoryBridge bridge = new UserCategoryBridge(user, category);
-                userCategoryBridgeRepository.save(bridge);
-                log.info("Saved selection: {} -> {} (type: {})", userId, category.getName(), expectedType);
-            } catch (Exception e) {
-                log.error("Failed to save user-category bridge: userId={}, categoryId={}", userId, categoryId, e);
-                // Continue with next category instead of failing completely
-            }
+        // Delete removed selections in one statement
+        List<Long> removed = current.stream().filter(id -> !requested.contains(id)).toList();
+        if (!removed.isEmpty()) {
+            userCategoryBridgeRepository.deleteByUserIdAndCategoryIdIn(userId, removed);
         }
 
-        log.info("Category selection save completed. userId: {}, saved count: {}, type: {}", userId, categoryIds.size(), expectedType);
+        // Insert added selections (batched at flush; ids come from the pooled sequence)
+        User user = userRepository.getReferenceById(userId);
+        List<UserCategoryBridge> added = requested.stream()
+                .filter(id -> !current.contains(id))
+                .map(id -> new UserCategoryBridge(user, categoryRepository.getReferenceById(id)))
+                .toList();
+        userCategoryBridgeRepository.saveAll(added);
+        userSelectionCache.invalidateAfterTransaction(userId);
+
+        log.info("Category selection save completed. userId: {}, added: {}, removed: {}, type: {}", userId, added.size(), removed.size(), expectedType);
     }
 
     /**
@@ -86,25 +86,13 @@ public class UserCategoryBridgeHelper {
     public void saveToneByName(Long userId, String toneName) {
         log.info("Starting tone selection save by name. userId: {}, toneName: {}", userId, toneName);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("User not found. userId: " + userId));
-
         // Find tone category by name
-        Category toneCategory = categoryRepository.findByTypeAndName(CategoryType.TONE, toneName)
+        Category toneCategory = categoryCatalog.findByTypeAndName(CategoryType.TONE, toneName)
                 .orElseThrow(() -> new EntityNotFoundException("Tone category not found. toneName: " + toneName));
 
-        // Delete existing tone selections
-        List<UserCategoryBridge> existingToneSelections = userCategoryBridgeRepository
-                .findByUserIdAndCategoryType(userId, CategoryType.TONE);
-        if (!existingToneSelections.isEmpty()) {
-            userCategoryBridgeRepository.deleteAll(existingToneSelections);
-            log.info("Deleted {} existing tone selections", existingToneSelections.size());
-        }
-
-        // Save new tone selection
-        UserCategoryBridge bridge = new UserCategoryBridge(user, toneCategory);
-        userCategoryBridgeRepository.save(bridge);
+        // A user has exactly one tone: replace the current one by diff
+        saveSelections(userId, List.of(toneCategory.getId()), CategoryType.TONE);
 
         log.info("Tone selection save completed. userId: {}, toneName: {}", userId, toneName);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,119 @@
+package com.checkmate.bub.domain.profile.member.service.helper;
+
+import com.checkmate.bub.domain.bridge.dto.UserCategorySelectionDto;
+import com.checkmate.bub.domain.bridge.repository.UserCategoryBridgeRepository;
+import com.checkmate.bub.domain.category.constant.CategoryType;
+import com.checkmate.bub.global.cache.BoundedCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 선택 카테고리(문제·톤) 캐시
+ * 홈 화면 확언, 마이페이지, 로그인 시 온보딩 여부 확인에서 매번 읽지만, 선택 저장(UserCategoryBridgeHelper)이나 탈퇴 때만 바뀝니다.
+ *
+ * 최대 항목 수(max-entries)를 넘으면 BoundedCache 정책으로 밀어내며, 조회·무효화는 사용자(키) 단위로만 동기화됩니다.
+ * 쓰기 쪽은 invalidateAfterTransaction으로 트랜잭션이 끝난 뒤(커밋·롤백 모두) 항목을 지우고, 같은 사용자의 조회 도중 무효화가 일어나면
+ * 읽은 값을 캐시에 넣지 않아 커밋 직전의 예전 선택이 다시 채워지지 않게 합니다.
+ */
+@Component
+@Slf4j
+public class UserSelectionCache {
+
+    private final UserCategoryBridgeRepository userCategoryBridgeRepository;
+    private final boolean enabled;
+
+    private final Cache<Long, List<UserCategorySelectionDto>> selections;
+    // 사용자별 무효화 세대 (조회 시작 이후 그 사용자의 무효화가 있었는지 확인용)
+    private final Cache<Long, AtomicLong> generations;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public UserSelectionCache(UserCategoryBridgeRepository userCategoryBridgeRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${user.selection-cache.enabled:true}") boolean enabled,
+                              @Value("${user.selection-cache.max-entries:10000}") int maxEntries) {
+        this.userCategoryBridgeRepository = userCategoryBridgeRepository;
+        this.enabled = enabled;
+        this.selections = BoundedCache.create(meterRegistry, "user.selection_cache.size", maxEntries);
+        this.generations = BoundedCache.create(meterRegistry, "user.selection_cache.generations", maxEntries);
+        this.hits = lookupCounter(meterRegistry, "hit");
+        this.misses = lookupCounter(meterRegistry, "miss");
+    }
+
+    /**
+     * 사용자가 선택한 카테고리 전체를 반환합니다 (선택 순서).
+     */
+    public List<UserCategorySelectionDto> get(Long userId) {
+        if (!enabled) {
+            return userCategoryBridgeRepository.findSelectionsByUserId(userId);
+        }
+        List<UserCategorySelectionDto> cached = selections.getIfPresent(userId);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        AtomicLong generation = generations.get(userId, id -> new AtomicLong());
+        long loadedAt = generation.get();
+        List<UserCategorySelectionDto> loaded = List.copyOf(userCategoryBridgeRepository.findSelectionsByUserId(userId));
+        // 무효화와 같은 키 잠금 안에서 세대를 확인하므로, 확인과 저장 사이에 무효화가 끼어들 수 없음
+        // (세대 항목이 밀려나 새로 만들어졌어도 다른 객체이므로 저장하지 않음)
+        selections.asMap().compute(userId, (id, current) ->
+                generations.getIfPresent(id) == generation && generation.get() == loadedAt ? loaded : current);
+        return loaded;
+    }
+
+    public List<UserCategorySelectionDto> get(Long userId, CategoryType type) {
+        return get(userId).stream().filter(selection -> selection.type() == type).toList();
+    }
+
+    public boolean has(Long userId, CategoryType type) {
+        return get(userId).stream().anyMatch(selection -> selection.type() == type);
+    }
+
+    /**
+     * 현재 트랜잭션이 끝난 뒤 사용자의 항목을 지웁니다. 트랜잭션 밖이면 바로 지웁니다.
+     * 롤백 때도 지워서, 같은 트랜잭션 안에서 읽어 캐시에 들어간 미커밋 선택이 남지 않게 합니다.
+     */
+    public void invalidateAfterTransaction(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                invalidate(userId);
+            }
+        });
+    }
+
+    public void invalidate(Long userId) {
+        selections.asMap().compute(userId, (id, current) -> {
+            generations.get(id, key -> new AtomicLong()).incrementAndGet();
+            return null;
+        });
+        log.debug("사용자 선택 캐시 무효화. userId: {}", userId);
+    }
+
+    public long size() {
+        return selections.estimatedSize();
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("user.selection_cache.lookups")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Mono;
 
 
 /**
@@ -29,7 +30,7 @@ public class SpeechController {
      * AR-ADMIN-002: 음성 인식 동작
      */
     @PostMapping(value = "/recognize", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<SpeechRecognitionResponseDto> recognizeSpeech(
+    public Mono<ResponseEntity<SpeechRecognitionResponseDto>> recognizeSpeech(
             @RequestParam("audioFile") MultipartFile audioFile,
             @RequestParam("originalSentence") String originalSentence,
             @RequestParam(value = "retryCount", defaultValue = "0") Integer retryCount) {
@@ -44,66 +45,66 @@ public class SpeechController {
             // 오디오 파일 유효성 검증
             if (audioFile.isEmpty()) {
                 log.warn("[STT-REQUEST-{}] 요청 실패 - 빈 오디오 파일", requestId);
-                return ResponseEntity.badRequest()
+                return Mono.just(ResponseEntity.badRequest()
                         .body(SpeechRecognitionResponseDto.builder()
                                 .success(false)
                                 .errorMessage("오디오 파일이 비어있습니다.")
                                 .errorCode("EMPTY_AUDIO_FILE")
-                                .build());
+                                .build()));
             }
             // 파일 크기 검증 (예: 10MB 제한)
             if (audioFile.getSize() > 10 * 1024 * 1024) {
                 log.warn("[STT-REQUEST-{}] 요청 실패 - 파일 크기 초과: {}bytes", requestId, audioFile.getSize());
-                return ResponseEntity.badRequest()
+                return Mono.just(ResponseEntity.badRequest()
                         .body(SpeechRecognitionResponseDto.builder()
                                 .success(false)
                                 .errorMessage("오디오 파일 크기가 10MB를 초과합니다.")
                                 .errorCode("FILE_SIZE_EXCEEDED")
-                                .build());
+                                .build()));
             }
             // 파일 형식 검증
             String contentType = audioFile.getContentType();
             if (contentType == null || !contentType.startsWith("audio/")) {
                 log.warn("[STT-REQUEST-{}] 요청 실패 - 잘못된 파일 형식: {}", requestId, contentType);
-                return ResponseEntity.badRequest()
+                return Mono.just(ResponseEntity.badRequest()
                         .body(SpeechRecognitionResponseDto.builder()
                                 .success(false)
                                 .errorMessage("지원하지 않는 파일 형식입니다.")
                                 .errorCode("INVALID_FILE_FORMAT")
-                                .build());
+                                .build()));
             }
 
-            // 음성 인식 처리
+            // 음성 인식 처리 (멀티파트 임시 파일은 요청 스레드에서 미리 읽어 둠)
             log.info("[STT-REQUEST-{}] Clova Speech API 호출 시작", requestId);
-            SpeechRecognitionResponseDto response = speechService.recognizeSpeech(
-                    audioFile, originalSentence, retryCount);
-
-            long processingTime = System.currentTimeMillis() - startTime;
-            
-            // HTTP 상태 코드 결정
-            if (response.isSuccess()) {
-                log.info("[STT-REQUEST-{}] 음성 인식 성공 - 처리 시간: {}ms, 정확도: {}%", 
-                        requestId, processingTime, response.getAccuracy() != null ? String.format("%.1f", response.getAccuracy() * 100) : "N/A");
-                return ResponseEntity.ok(response); // 200 OK
-            } else if (response.isMaxRetryReached()) {
-                log.warn("[STT-REQUEST-{}] 음성 인식 실패 - 최대 재시도 횟수 도달, 처리 시간: {}ms", 
-                        requestId, processingTime);
-                return ResponseEntity.badRequest().body(response); // 400 Bad Request
-            } else {
-                log.info("[STT-REQUEST-{}] 음성 인식 재시도 필요 - 처리 시간: {}ms, 현재 재시도: {}", 
-                        requestId, processingTime, retryCount);
-                return ResponseEntity.ok(response); // 재시도 가능한 경우 200 OK
-            }
+            return speechService.recognizeSpeech(audioFile.getBytes(), originalSentence, retryCount)
+                    .map(response -> {
+                        long processingTime = System.currentTimeMillis() - startTime;
+
+                        // HTTP 상태 코드 결정
+                        if (response.isSuccess()) {
+                            log.info("[STT-REQUEST-{}] 음성 인식 성공 - 처리 시간: {}ms, 정확도: {}%", 
+                                    requestId, processingTime, response.getAccuracy() != null ? String.format("%.1f", response.getAccuracy() * 100) : "N/A");
+                            return ResponseEntity.ok(response); // 200 OK
+                        } else if (response.isMaxRetryReached()) {
+                            log.warn("[STT-REQUEST-{}] 음성 인식 실패 - 최대 재시도 횟수 도달, 처리 시간: {}ms", 
+                                    requestId, processingTime);
+                            return ResponseEntity.badRequest().body(response); // 400 Bad Request
+                        } else {
+                            log.info("[STT-REQUEST-{}] 음성 인식 재시도 필요 - 처리 시간: {}ms, 현재 재시도: {}", 
+                                    requestId, processingTime, retryCount);
+                            return ResponseEntity.ok(response); // 재시도 가능한 경우 200 OK
+                        }
+                    });
 
         } catch (Exception e) {
             long processingTime = System.currentTimeMillis() - startTime;
             log.error("[STT-REQUEST-{}] 음성 인식 컨트롤러 오류 - 처리 시간: {}ms", requestId, processingTime, e);
-            return ResponseEntity.status(504) // 504 Gateway Timeout
+            return Mono.just(ResponseEntity.status(504) // 504 Gateway Timeout
                     .body(SpeechRecognitionResponseDto.builder()
                             .success(false)
                             .errorMessage("서버 처리 시간 초과")
                             .errorCode("TIMEOUT")
-                            .build());
+                            .build()));
         }
     }
 
@@ -1,6 +1,8 @@
 package com.checkmate.bub.domain.speech.service;
 
+import com.checkmate.bub.domain.ai.clova.ClovaResilience;
 import com.checkmate.bub.domain.ai.clova.ClovaSpeechClient;
+import com.checkmate.bub.domain.ai.clova.ClovaSpeechReactiveClient;
 import com.checkmate.bub.domain.speech.constant.DifferenceType;
 import com.checkmate.bub.domain.speech.dto.SpeechCompareResponseDto;
 import com.checkmate.bub.domain.speech.dto.SpeechRecognitionResponseDto;
@@ -11,7 +13,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +31,8 @@ import java.util.Map;
 public class SpeechService {
     
     private final ClovaSpeechClient clovaSpeechClient;
+    private final ClovaSpeechReactiveClient clovaSpeechReactiveClient;
+    private final ClovaResilience clovaResilience;
 
     // application-common.yml에서 CLOVA_CLIENT_ID, CLOVA_CLIENT_SECRET 환경변수 주입
     @Value("${clova.speech-recognition.client-id}")
@@ -34,11 +40,16 @@ public class SpeechService {
     
     @Value("${clova.speech-recognition.client-secret}")
     private String clovaClientSecret;
+
+    // STT 호출 클라이언트: reactive(WebClient, 기본) 또는 feign (처리량 A/B 비교용)
+    @Value("${clova.client.type:reactive}")
+    private String clovaClientType;
     
     // 음성 인식 관련 상수들
     private static final int MAX_RETRY_COUNT = 3;  // 최대 재시도 횟수
     private static final double MIN_ACCURACY_THRESHOLD = 0.8; // 80% 정확도 기준
     private static final int TIMEOUT_SECONDS = 15; // 15초 타임아웃
+    private static final String CLIENT_TYPE_REACTIVE = "reactive";
     
     /**
      * UR-USER-015: 음성 인식 시작 - 오디오 데이터 처리
@@ -46,82 +57,111 @@ public class SpeechService {
      * UR-USER-017: 음성 인식 로그 저장 - 정확한 읽기 시 확언 로그 저장
      * UR-USER-018: 음성 인식 재시도 - 부정확하거나 15초 내 완료 실패 시 재시도 처리
      * AR-ADMIN-002: 음성 인식 동작 - 실시간 음성 인식 및 정확도 검증
+     *
+     * clova.client.type이 reactive면 WebClient로 호출해 STT 응답을 기다리는 동안 스레드를 점유하지 않고,
+     * feign이면 기존 Feign 호출을 구독 스레드에서 실행합니다 (처리량 A/B 비교용).
      */
-    public SpeechRecognitionResponseDto recognizeSpeech(MultipartFile audioFile, String originalSentence, Integer currentRetryCount) {
-        try {
-            String userNickname = SecurityUtils.getCurrentNickname();
-            log.info("음성 인식 시작 - 사용자: {}, 재시도 횟수: {}", userNickname, currentRetryCount);
-            
-            // ClovaSpeechClient를 통한 STT 변환 (한국어 설정)
-            Map<String, Object> sttResult = clovaSpeechClient.recognizeSpeech(
-                    clovaClientId,
-                    clovaClientSecret,
-                    "Kor",
-                    audioFile.getBytes()
-            );
-            
-            // STT 결과에서 텍스트 추출
-            String recognizedText = extractTextFromSttResult(sttResult);
-            log.info("STT 결과: {} -> {}", originalSentence, recognizedText);
-            
-            // 정확도 계산 (Levenshtein 거리 기반)
-            double accuracy = calculateAccuracy(originalSentence, recognizedText);
-            log.info("정확도: {}%", accuracy * 100);
-            
-            // UR-USER-016: 성공 기준 체크 (80% 이상)
-            if (accuracy >= MIN_ACCURACY_THRESHOLD) {
-                /*// UR-USER-017(deprecated): 로그 저장 - 정확한 읽기 시 확언 로그 DB 저장
-                saveAffirmationLog(originalSentence, tone);*/
-                log.info("음성 인식 성공 - 로그 저장 완료");
-                
-                return SpeechRecognitionResponseDto.builder()
-                        .success(true)
-                        .needRetry(false)
-                        .goHome(false) // UR-USER-023: 홈 화면 이동 플래그
-                        .retryCount(currentRetryCount)
-                        .maxRetryReached(false)
-                        .recognizedText(recognizedText)
-                        .accuracy(accuracy)
-                        .logSaved(true)
-                        .canBookmark(true) // UR-USER-021: 북마크 추가 가능
-                        .build();
-            } else {
-                // UR-USER-018: 재시도 처리 - 부정확한 읽기 시
-                int nextRetryCount = currentRetryCount + 1;
-                boolean maxRetryReached = nextRetryCount >= MAX_RETRY_COUNT;
-                
-                log.warn("음성 인식 실패 - 정확도 부족. 재시도 {}/{}", nextRetryCount, MAX_RETRY_COUNT);
-                
-                return SpeechRecognitionResponseDto.builder()
-                        .success(false)
-                        .needRetry(!maxRetryReached)
-                        .goHome(maxRetryReached) // UR-USER-019: 3회 실패 시 홈 버튼 표시
-                        .retryCount(nextRetryCount)
-                        .maxRetryReached(maxRetryReached)
-                        .recognizedText(recognizedText)
-                        .accuracy(accuracy)
-                        .errorMessage(maxRetryReached ? "최대 재시도 횟수 초과" : "정확도가 낮습니다. 다시 시도해주세요.")
-                        .errorCode(maxRetryReached ? "MAX_RETRY_EXCEEDED" : "LOW_ACCURACY")
-                        .logSaved(false)
-                        .canBookmark(false)
-                        .build();
-            }
-            
-        } catch (Exception e) {
-            String userNickname = SecurityUtils.getCurrentNickname();
-            log.error("음성 인식 중 오류 발생 - 사용자: {}", userNickname, e);
+    public Mono<SpeechRecognitionResponseDto> recognizeSpeech(byte[] audioData, String originalSentence, Integer currentRetryCount) {
+        // SecurityContext는 요청 스레드에만 있으므로 비동기 실행 전에 미리 읽어 둠
+        String userNickname = SecurityUtils.getCurrentNickname();
+        log.info("음성 인식 시작 - 사용자: {}, 재시도 횟수: {}", userNickname, currentRetryCount);
+
+        // ClovaSpeechClient를 통한 STT 변환 (한국어 설정)
+        Mono<Map<String, Object>> sttResult = CLIENT_TYPE_REACTIVE.equalsIgnoreCase(clovaClientType)
+                ? clovaSpeechReactiveClient.recognizeSpeech(clovaClientId, clovaClientSecret, "Kor", audioData)
+                : Mono.fromCallable(() -> clovaResilience.call(ClovaResilience.SPEECH,
+                        () -> clovaSpeechClient.recognizeSpeech(clovaClientId, clovaClientSecret, "Kor", audioData)));
+
+        return sttResult
+                .timeout(Duration.ofSeconds(TIMEOUT_SECONDS))
+                .map(result -> buildRecognitionResponse(extractTextFromSttResult(result), originalSentence, currentRetryCount))
+                .onErrorResume(ClovaResilience::isRejected, e -> {
+                    log.warn("음성 인식 서버 혼잡으로 호출 차단 - 사용자: {}, reason: {}", userNickname, e.getMessage());
+                    return Mono.just(buildServiceBusyResponse(currentRetryCount));
+                })
+                .onErrorResume(e -> {
+                    log.error("음성 인식 중 오류 발생 - 사용자: {}", userNickname, e);
+                    return Mono.just(buildRecognitionErrorResponse(currentRetryCount));
+                });
+    }
+
+    private SpeechRecognitionResponseDto buildRecognitionResponse(String recognizedText, String originalSentence, Integer currentRetryCount) {
+        log.info("STT 결과: {} -> {}", originalSentence, recognizedText);
+
+        // 정확도 계산 (Levenshtein 거리 기반)
+        double accuracy = calculateAccuracy(originalSentence, recognizedText);
+        log.info("정확도: {}%", accuracy * 100);
+
+        // UR-USER-016: 성공 기준 체크 (80% 이상)
+        if (accuracy >= MIN_ACCURACY_THRESHOLD) {
+            /*// UR-USER-017(deprecated): 로그 저장 - 정확한 읽기 시 확언 로그 DB 저장
+            saveAffirmationLog(originalSentence, tone);*/
+            log.info("음성 인식 성공 - 로그 저장 완료");
+
             return SpeechRecognitionResponseDto.builder()
-                    .success(false)
-                    .needRetry(currentRetryCount < MAX_RETRY_COUNT - 1)
-                    .goHome(currentRetryCount >= MAX_RETRY_COUNT - 1)
-                    .retryCount(currentRetryCount + 1)
-                    .maxRetryReached(currentRetryCount >= MAX_RETRY_COUNT - 1)
-                    .errorMessage("음성 인식 처리 중 오류가 발생했습니다.")
-                    .errorCode("RECOGNITION_ERROR")
-                    .logSaved(false)
-                    .canBookmark(false)
+                    .success(true)
+                    .needRetry(false)
+                    .goHome(false) // UR-USER-023: 홈 화면 이동 플래그
+                    .retryCount(currentRetryCount)
+                    .maxRetryReached(false)
+                    .recognizedText(recognizedText)
+                    .accuracy(accuracy)
+                    .logSaved(true)
+                    .canBookmark(true) // UR-USER-021: 북마크 추가 가능
                     .build();
         }
+
+        // UR-USER-018: 재시도 처리 - 부정확한 읽기 시
+        int nextRetryCount = currentRetryCount + 1;
+        boolean maxRetryReached = nextRetryCount >= MAX_RETRY_COUNT;
+
+        log.warn("음성 인식 실패 - 정확도 부족. 재시도 {}/{}", nextRetryCount, MAX_RETRY_COUNT);
+
+        return SpeechRecognitionResponseDto.builder()
+                .success(false)
+                .needRetry(!maxRetryReached)
+                .goHome(maxRetryReached) // UR-USER-019: 3회 실패 시 홈 버튼 표시
+                .retryCount(nextRetryCount)
+                .maxRetryReached(maxRetryReached)
+                .recognizedText(recognizedText)
+                .accuracy(accuracy)
+                .errorMessage(maxRetryReached ? "최대 재시도 횟수 초과" : "정확도가 낮습니다. 다시 시도해주세요.")
+                .errorCode(maxRetryReached ? "MAX_RETRY_EXCEEDED" : "LOW_ACCURACY")
+                .logSaved(false)
+                .canBookmark(false)
+                .build();
+    }
+
+    /**
+     * 서킷이 열렸거나 동시 호출 한도를 넘어 STT를 호출하지 못한 경우
+     * 사용자의 읽기 실패가 아니므로 재시도 횟수를 소모하지 않습니다.
+     */
+    private SpeechRecognitionResponseDto buildServiceBusyResponse(Integer currentRetryCount) {
+        return SpeechRecognitionResponseDto.builder()
+                .success(false)
+                .needRetry(true)
+                .goHome(false)
+                .retryCount(currentRetryCount)
+                .maxRetryReached(false)
+                .errorMessage("음성 인식 서버가 혼잡합니다. 잠시 후 다시 시도해주세요.")
+                .errorCode("SPEECH_SERVICE_BUSY")
+                .logSaved(false)
+                .canBookmark(false)
+                .build();
+    }
+
+    private SpeechRecognitionResponseDto buildRecognitionErrorResponse(Integer currentRetryCount) {
+        return SpeechRecognitionResponseDto.builder()
+                .success(false)
+                .needRetry(currentRetryCount < MAX_RETRY_COUNT - 1)
+                .goHome(currentRetryCount >= MAX_RETRY_COUNT - 1)
+                .retryCount(currentRetryCount + 1)
+                .maxRetryReached(currentRetryCount >= MAX_RETRY_COUNT - 1)
+                .errorMessage("음성 인식 처리 중 오류가 발생했습니다.")
+                .errorCode("RECOGNITION_ERROR")
+                .logSaved(false)
+                .canBookmark(false)
+                .build();
     }
     
     /**
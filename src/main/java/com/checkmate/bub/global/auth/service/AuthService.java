@@ -3,11 +3,11 @@ package com.checkmate.bub.global.auth.service;
 import com.checkmate.bub.global.auth.dto.AuthResponseDto;
 import com.checkmate.bub.global.auth.dto.KakaoTokenResponseDto;
 import com.checkmate.bub.global.auth.dto.KakaoUserInfoResponseDto;
-import com.checkmate.bub.domain.bridge.repository.UserCategoryBridgeRepository;
 import com.checkmate.bub.domain.category.constant.CategoryType;
 import com.checkmate.bub.global.jwt.JwtTokenProvider;
 import com.checkmate.bub.domain.profile.member.domain.User;
 import com.checkmate.bub.domain.profile.member.repository.UserRepository;
+import com.checkmate.bub.domain.profile.member.service.helper.UserSelectionCache;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -34,7 +34,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
     private final WebClient webClient;
-    private final UserCategoryBridgeRepository userCategoryBridgeRepository;
+    private final UserSelectionCache userSelectionCache;
 
     // AuthController에서 사용할 getter 메서드들
     @Getter
@@ -69,8 +69,8 @@ public class AuthService {
                     .orElseGet(() -> registerNewUser(userInfo));
             
             // Check if user has completed full onboarding (both problems and tone selected)
-            boolean hasProblems = userCategoryBridgeRepository.existsByUserIdAndCategoryType(user.getId(), CategoryType.PROBLEM);
-            boolean hasTone = userCategoryBridgeRepository.existsByUserIdAndCategoryType(user.getId(), CategoryType.TONE);
+            boolean hasProblems = userSelectionCache.has(user.getId(), CategoryType.PROBLEM);
+            boolean hasTone = userSelectionCache.has(user.getId(), CategoryType.TONE);
             boolean hasCompletedOnboarding = hasProblems && hasTone;
             boolean isNewUser = !hasCompletedOnboarding;
 
@@ -0,0 +1,33 @@
+package com.checkmate.bub.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.function.Function;
+
+/**
+ * 애플리케이션 메모리 캐시(사용자 선택, 검증된 토큰, Clova 요청 본문)를 같은 방식으로 만드는 팩토리
+ * Caffeine 기반이라 조회·쓰기에 전역 잠금이 없고, 항목 수가 maxEntries를 넘으면 적게·오래 전에 쓰인 항목부터 밀어냅니다 (W-TinyLFU).
+ * 만료 정책이 필요한 캐시는 customizer로 expireAfter*를 더합니다. 현재 항목 수는 sizeGauge 이름의 게이지로 노출합니다.
+ */
+public final class BoundedCache {
+
+    private BoundedCache() {
+    }
+
+    public static <K, V> Cache<K, V> create(MeterRegistry meterRegistry, String sizeGauge, int maxEntries) {
+        return create(meterRegistry, sizeGauge, maxEntries, builder -> builder);
+    }
+
+    public static <K, V> Cache<K, V> create(MeterRegistry meterRegistry, String sizeGauge, int maxEntries,
+                                            Function<Caffeine<Object, Object>, Caffeine<? super K, ? super V>> customizer) {
+        Caffeine<? super K, ? super V> builder = customizer.apply(Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                // 밀어내기·만료 정리를 호출 스레드에서 바로 처리 (별도 풀에 작업을 넘기지 않고, 상한을 넘긴 상태가 남지 않음)
+                .executor(Runnable::run));
+        Cache<K, V> cache = builder.build();
+        meterRegistry.gauge(sizeGauge, cache, Cache::estimatedSize);
+        return cache;
+    }
+}
@@ -0,0 +1,37 @@
+package com.checkmate.bub.global.config.async;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 마이페이지 문제·톤 수정 후 확언 재생성 작업 전용 스레드 풀
+ * 사용자 선택 조회 등 작업 시작 단계만 이 풀에서 실행되고, Clova 호출은 clovaExecutor/WebClient가 맡습니다.
+ */
+@Configuration
+@Slf4j
+public class AffirmationJobExecutorConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService affirmationJobExecutor(@Value("${affirmation.job.executor.pool-size:8}") int poolSize,
+                                                  @Value("${affirmation.job.executor.queue-capacity:128}") int queueCapacity) {
+        // 큐가 가득 차면 즉시 거절해, 요청 스레드가 작업 등록에서 기다리지 않도록 함
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofVirtual().name("affirmation-job-", 0).factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        executor.allowCoreThreadTimeOut(true);
+        log.info("확언 재생성 작업 executor 초기화 - poolSize: {}, queueCapacity: {}", poolSize, queueCapacity);
+        return executor;
+    }
+}
@@ -0,0 +1,37 @@
+package com.checkmate.bub.global.config.async;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Clova API 호출 전용 스레드 풀
+ * 메인 확언 3개를 동시에 생성할 때 Tomcat 스레드와 분리된, 크기가 제한된 풀에서 실행합니다.
+ */
+@Configuration
+@Slf4j
+public class ClovaExecutorConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService clovaExecutor(@Value("${clova.executor.pool-size:32}") int poolSize,
+                                         @Value("${clova.executor.queue-capacity:256}") int queueCapacity) {
+        // 가상 스레드로 실행하되, 풀 크기로 동시 호출 수 상한을 둠 (큐가 가득 차면 즉시 거절)
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofVirtual().name("clova-", 0).factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        executor.allowCoreThreadTimeOut(true);
+        log.info("Clova executor 초기화 - poolSize: {}, queueCapacity: {}", poolSize, queueCapacity);
+        return executor;
+    }
+}
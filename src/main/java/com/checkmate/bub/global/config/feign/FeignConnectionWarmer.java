@@ -0,0 +1,86 @@
+package com.checkmate.bub.global.config.feign;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.classic.methods.HttpHead;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 기동 시 Feign 커넥션 풀에 Clova 호스트별 커넥션을 미리 열어 둡니다 (TCP·TLS 핸드셰이크를 첫 사용자 요청이 부담하지 않도록).
+ * 호스트마다 connections-per-host개의 HEAD 요청을 동시에 보내고, 응답 코드와 관계없이 커넥션은 풀에 반납되어 재사용됩니다.
+ *
+ * ApplicationReadyEvent 리스너가 끝난 뒤에 readiness가 ACCEPTING_TRAFFIC으로 바뀌므로, 예열은 트래픽을 받기 전에 끝납니다.
+ * 실패해도 기동은 계속하며, 연결 타임아웃(feign.http-client.connect-timeout-ms)만큼만 지연됩니다.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "feign.http-client.warm-up.enabled", havingValue = "true", matchIfMissing = true)
+public class FeignConnectionWarmer {
+
+    private final CloseableHttpClient feignHttpClient;
+    private final PoolingHttpClientConnectionManager feignConnectionManager;
+    private final List<String> urls;
+    private final int connectionsPerHost;
+
+    public FeignConnectionWarmer(CloseableHttpClient feignHttpClient,
+                                 PoolingHttpClientConnectionManager feignConnectionManager,
+                                 @Value("${feign.http-client.warm-up.urls:https://clovastudio.stream.ntruss.com,https://naveropenapi.apigw.ntruss.com}") List<String> urls,
+                                 @Value("${feign.http-client.warm-up.connections-per-host:2}") int connectionsPerHost) {
+        this.feignHttpClient = feignHttpClient;
+        this.feignConnectionManager = feignConnectionManager;
+        this.urls = urls;
+        this.connectionsPerHost = connectionsPerHost;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void warmUp() {
+        long start = System.nanoTime();
+        AtomicInteger opened = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> attempts = new ArrayList<>();
+            for (String url : urls) {
+                for (int i = 0; i < connectionsPerHost; i++) {
+                    attempts.add(executor.submit(() -> open(url, opened)));
+                }
+            }
+            for (Future<?> attempt : attempts) {
+                try {
+                    attempt.get();
+                } catch (Exception e) {
+                    // open()에서 예외를 모두 처리하므로 여기까지 오지 않음
+                    log.debug("Feign 커넥션 예열 대기 중 예외: {}", e.getMessage());
+                }
+            }
+        }
+
+        log.info("Feign 커넥션 예열 완료 - opened: {}/{}, pool: {}, elapsedMs: {}",
+                opened.get(), urls.size() * connectionsPerHost, feignConnectionManager.getTotalStats(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void open(String url, AtomicInteger opened) {
+        try {
+            int status = feignHttpClient.execute(new HttpHead(url), response -> response.getCode());
+            opened.incrementAndGet();
+            log.debug("Feign 커넥션 예열 - url: {}, status: {}", url, status);
+        } catch (Exception e) {
+            log.warn("Feign 커넥션 예열 실패 - url: {}, error: {}", url, e.getMessage());
+        }
+    }
+}
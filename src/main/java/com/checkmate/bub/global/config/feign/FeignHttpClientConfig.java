@@ -0,0 +1,121 @@
+package com.checkmate.bub.global.config.feign;
+
+import feign.Request;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.ssl.SSLContexts;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feign 클라이언트(ClovaClient, ClovaSpeechClient)의 HTTP 전송 계층 설정
+ * 기본 Client(HttpURLConnection)는 풀 설정·타임아웃이 없어 호출마다 TCP·TLS 핸드셰이크를 다시 할 수 있으므로,
+ * 커넥션 풀을 쓰는 Apache HttpClient 5로 교체합니다. (spring-cloud-openfeign이 이 CloseableHttpClient로 ApacheHttp5Client를 만듦)
+ *
+ * - 호스트(route)별·전체 커넥션 상한, 풀에서 커넥션을 기다리는 시간 상한
+ * - keep-alive: 서버가 Keep-Alive 헤더를 주지 않으면 keep-alive-ms 동안 재사용하고, 유휴 커넥션은 주기적으로 정리
+ * - TLS: 하나의 SSLContext를 공유하여 새 커넥션도 TLS 세션을 재개(abbreviated handshake)할 수 있게 함
+ * 풀 상태(leased, pending, available)는 httpcomponents.httpclient.pool.* 지표로 Micrometer에 노출됩니다.
+ */
+@Configuration
+@Slf4j
+public class FeignHttpClientConfig {
+
+    public static final String POOL_NAME = "feign";
+
+    @Bean
+    public PoolingHttpClientConnectionManager feignConnectionManager(@Value("${feign.http-client.max-connections:100}") int maxConnections,
+                                                                     @Value("${feign.http-client.max-connections-per-route:50}") int maxConnectionsPerRoute,
+                                                                     @Value("${feign.http-client.connect-timeout-ms:3000}") long connectTimeoutMs,
+                                                                     @Value("${feign.http-client.socket-timeout-ms:30000}") long socketTimeoutMs,
+                                                                     @Value("${feign.http-client.time-to-live-ms:300000}") long timeToLiveMs,
+                                                                     @Value("${feign.http-client.validate-after-inactivity-ms:2000}") long validateAfterInactivityMs) {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                .setSocketTimeout(Timeout.ofMilliseconds(socketTimeoutMs))
+                .setTimeToLive(TimeValue.ofMilliseconds(timeToLiveMs))
+                // 한동안 쓰지 않은 커넥션은 빌려주기 전에 끊겼는지 확인 (서버가 먼저 닫은 커넥션으로 요청하지 않도록)
+                .setValidateAfterInactivity(TimeValue.ofMilliseconds(validateAfterInactivityMs))
+                .build();
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setTlsSocketStrategy(ClientTlsStrategyBuilder.create()
+                        .setSslContext(SSLContexts.createSystemDefault())
+                        .buildClassic())
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(connectionConfig)
+                .setDefaultSocketConfig(SocketConfig.custom()
+                        .setSoTimeout(Timeout.ofMilliseconds(socketTimeoutMs))
+                        .setTcpNoDelay(true)
+                        .setSoKeepAlive(true)
+                        .build())
+                // 가장 최근에 반납된 커넥션부터 재사용 (오래 쉰 커넥션은 자연스럽게 만료되도록)
+                .setConnPoolPolicy(PoolReusePolicy.LIFO)
+                .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+                .build();
+
+        log.info("Feign 커넥션 풀 초기화 - maxConnections: {}, maxConnectionsPerRoute: {}, connectTimeoutMs: {}",
+                maxConnections, maxConnectionsPerRoute, connectTimeoutMs);
+        return connectionManager;
+    }
+
+    @Bean
+    public CloseableHttpClient feignHttpClient(PoolingHttpClientConnectionManager feignConnectionManager,
+                                               @Value("${feign.http-client.connection-request-timeout-ms:2000}") long connectionRequestTimeoutMs,
+                                               @Value("${feign.http-client.keep-alive-ms:60000}") long keepAliveMs,
+                                               @Value("${feign.http-client.max-idle-ms:60000}") long maxIdleMs) {
+        return HttpClients.custom()
+                .setConnectionManager(feignConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        // 풀이 가득 찼을 때 커넥션을 기다리는 최대 시간
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMs))
+                        .build())
+                .setKeepAliveStrategy(new DefaultConnectionKeepAliveStrategy() {
+                    @Override
+                    public TimeValue getKeepAliveDuration(HttpResponse response, HttpContext context) {
+                        // 서버가 Keep-Alive 헤더로 알려준 기간과 keep-alive-ms 중 짧은 쪽 (헤더가 없으면 기본 3분)
+                        TimeValue max = TimeValue.ofMilliseconds(keepAliveMs);
+                        TimeValue duration = super.getKeepAliveDuration(response, context);
+                        return TimeValue.isPositive(duration) ? duration.min(max) : max;
+                    }
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(maxIdleMs))
+                .disableCookieManagement()
+                .build();
+    }
+
+    /**
+     * 모든 Feign 클라이언트의 연결·응답 타임아웃 (요청마다 ApacheHttp5Client가 RequestConfig로 적용)
+     */
+    @Bean
+    public Request.Options feignRequestOptions(@Value("${feign.http-client.connect-timeout-ms:3000}") long connectTimeoutMs,
+                                               @Value("${feign.http-client.read-timeout-ms:30000}") long readTimeoutMs) {
+        return new Request.Options(connectTimeoutMs, TimeUnit.MILLISECONDS, readTimeoutMs, TimeUnit.MILLISECONDS, true);
+    }
+
+    @Bean
+    public MeterBinder feignConnectionPoolMetrics(PoolingHttpClientConnectionManager feignConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(feignConnectionManager, POOL_NAME);
+    }
+}
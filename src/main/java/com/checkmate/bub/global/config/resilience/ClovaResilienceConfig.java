@@ -0,0 +1,105 @@
+package com.checkmate.bub.global.config.resilience;
+
+import com.checkmate.bub.domain.ai.clova.ClovaResilience;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRetryMetrics;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Clova 채팅(HCX-005)과 Clova Speech(STT) 호출의 장애 격리 설정
+ * - 벌크헤드: 외부 API별 동시 호출 수 상한 (대기 없이 즉시 거절하여 Tomcat 스레드가 쌓이지 않게 함)
+ * - 서킷 브레이커: 실패율이 임계치를 넘으면 일정 시간 호출 없이 즉시 실패
+ * - 재시도: 지터가 있는 지수 백오프, 전체 재시도 양은 RetryBudget으로 제한
+ * 상태는 resilience4j_* 지표로 Micrometer에 노출됩니다.
+ */
+@Configuration
+@Slf4j
+public class ClovaResilienceConfig {
+
+    @Bean
+    public RetryBudget clovaRetryBudget(MeterRegistry meterRegistry,
+                                        @Value("${clova.resilience.retry-budget.ratio:0.1}") double ratio,
+                                        @Value("${clova.resilience.retry-budget.max-tokens:20}") int maxTokens) {
+        RetryBudget retryBudget = new RetryBudget(ratio, maxTokens);
+        meterRegistry.gauge("clova.retry_budget.available", retryBudget, RetryBudget::availableRetries);
+        return retryBudget;
+    }
+
+    @Bean
+    public CircuitBreakerRegistry clovaCircuitBreakerRegistry(MeterRegistry meterRegistry,
+                                                              @Value("${clova.resilience.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+                                                              @Value("${clova.resilience.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+                                                              @Value("${clova.resilience.circuit-breaker.minimum-number-of-calls:10}") int minimumNumberOfCalls,
+                                                              @Value("${clova.resilience.circuit-breaker.wait-in-open-ms:30000}") long waitInOpenMs) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .waitDurationInOpenState(Duration.ofMillis(waitInOpenMs))
+                .permittedNumberOfCallsInHalfOpenState(3)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                // 401·400 등 요청 자체의 문제는 장애로 보지 않음
+                .recordException(ClovaResilience::isTransient)
+                .build();
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        registry.circuitBreaker(ClovaResilience.CHAT)
+                .getEventPublisher()
+                .onStateTransition(event -> log.warn("Clova 서킷 상태 변경: {}", event.getStateTransition()));
+        registry.circuitBreaker(ClovaResilience.SPEECH)
+                .getEventPublisher()
+                .onStateTransition(event -> log.warn("Clova Speech 서킷 상태 변경: {}", event.getStateTransition()));
+        return registry;
+    }
+
+    @Bean
+    public BulkheadRegistry clovaBulkheadRegistry(MeterRegistry meterRegistry,
+                                                  @Value("${clova.resilience.bulkhead.chat.max-concurrent-calls:64}") int chatMaxConcurrentCalls,
+                                                  @Value("${clova.resilience.bulkhead.speech.max-concurrent-calls:32}") int speechMaxConcurrentCalls) {
+        BulkheadRegistry registry = BulkheadRegistry.ofDefaults();
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        registry.bulkhead(ClovaResilience.CHAT, bulkheadConfig(chatMaxConcurrentCalls));
+        registry.bulkhead(ClovaResilience.SPEECH, bulkheadConfig(speechMaxConcurrentCalls));
+        return registry;
+    }
+
+    @Bean
+    public RetryRegistry clovaRetryRegistry(MeterRegistry meterRegistry,
+                                            @Value("${clova.resilience.retry.max-attempts:3}") int maxAttempts,
+                                            @Value("${clova.resilience.retry.initial-backoff-ms:200}") long initialBackoffMs) {
+        RetryConfig config = RetryConfig.custom()
+                .maxAttempts(maxAttempts)
+                .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(Duration.ofMillis(initialBackoffMs), 2.0, 0.5))
+                // 일시적 장애만 재시도 (재시도 예산은 재시도가 실제로 예약될 때 ClovaResilience에서 차감)
+                .retryOnException(ClovaResilience::isTransient)
+                .build();
+
+        RetryRegistry registry = RetryRegistry.of(config);
+        TaggedRetryMetrics.ofRetryRegistry(registry).bindTo(meterRegistry);
+        registry.retry(ClovaResilience.CHAT);
+        registry.retry(ClovaResilience.SPEECH);
+        return registry;
+    }
+
+    private BulkheadConfig bulkheadConfig(int maxConcurrentCalls) {
+        return BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.checkmate.bub.global.config.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전체 재시도 양을 요청 수에 비례하도록 제한하는 재시도 예산 (모든 외부 호출이 공유)
+ * 요청 1건마다 ratio만큼 토큰이 쌓이고(최대 maxTokens), 재시도 1회마다 토큰 1개를 씁니다.
+ * 장애가 길어져 모든 호출이 실패해도 재시도는 전체 요청의 ratio 비율을 넘지 못하므로, 재시도가 부하를 증폭시키지 않습니다.
+ */
+public class RetryBudget {
+
+    // 소수 토큰을 정수로 다루기 위한 배율 (1토큰 = 1000)
+    private static final long SCALE = 1_000L;
+
+    private final long depositPerRequest;
+    private final long maxBalance;
+    private final AtomicLong balance;
+
+    public RetryBudget(double ratio, int maxTokens) {
+        this.depositPerRequest = Math.round(ratio * SCALE);
+        this.maxBalance = maxTokens * SCALE;
+        this.balance = new AtomicLong(maxBalance);  // 기동 직후나 한산할 때도 재시도할 수 있도록 가득 찬 상태로 시작
+    }
+
+    /**
+     * 최초 요청 1건을 기록해 예산을 적립합니다.
+     */
+    public void recordRequest() {
+        balance.accumulateAndGet(depositPerRequest, (current, deposit) -> Math.min(maxBalance, current + deposit));
+    }
+
+    /**
+     * 재시도 1회분의 토큰을 꺼냅니다. 예산이 부족하면 false를 반환합니다.
+     */
+    public boolean tryAcquireRetry() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - SCALE));
+        return true;
+    }
+
+    public double availableRetries() {
+        return (double) balance.get() / SCALE;
+    }
+}
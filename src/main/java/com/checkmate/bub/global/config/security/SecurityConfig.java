@@ -1,6 +1,7 @@
 package com.checkmate.bub.global.config.security;
 
 import com.checkmate.bub.global.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -62,6 +63,9 @@ public class SecurityConfig {
                     // OPTIONS 메서드 (CORS preflight)를 가장 먼저 허용 – 401 에러 방지
                     authorize.requestMatchers(HttpMethod.OPTIONS, "/**").permitAll();
 
+                    // Mono/Flux 응답의 비동기 재디스패치와 에러 디스패치는 최초 요청에서 이미 인가를 통과했으므로 허용 – 401 방지
+                    authorize.dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll();
+
                     if ("local".equals(activeProfile)) {
                         authorize.requestMatchers("/v3/api-docs", "/swagger-ui/**").permitAll();
                     }
@@ -1,14 +1,34 @@
 package com.checkmate.bub.global.config.web;
 
+import com.checkmate.bub.global.ratelimit.AiRateLimitInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    private final AiRateLimitInterceptor aiRateLimitInterceptor;
+
     @Override
     public void addViewControllers(ViewControllerRegistry registry) {
         registry.addViewController("/").setViewName("forward:/main.html");
     }
-}
\ No newline at end of file
+
+    // Clova를 호출하는 엔드포인트에만 사용자별 요청 한도 적용
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(aiRateLimitInterceptor)
+                .addPathPatterns(
+                        "/api/v1/affirmations/tone-examples",
+                        "/api/v1/affirmations/main",
+                        "/api/v1/affirmations/main/stream",
+                        "/api/users/me/categories/problems",
+                        "/api/users/me/categories/tones",
+                        "/api/v1/speech/recognize"
+                );
+    }
+}
@@ -2,12 +2,14 @@ package com.checkmate.bub.global.exception;
 
 import com.checkmate.bub.global.util.EnvironmentUtil;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.catalina.connector.ClientAbortException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationServiceException;
@@ -56,6 +58,23 @@ public class GlobalExceptionHandler {
         return createErrorResponse(HttpStatus.BAD_REQUEST, "외부 API 호출에 실패했습니다.", "서비스 연결에 문제가 발생했습니다.");
     }
 
+    // 사용자별 요청 한도 초과 시 (Clova 호출 엔드포인트)
+    // 스트리밍(text/event-stream) 요청에는 JSON 본문을 쓸 수 없으므로 Retry-After 헤더만 담아 본문 없이 응답
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<Map<String, Object>> handleRateLimitExceeded(RateLimitExceededException e, HttpServletRequest request) {
+        if (acceptsEventStream(request)) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .build();
+        }
+        ResponseEntity<Map<String, Object>> response =
+                createErrorResponse(HttpStatus.TOO_MANY_REQUESTS, e.getMessage(), "retryAfterSeconds: " + e.getRetryAfterSeconds());
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(response.getBody());
+    }
+
     // IllegalArgumentException 처리
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Map<String, Object>> handleIllegalArgument(IllegalArgumentException e) {
@@ -83,6 +102,19 @@ public class GlobalExceptionHandler {
         return createErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다.", e.getMessage());
     }
 
+    // 요청이 SSE 스트림(text/event-stream)을 기대하는지 여부
+    private boolean acceptsEventStream(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null) {
+            return false;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream().anyMatch(MediaType.TEXT_EVENT_STREAM::equalsTypeAndSubtype);
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
     // 공통 에러 응답 생성 메서드
     private ResponseEntity<Map<String, Object>> createErrorResponse(HttpStatus status, String message, String details) {
         Map<String, Object> errorResponse = new HashMap<>();
@@ -0,0 +1,17 @@
+package com.checkmate.bub.global.exception;
+
+import lombok.Getter;
+
+/**
+ * 사용자별 요청 한도를 넘었을 때 발생합니다. GlobalExceptionHandler에서 429와 Retry-After 헤더로 변환합니다.
+ */
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
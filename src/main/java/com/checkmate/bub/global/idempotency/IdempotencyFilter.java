@@ -0,0 +1,270 @@
+package com.checkmate.bub.global.idempotency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 생성이 일어나는 POST/PUT 요청의 Idempotency-Key 헤더를 처리합니다.
+ * 같은 사용자가 같은 키로 다시 보낸 요청은 다시 실행하지 않고 처음 응답을 그대로 돌려주며(Idempotent-Replayed: true),
+ * 처음 요청이 아직 실행 중이면 기다리지 않고 바로 409와 Retry-After를 돌려줍니다 (요청 스레드를 점유하지 않음).
+ * 같은 키로 본문이 다른 요청을 보내면 키를 잘못 재사용한 것이므로 422로 거절합니다.
+ *
+ * 2xx 응답만 보관 기간(ttl) 동안 저장하고, 실패 응답은 지웁니다 (재시도 시 다시 실행).
+ * 인증 정보가 필요하므로 Spring Security 필터 체인 뒤(기본 순서)에서 실행됩니다.
+ */
+@Component
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    // 멱등 처리 대상: "METHOD 경로"
+    private static final Set<String> IDEMPOTENT_ENDPOINTS = Set.of(
+            "POST /api/v1/affirmations/tone-examples",
+            "PUT /api/users/me/categories/problems",
+            "PUT /api/users/me/categories/tones"
+    );
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final long retryAfterSeconds;
+    private final int maxEntries;
+
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter conflicts;
+    private final Counter mismatches;
+
+    private record StoredResponse(int status, String contentType, String location, byte[] body) {}
+
+    private record Entry(CompletableFuture<StoredResponse> response, String bodyHash, long createdAtNanos) {}
+
+    public IdempotencyFilter(MeterRegistry meterRegistry,
+                             @Value("${idempotency.enabled:true}") boolean enabled,
+                             @Value("${idempotency.ttl-ms:86400000}") long ttlMs,
+                             @Value("${idempotency.retry-after-seconds:1}") long retryAfterSeconds,
+                             @Value("${idempotency.max-entries:10000}") int maxEntries) {
+        this.enabled = enabled;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.maxEntries = maxEntries;
+        this.executed = requestCounter(meterRegistry, "executed");
+        this.replayed = requestCounter(meterRegistry, "replayed");
+        this.conflicts = requestCounter(meterRegistry, "conflict");
+        this.mismatches = requestCounter(meterRegistry, "mismatch");
+        meterRegistry.gauge("idempotency.stored_keys", entries, Map::size);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || !IDEMPOTENT_ENDPOINTS.contains(request.getMethod() + " " + request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH
+                || authentication == null || authentication.getName() == null) {
+            // 키가 올바르지 않거나 인증 전이면 멱등 처리 없이 그대로 진행 (인증 실패는 뒤에서 처리됨)
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 본문 해시를 비교해야 하므로 먼저 읽어 두고, 컨트롤러에는 읽어 둔 본문을 다시 제공
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String bodyHash = sha256(cachedRequest.body);
+
+        // 키는 사용자·엔드포인트 범위로 구분해, 다른 사용자나 다른 API와 충돌하지 않게 함
+        String key = authentication.getName() + "|" + request.getMethod() + " " + request.getRequestURI() + "|" + idempotencyKey;
+        Entry entry = new Entry(new CompletableFuture<>(), bodyHash, System.nanoTime());
+        while (true) {
+            Entry existing = entries.putIfAbsent(key, entry);
+            if (existing == null) {
+                execute(entry, key, cachedRequest, response, filterChain);
+                return;
+            }
+            // 보관 기간이 지났거나 처음 요청이 예외로 끝난 항목은 이번 요청으로 교체해 다시 실행
+            if (isExpired(existing) || existing.response().isCompletedExceptionally()) {
+                if (entries.replace(key, existing, entry)) {
+                    execute(entry, key, cachedRequest, response, filterChain);
+                    return;
+                }
+                continue;
+            }
+            if (!existing.bodyHash().equals(bodyHash)) {
+                mismatches.increment();
+                log.warn("같은 Idempotency-Key로 다른 본문의 요청. key: {}", key);
+                response.sendError(HttpStatus.UNPROCESSABLE_ENTITY.value(), "같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다.");
+                return;
+            }
+            if (!existing.response().isDone()) {
+                conflicts.increment();
+                log.info("같은 Idempotency-Key 요청이 아직 처리 중. key: {}", key);
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+                response.sendError(HttpServletResponse.SC_CONFLICT, "같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요.");
+                return;
+            }
+            replay(existing.response().join(), key, response);
+            return;
+        }
+    }
+
+    private void execute(Entry entry, String key, HttpServletRequest request, HttpServletResponse response,
+                         FilterChain filterChain) throws ServletException, IOException {
+        executed.increment();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, wrapper);
+        } catch (ServletException | IOException | RuntimeException e) {
+            entries.remove(key, entry);
+            entry.response().completeExceptionally(e);
+            throw e;
+        }
+
+        StoredResponse stored = new StoredResponse(wrapper.getStatus(), wrapper.getContentType(),
+                wrapper.getHeader(HttpHeaders.LOCATION), wrapper.getContentAsByteArray());
+        if (stored.status() < 200 || stored.status() >= 300) {
+            entries.remove(key, entry);
+        }
+        entry.response().complete(stored);
+        wrapper.copyBodyToResponse();
+    }
+
+    private void replay(StoredResponse stored, String key, HttpServletResponse response) throws IOException {
+        replayed.increment();
+        log.info("Idempotency-Key 중복 요청에 저장된 응답 재사용. key: {}, status: {}", key, stored.status());
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, stored.location());
+        }
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.eviction-interval-ms:60000}")
+    public void evictExpired() {
+        entries.values().removeIf(entry -> entry.response().isDone() && isExpired(entry));
+        // 상한을 넘으면 오래된 완료 항목부터 정리
+        if (entries.size() > maxEntries) {
+            entries.entrySet().stream()
+                    .filter(e -> e.getValue().response().isDone())
+                    .sorted(Map.Entry.comparingByValue((a, b) -> Long.compare(a.createdAtNanos(), b.createdAtNanos())))
+                    .limit(entries.size() - maxEntries)
+                    .forEach(e -> entries.remove(e.getKey(), e.getValue()));
+        }
+    }
+
+    private boolean isExpired(Entry entry) {
+        return System.nanoTime() - entry.createdAtNanos() > ttlNanos;
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("idempotency.requests")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 지원해야 함
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 미리 읽어 둔 본문을 다시 제공하는 요청 래퍼입니다. 대상 API의 본문은 작은 JSON이라 메모리에 그대로 둡니다.
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            Charset charset = getCharacterEncoding() != null ? Charset.forName(getCharacterEncoding()) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
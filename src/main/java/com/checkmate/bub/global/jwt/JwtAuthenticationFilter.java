@@ -6,7 +6,6 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -21,6 +20,12 @@ import java.util.Arrays;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider jwtTokenProvider;
 
+    // 비동기 재디스패치(Mono/Flux 응답)에서도 인증 정보를 다시 채움 (검증 캐시 적중 시 재파싱 없음)
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
@@ -28,13 +33,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 쿠키에서 토큰 추출 (기존 헤더 방식 + 쿠키 지원 추가)
         String token = resolveTokenFromCookieOrHeader(request);
 
-        // 1. 헤더에서 토큰을 성공적으로 추출했고, 토큰이 유효하다면
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-            // 2. 토큰에서 인증 정보를 추출합니다.
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            // 3. (가장 중요) SecurityContextHolder에 인증 정보를 저장합니다.
+        // 1. 헤더에서 토큰을 성공적으로 추출했다면, 한 번만 파싱·검증하여 인증 정보를 얻습니다.
+        if (StringUtils.hasText(token)) {
+            // 2. (가장 중요) 토큰이 유효하면 SecurityContextHolder에 인증 정보를 저장합니다.
             // 이렇게 해야 컨트롤러나 서비스에서 @AuthenticationPrincipal 등으로 현재 사용자 정보를 가져올 수 있습니다.
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+            jwtTokenProvider.authenticate(token)
+                    .ifPresent(authentication -> SecurityContextHolder.getContext().setAuthentication(authentication));
         }
 
         filterChain.doFilter(request, response);
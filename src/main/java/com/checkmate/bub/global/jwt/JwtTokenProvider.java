@@ -1,6 +1,8 @@
 package com.checkmate.bub.global.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -16,19 +18,24 @@ import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Optional;
 
 // JWT 토큰을 생성하고, 검증하고, 정보를 추출하는 역할을 하는 핵심 클래스입니다.
 @Component
 public class JwtTokenProvider {
 
     private final SecretKey key;
+    // 파서는 불변·스레드 안전하므로 한 번만 만들어 재사용
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final long accessTokenValidityInMilliseconds;
     private final long refreshTokenValidityInMilliseconds;
 
     // application.yml에 정의된 시크릿 키와 만료 시간을 주입받습니다.
     public JwtTokenProvider(@Value("${jwt.secret}") String secretKey,
                             @Value("${jwt.access-token-expiration-in-seconds}") long accessTokenExpiration,
-                            @Value("${jwt.refresh-token-expiration-in-seconds}") long refreshTokenExpiration) {
+                            @Value("${jwt.refresh-token-expiration-in-seconds}") long refreshTokenExpiration,
+                            VerifiedTokenCache verifiedTokenCache) {
         if (secretKey.getBytes(StandardCharsets.UTF_8).length < 32) {
             throw new IllegalArgumentException("JWT secret key must be at least 256 bits");
         }
@@ -37,6 +44,8 @@ public class JwtTokenProvider {
         }
 
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.verifiedTokenCache = verifiedTokenCache;
         this.accessTokenValidityInMilliseconds = accessTokenExpiration * 1000;
         this.refreshTokenValidityInMilliseconds = refreshTokenExpiration * 1000;
     }
@@ -71,18 +80,40 @@ public class JwtTokenProvider {
     }
 
     /**
-     * 주어진 JWT가 유효한지 검증합니다.
+     * JWT를 한 번만 파싱·검증하여 인증 정보를 만듭니다.
+     * 이전에 검증한 토큰이 아직 만료되지 않았다면 VerifiedTokenCache에서 주체를 꺼내 파싱을 건너뜁니다.
      * @param token 검증할 JWT 문자열
-     * @return 유효하면 true, 아니면 false
+     * @return 유효하면 Spring Security가 사용할 인증 정보, 아니면 빈 값
      */
-    public boolean validateToken(String token) {
+    public Optional<Authentication> authenticate(String token) {
+        long now = System.currentTimeMillis();
+        VerifiedTokenCache.VerifiedToken cached = verifiedTokenCache.get(token, now);
+        if (cached != null) {
+            return Optional.of(toAuthentication(cached.subject()));
+        }
+
+        Claims claims;
         try {
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
-            return true;
+            claims = parser.parseSignedClaims(token).getPayload();
         } catch (Exception e) {
             // 토큰이 만료되었거나, 서명이 잘못되었거나 등등...
-            return false;
+            return Optional.empty();
+        }
+
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            verifiedTokenCache.put(token, new VerifiedTokenCache.VerifiedToken(claims.getSubject(), expiration.getTime()));
         }
+        return Optional.of(toAuthentication(claims.getSubject()));
+    }
+
+    /**
+     * 주어진 JWT가 유효한지 검증합니다.
+     * @param token 검증할 JWT 문자열
+     * @return 유효하면 true, 아니면 false
+     */
+    public boolean validateToken(String token) {
+        return authenticate(token).isPresent();
     }
 
     /**
@@ -91,9 +122,10 @@ public class JwtTokenProvider {
      * @return Spring Security가 사용할 인증 정보
      */
     public Authentication getAuthentication(String token) {
-        Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
-        String userId = claims.getSubject();
+        return authenticate(token).orElseThrow(() -> new JwtException("유효하지 않은 JWT입니다."));
+    }
 
+    private Authentication toAuthentication(String userId) {
         //todo: 사용자 역할 정보 조회 로직 추가
         Collection<? extends GrantedAuthority> authorities = Collections.emptyList();
 
@@ -0,0 +1,97 @@
+package com.checkmate.bub.global.jwt;
+
+import com.checkmate.bub.global.cache.BoundedCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * 서명 검증을 마친 토큰의 주체(subject)를 만료 시각까지 보관하는 캐시
+ * 같은 쿠키로 반복되는 요청(화면, 정적 리소스)은 JWT 파싱과 서명 검증을 건너뜁니다.
+ *
+ * 키는 토큰 원문 대신 SHA-256 다이제스트를 사용하여 메모리에 토큰 자체를 남기지 않습니다.
+ * 최대 항목 수(max-entries)를 넘으면 BoundedCache 정책으로 밀어내고, 각 항목은 토큰 만료 시각에 맞춰 만료됩니다.
+ * 조회·저장에 전역 잠금이 없어, 모든 인증 요청이 거치는 경로에서 경합하지 않습니다.
+ * 로그아웃은 쿠키만 지우는 방식이라(서버 측 폐기 목록 없음) 만료 전까지 캐시해도 토큰의 유효 범위는 바뀌지 않습니다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final boolean enabled;
+    private final Cache<String, VerifiedToken> tokens;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * @param subject   토큰의 주체 (User ID)
+     * @param expiresAt 토큰 만료 시각 (epoch millis)
+     */
+    public record VerifiedToken(String subject, long expiresAt) {
+    }
+
+    public VerifiedTokenCache(MeterRegistry meterRegistry,
+                              @Value("${jwt.verified-token-cache.enabled:true}") boolean enabled,
+                              @Value("${jwt.verified-token-cache.max-entries:10000}") int maxEntries) {
+        this.enabled = enabled;
+        this.tokens = BoundedCache.create(meterRegistry, "jwt.verified_token_cache.size", maxEntries,
+                builder -> builder.expireAfter(Expiry.creating(
+                        (String digest, VerifiedToken verified) -> Duration.ofMillis(Math.max(0, verified.expiresAt() - System.currentTimeMillis())))));
+        this.hits = lookupCounter(meterRegistry, "hit");
+        this.misses = lookupCounter(meterRegistry, "miss");
+    }
+
+    /**
+     * 검증된 적이 있고 아직 만료되지 않은 토큰이면 그 정보를, 아니면 null을 반환합니다.
+     */
+    public VerifiedToken get(String token, long now) {
+        if (!enabled) {
+            return null;
+        }
+        String digest = digest(token);
+        VerifiedToken verified = tokens.getIfPresent(digest);
+        // 만료 정리 시점과 관계없이 호출부가 준 현재 시각 기준으로 한 번 더 확인
+        if (verified != null && verified.expiresAt() <= now) {
+            tokens.asMap().remove(digest, verified);
+            verified = null;
+        }
+        (verified != null ? hits : misses).increment();
+        return verified;
+    }
+
+    public void put(String token, VerifiedToken verified) {
+        if (!enabled) {
+            return;
+        }
+        tokens.put(digest(token), verified);
+    }
+
+    public long size() {
+        return tokens.estimatedSize();
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 지원해야 함
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("jwt.verified_token_cache.lookups")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
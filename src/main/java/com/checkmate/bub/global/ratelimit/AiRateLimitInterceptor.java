@@ -0,0 +1,116 @@
+package com.checkmate.bub.global.ratelimit;
+
+import com.checkmate.bub.global.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Clova를 호출하는 엔드포인트에 사용자별 요청 한도를 적용합니다.
+ * 새로고침 연타 한 사람이 Clova 요청 한도(429)를 모두에게서 빼앗지 않도록, 사용자 ID(JWT subject)마다 토큰 버킷을 둡니다.
+ * LLM(확언 생성)과 STT(음성 인식)는 버킷을 따로 씁니다. 적용 경로는 WebMvcConfig에서 등록합니다.
+ */
+@Component
+@Slf4j
+public class AiRateLimitInterceptor implements HandlerInterceptor {
+
+    public static final String BUCKET_LLM = "llm";
+    public static final String BUCKET_STT = "stt";
+
+    private static final String STT_PATH_PREFIX = "/api/v1/speech/";
+    private static final String USER_CATEGORY_PATH_PREFIX = "/api/users/me/categories/";
+
+    private final boolean enabled;
+    private final TokenBucketRateLimiter llmLimiter;
+    private final TokenBucketRateLimiter sttLimiter;
+
+    private final Counter llmRejected;
+    private final Counter sttRejected;
+
+    public AiRateLimitInterceptor(MeterRegistry meterRegistry,
+                                  @Value("${ai.rate-limit.enabled:true}") boolean enabled,
+                                  @Value("${ai.rate-limit.llm.capacity:10}") int llmCapacity,
+                                  @Value("${ai.rate-limit.llm.refill-per-minute:6}") int llmRefillPerMinute,
+                                  @Value("${ai.rate-limit.stt.capacity:20}") int sttCapacity,
+                                  @Value("${ai.rate-limit.stt.refill-per-minute:20}") int sttRefillPerMinute) {
+        this.enabled = enabled;
+        this.llmLimiter = new TokenBucketRateLimiter(llmCapacity, TimeUnit.MINUTES.toNanos(1) / llmRefillPerMinute);
+        this.sttLimiter = new TokenBucketRateLimiter(sttCapacity, TimeUnit.MINUTES.toNanos(1) / sttRefillPerMinute);
+        this.llmRejected = rejectedCounter(meterRegistry, BUCKET_LLM);
+        this.sttRejected = rejectedCounter(meterRegistry, BUCKET_STT);
+        registerOccupancyGauges(meterRegistry, BUCKET_LLM, llmLimiter);
+        registerOccupancyGauges(meterRegistry, BUCKET_STT, sttLimiter);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기 응답(Mono/Flux) 완료 후 재디스패치될 때는 이미 차감했으므로 건너뜀
+        if (!enabled || request.getDispatcherType() == DispatcherType.ASYNC || !isLimited(request)) {
+            return true;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return true;  // 인증 여부는 Spring Security가 처리
+        }
+
+        String userId = authentication.getName();
+        boolean stt = request.getRequestURI().startsWith(STT_PATH_PREFIX);
+        long waitNanos = (stt ? sttLimiter : llmLimiter).tryAcquire(userId);
+        if (waitNanos == 0) {
+            return true;
+        }
+
+        (stt ? sttRejected : llmRejected).increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        log.warn("요청 한도 초과 - userId: {}, bucket: {}, uri: {}, retryAfter: {}s",
+                userId, stt ? BUCKET_STT : BUCKET_LLM, request.getRequestURI(), retryAfterSeconds);
+        throw new RateLimitExceededException("요청이 너무 잦습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.", retryAfterSeconds);
+    }
+
+    /**
+     * 오래 요청이 없어 버킷이 가득 찬 사용자를 정리해 메모리 사용량을 활성 사용자 수에 맞춥니다.
+     */
+    @Scheduled(fixedDelayString = "${ai.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        llmLimiter.evictIdle();
+        sttLimiter.evictIdle();
+    }
+
+    // 카테고리 조회(GET)는 Clova를 호출하지 않으므로 변경(PUT)만 제한
+    private boolean isLimited(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(USER_CATEGORY_PATH_PREFIX)
+                || HttpMethod.PUT.matches(request.getMethod());
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String bucket) {
+        return Counter.builder("ai.rate_limiter.rejected")
+                .tag("bucket", bucket)
+                .register(meterRegistry);
+    }
+
+    private static void registerOccupancyGauges(MeterRegistry meterRegistry, String bucket, TokenBucketRateLimiter limiter) {
+        Gauge.builder("ai.rate_limiter.tracked_users", limiter, TokenBucketRateLimiter::trackedKeys)
+                .tag("bucket", bucket)
+                .register(meterRegistry);
+        Gauge.builder("ai.rate_limiter.exhausted_users", limiter, TokenBucketRateLimiter::exhaustedKeys)
+                .tag("bucket", bucket)
+                .register(meterRegistry);
+        Gauge.builder("ai.rate_limiter.average_fill_ratio", limiter, TokenBucketRateLimiter::averageFillRatio)
+                .tag("bucket", bucket)
+                .register(meterRegistry);
+    }
+}
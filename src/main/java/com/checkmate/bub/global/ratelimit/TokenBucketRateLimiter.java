@@ -0,0 +1,91 @@
+package com.checkmate.bub.global.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키(사용자 ID)별 토큰 버킷 요청 제한기
+ * 버킷 하나를 "다음 토큰이 생기는 이론상 시각(TAT)" long 값 하나로 표현하는 GCRA 방식이라, 잠금 없이 CAS 한 번으로 판정합니다.
+ * - capacity: 한 번에 허용하는 최대 연속 요청 수
+ * - refillIntervalNanos: 토큰 1개가 다시 채워지는 데 걸리는 시간
+ */
+public class TokenBucketRateLimiter {
+
+    private final int capacity;
+    private final long refillIntervalNanos;
+    private final long burstNanos;
+    private final LongSupplier nanoClock;
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    public TokenBucketRateLimiter(int capacity, long refillIntervalNanos) {
+        this(capacity, refillIntervalNanos, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(int capacity, long refillIntervalNanos, LongSupplier nanoClock) {
+        this.capacity = capacity;
+        this.refillIntervalNanos = refillIntervalNanos;
+        this.burstNanos = capacity * refillIntervalNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 토큰 1개를 꺼냅니다. 허용되면 0, 거절되면 다음 토큰까지 기다려야 하는 시간(나노초)을 반환합니다.
+     */
+    public long tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        // TAT가 현재 시각 이전이면 버킷이 가득 찬 상태
+        AtomicLong theoreticalArrival = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = (current - now > 0 ? current : now) + refillIntervalNanos;
+            long waitNanos = next - now - burstNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 버킷이 가득 찬(오래 요청이 없던) 키를 제거합니다. 제거된 키는 다음 요청 때 가득 찬 버킷으로 다시 시작하므로 동작은 같습니다.
+     */
+    public void evictIdle() {
+        long now = nanoClock.getAsLong();
+        buckets.entrySet().removeIf(entry -> entry.getValue().get() - now <= 0);
+    }
+
+    public int trackedKeys() {
+        return buckets.size();
+    }
+
+    /**
+     * 토큰이 하나도 없어 지금 요청하면 거절될 키 수
+     */
+    public long exhaustedKeys() {
+        long now = nanoClock.getAsLong();
+        return buckets.values().stream()
+                .filter(tat -> tat.get() - now + refillIntervalNanos > burstNanos)
+                .count();
+    }
+
+    /**
+     * 추적 중인 버킷들의 평균 잔여 토큰 비율 (0.0 ~ 1.0, 추적 중인 키가 없으면 1.0)
+     */
+    public double averageFillRatio() {
+        long now = nanoClock.getAsLong();
+        return buckets.values().stream()
+                .mapToDouble(tat -> remainingTokens(tat.get(), now) / capacity)
+                .average()
+                .orElse(1.0);
+    }
+
+    private double remainingTokens(long theoreticalArrival, long now) {
+        long used = Math.max(0, theoreticalArrival - now);
+        return Math.max(0, (double) (burstNanos - used) / refillIntervalNanos);
+    }
+}
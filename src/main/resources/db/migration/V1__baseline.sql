@@ -0,0 +1,103 @@
+-- 기준 스키마 (Flyway 도입 이전에 Hibernate가 만들던 스키마 그대로)
+-- 이미 테이블이 있는 DB(운영·dev)는 baseline-on-migrate로 버전 1에 기준선만 기록되고 이 스크립트는 실행되지 않습니다.
+-- 빈 DB에서만 실행됩니다.
+
+CREATE TABLE affirmation (
+    affirmation_id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    created_at     TIMESTAMP(6),
+    updated_at     TIMESTAMP(6),
+    content        TEXT NOT NULL,
+    created_by     VARCHAR(255),
+    modified_by    VARCHAR(255),
+    PRIMARY KEY (affirmation_id)
+);
+
+CREATE TABLE category (
+    category_id   BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    created_at    TIMESTAMP(6),
+    updated_at    TIMESTAMP(6),
+    category_type VARCHAR(255) CHECK (category_type IN ('PROBLEM', 'TONE')),
+    created_by    VARCHAR(255),
+    modified_by   VARCHAR(255),
+    name          VARCHAR(255),
+    PRIMARY KEY (category_id),
+    CONSTRAINT idx_category_type_name UNIQUE (category_type, name)
+);
+
+CREATE TABLE affirmation_category_bridge (
+    affirmation_id BIGINT NOT NULL,
+    category_id    BIGINT NOT NULL,
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_affirmation_category UNIQUE (affirmation_id, category_id)
+);
+
+CREATE TABLE bookmark (
+    created_at    TIMESTAMP(6),
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    updated_at    TIMESTAMP(6),
+    sentence      VARCHAR(1000) NOT NULL,
+    tone          VARCHAR(255)  NOT NULL,
+    user_nickname VARCHAR(255)  NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE (user_nickname, sentence)
+);
+
+CREATE TABLE custom_sentence (
+    created_at    TIMESTAMP(6),
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    updated_at    TIMESTAMP(6),
+    sentence      VARCHAR(1000) NOT NULL,
+    user_nickname VARCHAR(255)  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE custom_sentences (
+    created_at    TIMESTAMP(6),
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    updated_at    TIMESTAMP(6),
+    sentence      VARCHAR(1000) NOT NULL,
+    tone          VARCHAR(255)  NOT NULL,
+    user_nickname VARCHAR(255)  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE users (
+    date_of_birth     DATE,
+    created_at        TIMESTAMP(6),
+    kakao_id          BIGINT NOT NULL UNIQUE,
+    updated_at        TIMESTAMP(6),
+    user_id           BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    profile_image_url VARCHAR(500),
+    created_by        VARCHAR(255),
+    email             VARCHAR(255),
+    gender            VARCHAR(255),
+    interest          VARCHAR(255),
+    job_group         VARCHAR(255),
+    modified_by       VARCHAR(255),
+    nickname          VARCHAR(255) NOT NULL,
+    PRIMARY KEY (user_id)
+);
+
+CREATE TABLE user_category_bridge (
+    category_id BIGINT,
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id     BIGINT,
+    PRIMARY KEY (id),
+    UNIQUE (user_id, category_id)
+);
+
+CREATE TABLE user_history (
+    affirmation_id  BIGINT,
+    user_history_id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id         BIGINT NOT NULL,
+    viewed_at       TIMESTAMP(6),
+    PRIMARY KEY (user_history_id)
+);
+
+ALTER TABLE affirmation_category_bridge ADD CONSTRAINT fk83tutm730iwqgxj6q89ux9q4f FOREIGN KEY (affirmation_id) REFERENCES affirmation;
+ALTER TABLE affirmation_category_bridge ADD CONSTRAINT fkmj3ep0qubbbk4y90y9pn54qwl FOREIGN KEY (category_id) REFERENCES category;
+ALTER TABLE user_category_bridge ADD CONSTRAINT fkmgerrq2kly50jhkt8qkxxmve2 FOREIGN KEY (category_id) REFERENCES category;
+ALTER TABLE user_category_bridge ADD CONSTRAINT fkps43eq807hg121s0khprnm381 FOREIGN KEY (user_id) REFERENCES users;
+ALTER TABLE user_history ADD CONSTRAINT fkn1vy8p5rs43rnk01wh2ix1ayl FOREIGN KEY (affirmation_id) REFERENCES affirmation;
+ALTER TABLE user_history ADD CONSTRAINT fk9g8tc0ay8s6bd1qwu413m9jir FOREIGN KEY (user_id) REFERENCES users;
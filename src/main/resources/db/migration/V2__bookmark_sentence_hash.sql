@@ -0,0 +1,54 @@
+-- 북마크 문장 다이제스트 컬럼 추가
+-- 문장(최대 1000자) 원문에 걸린 유니크 인덱스 대신 고정 길이 SHA-256(hex 64자)로 (user_nickname, sentence_hash)를 인덱싱합니다.
+--
+-- 기존 행의 백필을 id 구간 단위로 커밋하도록 트랜잭션 밖에서 실행합니다(V2__bookmark_sentence_hash.sql.conf).
+-- 중간에 실패해도 모든 문장이 다시 실행 가능하므로, 원인을 고친 뒤 flyway repair 후 재시도하면 됩니다.
+
+ALTER TABLE bookmark ADD COLUMN IF NOT EXISTS sentence_hash VARCHAR(64);
+
+-- 엔티티(Bookmark.hashSentence)와 같은 값: UTF-8 바이트의 SHA-256, 소문자 hex
+DO $$
+DECLARE
+    batch_size CONSTANT BIGINT := 1000;
+    last_id BIGINT := 0;
+    max_id BIGINT;
+BEGIN
+    SELECT COALESCE(MAX(id), 0) INTO max_id FROM bookmark;
+    WHILE last_id < max_id LOOP
+        UPDATE bookmark
+        SET sentence_hash = encode(sha256(convert_to(sentence, 'UTF8')), 'hex')
+        WHERE id > last_id
+          AND id <= last_id + batch_size
+          AND sentence_hash IS NULL;
+        last_id := last_id + batch_size;
+        COMMIT;
+    END LOOP;
+END $$;
+
+ALTER TABLE bookmark ALTER COLUMN sentence_hash SET NOT NULL;
+
+-- 문장 원문 기준 유니크 제약 제거 (자동 생성된 이름이므로 컬럼 구성으로 찾음)
+DO $$
+DECLARE
+    constraint_name TEXT;
+BEGIN
+    SELECT c.conname INTO constraint_name
+    FROM pg_constraint c
+    WHERE c.conrelid = 'bookmark'::regclass
+      AND c.contype = 'u'
+      AND (SELECT array_agg(a.attname::TEXT ORDER BY a.attname)
+           FROM pg_attribute a
+           WHERE a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)) = ARRAY['sentence', 'user_nickname'];
+    IF constraint_name IS NOT NULL THEN
+        EXECUTE format('ALTER TABLE bookmark DROP CONSTRAINT %I', constraint_name);
+    END IF;
+END $$;
+
+-- Flyway 도입 전 Hibernate(ddl-auto: update)로 관리하던 DB에 이미 있는 제약은 건너뜀
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint
+                   WHERE conrelid = 'bookmark'::regclass AND conname = 'uk_bookmark_user_sentence_hash') THEN
+        ALTER TABLE bookmark ADD CONSTRAINT uk_bookmark_user_sentence_hash UNIQUE (user_nickname, sentence_hash);
+    END IF;
+END $$;
@@ -0,0 +1,18 @@
+-- 문제별 톤 예시 문장 (문제 × 톤 당 한 행)
+-- ToneExampleRepository.upsertAll의 ON CONFLICT (problem_id, tone)가 유니크 인덱스를 필요로 합니다.
+-- Flyway 도입 전 Hibernate(ddl-auto: update)가 테이블을 만들어 둔 DB(V1은 기준선으로만 기록됨)에서는 건너뜁니다.
+
+CREATE TABLE IF NOT EXISTS tone_example (
+    created_at      TIMESTAMP(6),
+    problem_id      BIGINT      NOT NULL,
+    tone_example_id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    updated_at      TIMESTAMP(6),
+    tone            VARCHAR(20) NOT NULL,
+    created_by      VARCHAR(255),
+    modified_by     VARCHAR(255),
+    sentence        TEXT        NOT NULL,
+    PRIMARY KEY (tone_example_id),
+    CONSTRAINT fk8t73wbqgocux2jsdm761a564s FOREIGN KEY (problem_id) REFERENCES category
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_tone_example_problem_tone ON tone_example (problem_id, tone);
@@ -0,0 +1,23 @@
+-- user_category_bridge.id를 IDENTITY 대신 pooled 시퀀스(allocationSize 50)로 발급
+-- 한 번에 50개씩 id를 받아 여러 행을 JDBC 배치 INSERT로 묶을 수 있게 합니다.
+--
+-- Hibernate pooled 옵티마이저는 시퀀스 값을 구간의 끝으로 보고 (값 - 49) ~ 값을 씁니다.
+-- 그래서 START WITH max(id) + 50으로 두어야 첫 구간이 기존 최대 id 바로 다음(max(id) + 1)부터 시작합니다.
+
+DO $$
+DECLARE
+    max_id BIGINT;
+BEGIN
+    SELECT COALESCE(MAX(id), 0) INTO max_id FROM user_category_bridge;
+    IF NOT EXISTS (SELECT 1 FROM pg_class WHERE relkind = 'S' AND relname = 'user_category_bridge_seq'
+                   AND relnamespace = current_schema()::regnamespace) THEN
+        EXECUTE format('CREATE SEQUENCE user_category_bridge_seq INCREMENT BY 50 START WITH %s', max_id + 50);
+    ELSE
+        -- Flyway 도입 전 Hibernate(ddl-auto: update)가 만들어 둔 시퀀스가 있는 경우: 이미 나눠 준 구간과 기존 행 뒤로 옮김
+        EXECUTE format('ALTER SEQUENCE user_category_bridge_seq INCREMENT BY 50 RESTART WITH %s',
+                       GREATEST(max_id, (SELECT last_value FROM user_category_bridge_seq)) + 50);
+    END IF;
+END $$;
+
+-- id는 애플리케이션이 시퀀스에서 받아 넣으므로 IDENTITY 자동 생성은 제거
+ALTER TABLE user_category_bridge ALTER COLUMN id DROP IDENTITY IF EXISTS;
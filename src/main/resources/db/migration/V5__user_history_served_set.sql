@@ -0,0 +1,10 @@
+-- 오늘 받은 확언 세트 재사용: 함께 제공된 세트의 식별자, 세트 안 슬롯 순번, 세트를 만들 때의 문제·톤 선택
+-- 이전 기록은 값이 비어 있어 재사용 대상이 되지 않으며, 다음 요청에서 새 세트가 만들어집니다.
+ALTER TABLE user_history ADD COLUMN IF NOT EXISTS set_id VARCHAR(36);
+ALTER TABLE user_history ADD COLUMN IF NOT EXISTS slot_index INTEGER;
+ALTER TABLE user_history ADD COLUMN IF NOT EXISTS selection_key VARCHAR(255);
+
+-- 오늘 본 확언 조회(사용자별 viewed_at 범위 검색)용 인덱스
+-- 운영 테이블의 쓰기를 막지 않도록 CONCURRENTLY로 만들며, 그래서 이 스크립트는 트랜잭션 밖에서 실행합니다 (.conf).
+-- Flyway 도입 전부터 있던 DB에 같은 인덱스가 이미 있으면 건너뜁니다.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_user_history_user_viewed_at ON user_history (user_id, viewed_at);
@@ -91,14 +91,15 @@ const API_URL = '/api/v1/affirmations/tone-examples'; // 사용자가 선택한
 // 아래가 서버 전송용 함수
 // ========================
 async function postSurvey(partial){
-  const res = await fetch(API_URL, {
+  const body = JSON.stringify(partial);
+  const res = await fetchIdempotent(API_URL, {
     method: 'POST',
     headers: {
       'Content-Type': 'application/json',
       'X-Requested-With': 'XMLHttpRequest'
     },
     credentials: 'same-origin',
-    body: JSON.stringify(partial)
+    body
   });
   if (!res.ok) {
     const msg = await res.text().catch(()=> 'server error');
@@ -72,7 +72,8 @@ document.addEventListener('DOMContentLoaded', () => {
     const CSRF = document.querySelector('meta[name="csrf-token"]')?.content;
 
     try{
-      const res = await fetch(SAVE_ENDPOINT, {
+      const body = JSON.stringify({ categoryIds: filtered });
+      const res = await fetchIdempotent(SAVE_ENDPOINT, {
         method: 'PUT',
         credentials: 'include',
         headers: {
@@ -80,7 +81,7 @@ document.addEventListener('DOMContentLoaded', () => {
           'X-Requested-With': 'XMLHttpRequest',
           ...(CSRF ? {'X-CSRF-Token': CSRF} : {})
         },
-        body: JSON.stringify({ categoryIds: filtered })
+        body
       });
       if (!res.ok) throw new Error('HTTP ' + res.status);
 
@@ -75,7 +75,8 @@ document.addEventListener('DOMContentLoaded', () => {
     const CSRF = document.querySelector('meta[name="csrf-token"]')?.content;
 
     try {
-      const res = await fetch(SAVE_ENDPOINT, {
+      const body = JSON.stringify({ toneName });
+      const res = await fetchIdempotent(SAVE_ENDPOINT, {
         method: 'PUT',
         credentials: 'include',
         headers: {
@@ -83,7 +84,7 @@ document.addEventListener('DOMContentLoaded', () => {
           'X-Requested-With': 'XMLHttpRequest',
           ...(CSRF ? { 'X-CSRF-Token': CSRF } : {})
         },
-        body: JSON.stringify({ toneName })
+        body
       });
 
       if (!res.ok) throw new Error('HTTP ' + res.status);
@@ -0,0 +1,32 @@
+// AI 생성이 일어나는 요청(톤 예시 생성, 문제·톤 변경)에 공통으로 쓰는 Idempotency-Key 처리
+
+// 응답을 받기 전에 같은 내용을 다시 보내면(재시도) 같은 Idempotency-Key를 사용해 서버가 AI 생성을 중복 실행하지 않도록 함
+function idempotencyKeyFor(body){
+  const storageKey = 'idempotency_key:' + body;
+  let key = sessionStorage.getItem(storageKey);
+  if (!key) {
+    key = (crypto.randomUUID ? crypto.randomUUID() : Date.now() + '-' + Math.random().toString(36).slice(2));
+    sessionStorage.setItem(storageKey, key);
+  }
+  return key;
+}
+
+// 응답을 받았으면 다음 제출은 새 요청이므로 키를 버림
+function clearIdempotencyKey(body){
+  sessionStorage.removeItem('idempotency_key:' + body);
+}
+
+// Idempotency-Key를 붙여 요청하고, 같은 키의 이전 요청이 아직 처리 중이면(409) Retry-After만큼 기다렸다가 다시 보냄
+async function fetchIdempotent(url, options, maxAttempts = 30){
+  const storageKey = url + options.body;
+  const headers = { ...options.headers, 'Idempotency-Key': idempotencyKeyFor(storageKey) };
+  let res;
+  for (let attempt = 1; attempt <= maxAttempts; attempt++) {
+    res = await fetch(url, { ...options, headers });
+    if (res.status !== 409 || attempt === maxAttempts) break;
+    const retryAfterSeconds = Number(res.headers.get('Retry-After')) || 1;
+    await new Promise(resolve => setTimeout(resolve, retryAfterSeconds * 1000));
+  }
+  if (res.ok) clearIdempotencyKey(storageKey);
+  return res;
+}
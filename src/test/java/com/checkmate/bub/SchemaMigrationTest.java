@@ -0,0 +1,98 @@
+package com.checkmate.bub;
+
+import com.checkmate.bub.domain.bookmark.domain.Bookmark;
+import com.checkmate.bub.support.PostgresDataJpaTest;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * db/migration 스크립트가 빈 DB와 기준 스키마(V1)만 있는 기존 DB 모두에 끝까지 적용되는지 검증합니다.
+ */
+@PostgresDataJpaTest
+class SchemaMigrationTest {
+
+    private static final String LEGACY_SCHEMA = "legacy";
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Test
+    void emptyDatabaseIsMigratedToLatestVersion() {
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().current()).isNotNull();
+    }
+
+    // V2는 트랜잭션 밖에서 배치 단위로 커밋하므로 테스트 트랜잭션 없이 실행
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void existingBookmarksAreBackfilledBeforeDigestBecomesRequired() {
+        List<String> sentences = List.of("나는 오늘도 충분히 잘하고 있어.", "I am enough.", "나는 불안 속에서도 한 걸음씩 나아가고 있어.");
+        migrateFromBaseline(() -> {
+            for (String sentence : sentences) {
+                jdbc.update("INSERT INTO legacy.bookmark (user_nickname, sentence, tone) VALUES (?, ?, 'Joy')", "tester", sentence);
+            }
+        });
+
+        List<Map<String, Object>> rows = jdbc.queryForList("SELECT sentence, sentence_hash FROM legacy.bookmark");
+        assertThat(rows).hasSize(sentences.size()).allSatisfy(row ->
+                assertThat(row.get("sentence_hash")).isEqualTo(Bookmark.hashSentence((String) row.get("sentence"))));
+        // 다이제스트는 필수, 같은 문장 중복은 다이제스트 유니크 제약으로 막힘
+        assertThatThrownBy(() -> jdbc.update(
+                "INSERT INTO legacy.bookmark (user_nickname, sentence, tone) VALUES ('tester', 'x', 'Joy')"))
+                .hasMessageContaining("sentence_hash");
+        assertThatThrownBy(() -> jdbc.update(
+                "INSERT INTO legacy.bookmark (user_nickname, sentence, sentence_hash, tone) VALUES (?, ?, ?, 'Joy')",
+                "tester", sentences.get(0), Bookmark.hashSentence(sentences.get(0))))
+                .hasMessageContaining("uk_bookmark_user_sentence_hash");
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void userCategoryBridgeSequenceHandsOutIdsAfterExistingRows() {
+        migrateFromBaseline(() -> {
+            jdbc.update("INSERT INTO legacy.users (kakao_id, nickname) VALUES (1, 'tester')");
+            jdbc.update("INSERT INTO legacy.category (category_type, name) VALUES ('PROBLEM', '문제 1'), ('PROBLEM', '문제 2')");
+            jdbc.update("INSERT INTO legacy.user_category_bridge (user_id, category_id) SELECT user_id, category_id FROM legacy.users, legacy.category");
+        });
+
+        Long maxId = jdbc.queryForObject("SELECT MAX(id) FROM legacy.user_category_bridge", Long.class);
+        Long next = jdbc.queryForObject("SELECT nextval('legacy.user_category_bridge_seq')", Long.class);
+        // pooled 옵티마이저는 (next - 49) ~ next 구간을 씀
+        assertThat(next - 49).isEqualTo(maxId + 1);
+    }
+
+    /**
+     * 별도 스키마(legacy)에 기준 스키마(V1)만 만든 뒤 seed로 기존 데이터를 넣고 나머지 마이그레이션을 적용합니다.
+     */
+    private void migrateFromBaseline(Runnable seed) {
+        Flyway legacy = Flyway.configure()
+                .dataSource(dataSource)
+                .schemas(LEGACY_SCHEMA)
+                .cleanDisabled(false)
+                // 애플리케이션 설정과 같이 세션 잠금 사용 (CREATE INDEX CONCURRENTLY)
+                .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+                .load();
+        legacy.clean();
+        Flyway.configure().configuration(legacy.getConfiguration()).target("1").load().migrate();
+
+        seed.run();
+        legacy.migrate();
+    }
+}
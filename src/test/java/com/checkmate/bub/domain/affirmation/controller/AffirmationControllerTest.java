@@ -0,0 +1,117 @@
+package com.checkmate.bub.domain.affirmation.controller;
+
+import com.checkmate.bub.domain.affirmation.dto.MainAffirmationResponseDto;
+import com.checkmate.bub.domain.affirmation.service.AffirmationJobService;
+import com.checkmate.bub.domain.affirmation.service.AffirmationService;
+import com.checkmate.bub.global.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Mono/Flux를 반환하는 엔드포인트가 비동기 재디스패치(ASYNC)에서도 인증을 통과해 응답을 돌려주는지 검증합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AffirmationControllerTest {
+
+    private static final long USER_ID = 1L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockitoBean
+    private AffirmationService affirmationService;
+
+    @MockitoBean
+    private AffirmationJobService affirmationJobService;
+
+    @Test
+    void mainAffirmationIsReturnedAfterAsyncDispatch() throws Exception {
+        MainAffirmationResponseDto response = MainAffirmationResponseDto.builder()
+                .affirmation1("나는 오늘도 충분히 잘하고 있어.")
+                .build();
+        when(affirmationService.generateMainAffirmationAsync(eq(USER_ID), anyBoolean()))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        MvcResult started = mockMvc.perform(get("/api/v1/affirmations/main")
+                        .header("Authorization", "Bearer " + jwtTokenProvider.createAccessToken(USER_ID)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affirmation1").value("나는 오늘도 충분히 잘하고 있어."));
+    }
+
+    @Test
+    void streamServesRunningRegenerationInsteadOfStartingNewOne() throws Exception {
+        CompletableFuture<MainAffirmationResponseDto> running = new CompletableFuture<>();
+        when(affirmationJobService.findRunning(USER_ID)).thenReturn(running);
+        when(affirmationService.streamRunningAffirmation(USER_ID, running)).thenReturn(Flux.empty());
+
+        mockMvc.perform(get("/api/v1/affirmations/main/stream")
+                        .header("Authorization", "Bearer " + jwtTokenProvider.createAccessToken(USER_ID)))
+                .andExpect(request().asyncStarted());
+
+        verify(affirmationService).streamRunningAffirmation(USER_ID, running);
+        verify(affirmationService, never()).streamMainAffirmation(eq(USER_ID), anyBoolean());
+    }
+
+    @Test
+    void rateLimitedStreamGetsRetryAfterWithoutJsonBody() throws Exception {
+        // 다른 테스트와 버킷을 나누도록 별도 사용자로 요청 한도(기본 10회)를 모두 사용
+        long userId = 2L;
+        when(affirmationService.streamMainAffirmation(eq(userId), anyBoolean())).thenReturn(Flux.empty());
+        String token = jwtTokenProvider.createAccessToken(userId);
+
+        MvcResult rejected = null;
+        for (int i = 0; i < 20 && rejected == null; i++) {
+            MvcResult result = mockMvc.perform(get("/api/v1/affirmations/main/stream")
+                            .header("Authorization", "Bearer " + token)
+                            .accept(MediaType.TEXT_EVENT_STREAM))
+                    .andReturn();
+            if (result.getResponse().getStatus() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                rejected = result;
+            }
+        }
+
+        assertThat(rejected).isNotNull();
+        assertThat(rejected.getResponse().getHeader(HttpHeaders.RETRY_AFTER)).isNotBlank();
+        assertThat(rejected.getResponse().getContentAsString()).isEmpty();
+    }
+
+    @Test
+    void mainAffirmationRequiresAuthentication() throws Exception {
+        mockMvc.perform(get("/api/v1/affirmations/main"))
+                .andExpect(status().isUnauthorized());
+    }
+}
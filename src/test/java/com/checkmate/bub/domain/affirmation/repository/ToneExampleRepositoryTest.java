@@ -0,0 +1,53 @@
+package com.checkmate.bub.domain.affirmation.repository;
+
+import com.checkmate.bub.domain.affirmation.domain.ToneExample;
+import com.checkmate.bub.domain.category.constant.CategoryType;
+import com.checkmate.bub.domain.category.domain.Category;
+import com.checkmate.bub.support.PostgresDataJpaTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 톤 예시 upsert(INSERT ... ON CONFLICT)를 마이그레이션으로 만든 PostgreSQL 스키마에서 실제로 실행해 검증합니다.
+ */
+@PostgresDataJpaTest
+class ToneExampleRepositoryTest {
+
+    @Autowired
+    private ToneExampleRepository toneExampleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void upsertAllInsertsThenOverwritesOneRowPerTone() {
+        Category problem = Category.builder().type(CategoryType.PROBLEM).name("걱정이 많고 불안해요.").build();
+        entityManager.persist(problem);
+        entityManager.flush();
+
+        int inserted = toneExampleRepository.upsertAll(problem.getId(),
+                "Joy", "나는 오늘도 웃으며 나아갈 거야!",
+                "Wednesday", "불안은 소음일 뿐, 나는 할 일을 해낸다.",
+                "Zelda", "저는 용기를 내어 제 길을 걸어가겠습니다.");
+        int updated = toneExampleRepository.upsertAll(problem.getId(),
+                "Joy", "나는 충분해!",
+                "Wednesday", "충분하지. 모자라면 더 하면 돼.",
+                "Zelda", "저는 이미 충분합니다.");
+        entityManager.clear();
+
+        assertThat(inserted).isEqualTo(3);
+        assertThat(updated).isEqualTo(3);
+        Map<String, String> sentences = toneExampleRepository.findAll().stream()
+                .collect(Collectors.toMap(ToneExample::getTone, ToneExample::getSentence));
+        assertThat(sentences).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "Joy", "나는 충분해!",
+                "Wednesday", "충분하지. 모자라면 더 하면 돼.",
+                "Zelda", "저는 이미 충분합니다."));
+    }
+}
@@ -0,0 +1,116 @@
+package com.checkmate.bub.domain.affirmation.service;
+
+import com.checkmate.bub.domain.category.constant.CategoryType;
+import com.checkmate.bub.domain.category.domain.Category;
+import com.checkmate.bub.domain.category.repository.CategoryRepository;
+import com.checkmate.bub.domain.profile.member.domain.User;
+import com.checkmate.bub.domain.profile.member.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 오늘 받은 세트가 저장 순서와 무관하게 슬롯 순서대로 복원되고, 문제·톤 선택이 바뀌면 재사용되지 않는지 검증합니다.
+ * saveServed는 별도 트랜잭션(REQUIRES_NEW)으로 커밋되므로 테스트 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest
+@Import(AffirmationCorpusService.class)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AffirmationCorpusServiceTest {
+
+    @Autowired
+    private AffirmationCorpusService affirmationCorpusService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Long userId;
+    private Category anxiety;
+    private Category regret;
+    private Category joy;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(User.builder().kakaoId(ThreadLocalRandom.current().nextLong()).nickname("tester").build()).getId();
+        // 테스트마다 커밋되어 남으므로 (타입, 이름) 유니크 인덱스에 걸리지 않게 사용자별 이름 사용
+        anxiety = categoryRepository.save(Category.builder().type(CategoryType.PROBLEM).name("걱정이 많고 불안해요. " + userId).build());
+        regret = categoryRepository.save(Category.builder().type(CategoryType.PROBLEM).name("과거를 후회해요. " + userId).build());
+        joy = categoryRepository.save(Category.builder().type(CategoryType.TONE).name("Joy " + userId).build());
+    }
+
+    @Test
+    void todaySetIsRestoredInSlotOrderForSameSelectionOnly() {
+        List<Category> selection = List.of(anxiety, regret);
+        AffirmationCorpusService.ServedSet set = AffirmationCorpusService.ServedSet.start(selection, joy);
+
+        // 코퍼스에서 꺼낸 슬롯과 실시간 생성 슬롯이 따로, 슬롯 순서와 다르게 저장되는 경우
+        affirmationCorpusService.saveServed(userId, set, List.of(2, 0), List.of(anxiety, regret), joy,
+                List.of("나는 세 번째 확언", "나는 첫 번째 확언"));
+        affirmationCorpusService.saveServed(userId, set, List.of(1), List.of(anxiety), joy, List.of("나는 두 번째 확언"));
+
+        assertThat(affirmationCorpusService.findTodaySet(userId, set.selectionKey(), 3))
+                .containsExactly("나는 첫 번째 확언", "나는 두 번째 확언", "나는 세 번째 확언");
+        // 선택한 문제 순서가 달라도 같은 선택
+        assertThat(affirmationCorpusService.findTodaySet(userId,
+                AffirmationCorpusService.ServedSet.selectionKey(List.of(regret, anxiety), joy), 3)).isNotNull();
+        // 문제를 바꾼 뒤에는 재사용하지 않음
+        assertThat(affirmationCorpusService.findTodaySet(userId,
+                AffirmationCorpusService.ServedSet.selectionKey(List.of(anxiety), joy), 3)).isNull();
+    }
+
+    @Test
+    void newerSetWithMissingSlotFallsBackToEarlierCompleteSet() {
+        List<Category> selection = List.of(anxiety);
+        AffirmationCorpusService.ServedSet complete = AffirmationCorpusService.ServedSet.start(selection, joy);
+        affirmationCorpusService.saveServed(userId, complete, List.of(0, 1, 2), List.of(anxiety, anxiety, anxiety), joy,
+                List.of("나는 첫 번째 확언", "나는 두 번째 확언", "나는 세 번째 확언"));
+
+        // 새로 고침한 세트의 한 슬롯이 생성에 실패한 경우, 섞지 않고 오늘의 이전 완전한 세트를 그대로 제공
+        AffirmationCorpusService.ServedSet partial = AffirmationCorpusService.ServedSet.start(selection, joy);
+        affirmationCorpusService.saveServed(userId, partial, List.of(0, 1, 2), List.of(anxiety, anxiety, anxiety), joy,
+                Arrays.asList("나는 새 첫 번째 확언", null, "나는 새 세 번째 확언"));
+
+        assertThat(affirmationCorpusService.findTodaySet(userId, partial.selectionKey(), 3))
+                .containsExactly("나는 첫 번째 확언", "나는 두 번째 확언", "나는 세 번째 확언");
+    }
+
+    @Test
+    void onlyIncompleteSetTodayIsNotReused() {
+        AffirmationCorpusService.ServedSet partial = AffirmationCorpusService.ServedSet.start(List.of(anxiety), joy);
+        affirmationCorpusService.saveServed(userId, partial, List.of(0, 2), List.of(anxiety, anxiety), joy,
+                List.of("나는 첫 번째 확언", "나는 세 번째 확언"));
+
+        assertThat(affirmationCorpusService.findTodaySet(userId, partial.selectionKey(), 3)).isNull();
+    }
+
+    @Test
+    void drawPicksDistinctUnseenAffirmationsForSlotsSharingProblem() {
+        affirmationCorpusService.saveUnserved(anxiety, joy, List.of("나는 코퍼스 첫 번째 확언", "나는 코퍼스 두 번째 확언"));
+
+        String[] drawn = affirmationCorpusService.drawForUser(userId,
+                AffirmationCorpusService.ServedSet.start(List.of(anxiety), joy), List.of(anxiety, anxiety, anxiety), joy);
+
+        // 남은 확언이 두 개뿐이면 두 슬롯만 서로 다른 문구로 채우고, 나머지 슬롯은 실시간 생성하도록 null
+        assertThat(Arrays.copyOf(drawn, 2))
+                .containsExactlyInAnyOrder("나는 코퍼스 첫 번째 확언", "나는 코퍼스 두 번째 확언");
+        assertThat(drawn[2]).isNull();
+        // 이미 본 확언은 다시 뽑지 않음
+        assertThat(affirmationCorpusService.drawForUser(userId,
+                AffirmationCorpusService.ServedSet.start(List.of(anxiety), joy), List.of(anxiety), joy)).containsOnlyNulls();
+    }
+}
@@ -0,0 +1,78 @@
+package com.checkmate.bub.domain.affirmation.service;
+
+import com.checkmate.bub.domain.affirmation.constant.AffirmationJobStatus;
+import com.checkmate.bub.domain.affirmation.dto.AffirmationJobResponseDto;
+import com.checkmate.bub.domain.affirmation.dto.MainAffirmationResponseDto;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 재생성 작업이 등록 즉시 RUNNING으로 응답하고, 완료·실패 결과를 작업 소유자에게만 돌려주는지 검증합니다.
+ */
+class AffirmationJobServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final AffirmationService affirmationService = mock(AffirmationService.class);
+    private final AffirmationJobService jobService = new AffirmationJobService(affirmationService, executor, 60_000L);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void submitReturnsImmediatelyAndCompletesLater() {
+        CompletableFuture<MainAffirmationResponseDto> generation = new CompletableFuture<>();
+        when(affirmationService.generateMainAffirmationAsync(USER_ID, true)).thenReturn(generation);
+
+        AffirmationJobResponseDto submitted = jobService.submitRegeneration(USER_ID);
+
+        assertThat(submitted.getStatus()).isEqualTo(AffirmationJobStatus.RUNNING);
+        CompletableFuture<AffirmationJobResponseDto> awaited = jobService.awaitJob(USER_ID, submitted.getJobId());
+        CompletableFuture<MainAffirmationResponseDto> running = jobService.findRunning(USER_ID);
+        assertThat(awaited).isNotDone();
+        assertThat(running).isNotNull();
+
+        generation.complete(MainAffirmationResponseDto.builder().affirmation1("나는 충분히 잘하고 있어.").build());
+
+        AffirmationJobResponseDto done = awaited.join();
+        assertThat(done.getStatus()).isEqualTo(AffirmationJobStatus.SUCCEEDED);
+        assertThat(done.getAffirmations().getAffirmation1()).isEqualTo("나는 충분히 잘하고 있어.");
+        assertThat(running.join().getAffirmation1()).isEqualTo("나는 충분히 잘하고 있어.");
+        assertThat(jobService.findRunning(USER_ID)).isNull();
+    }
+
+    @Test
+    void failedJobReportsErrorMessage() {
+        when(affirmationService.generateMainAffirmationAsync(USER_ID, true))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("AI 서버가 혼잡합니다. 잠시 후 다시 시도해주세요.")));
+
+        AffirmationJobResponseDto submitted = jobService.submitRegeneration(USER_ID);
+        AffirmationJobResponseDto done = jobService.awaitJob(USER_ID, submitted.getJobId()).join();
+
+        assertThat(done.getStatus()).isEqualTo(AffirmationJobStatus.FAILED);
+        assertThat(done.getErrorMessage()).contains("혼잡");
+    }
+
+    @Test
+    void otherUsersCannotSeeJob() {
+        when(affirmationService.generateMainAffirmationAsync(USER_ID, true)).thenReturn(new CompletableFuture<>());
+
+        AffirmationJobResponseDto submitted = jobService.submitRegeneration(USER_ID);
+
+        assertThatThrownBy(() -> jobService.getJob(2L, submitted.getJobId()))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+}
@@ -0,0 +1,509 @@
+package com.checkmate.bub.domain.affirmation.service;
+
+import com.checkmate.bub.domain.affirmation.dto.MainAffirmationResponseDto;
+import com.checkmate.bub.domain.affirmation.dto.MainAffirmationStreamEventDto;
+import com.checkmate.bub.domain.affirmation.repository.ToneExampleRepository;
+import com.checkmate.bub.domain.affirmation.service.helper.ClovaRequestBodyCache;
+import com.checkmate.bub.domain.affirmation.service.helper.ClovaRequestCoalescer;
+import com.checkmate.bub.domain.affirmation.service.helper.ClovaTextPostProcessor;
+import com.checkmate.bub.domain.affirmation.service.helper.SpeculativeAffirmationStore;
+import com.checkmate.bub.domain.affirmation.service.helper.ToneExampleCache;
+import com.checkmate.bub.domain.ai.clova.ClovaClient;
+import com.checkmate.bub.domain.ai.clova.ClovaReactiveClient;
+import com.checkmate.bub.domain.ai.clova.ClovaResilience;
+import com.checkmate.bub.domain.bridge.dto.UserCategorySelectionDto;
+import com.checkmate.bub.domain.bridge.repository.UserCategoryBridgeRepository;
+import com.checkmate.bub.domain.category.constant.CategoryType;
+import com.checkmate.bub.domain.category.domain.Category;
+import com.checkmate.bub.domain.category.event.CategoryChangedEvent;
+import com.checkmate.bub.domain.category.repository.CategoryRepository;
+import com.checkmate.bub.domain.category.service.CategoryCatalog;
+import com.checkmate.bub.domain.profile.member.service.helper.UserCategoryBridgeHelper;
+import com.checkmate.bub.domain.profile.member.service.helper.UserSelectionCache;
+import com.checkmate.bub.global.config.resilience.RetryBudget;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 스텁 ClovaClient로 메인 확언 생성의 동작을 검증합니다.
+ * 병렬 fan-out은 세 호출이 실제로 동시에 진행되는지를 겹친 호출 수로 확인합니다(벽시계 시간에 의존하지 않음).
+ * 고정 RTT 기준 전체 지연(단일 스레드 약 3×RTT, fan-out 약 1×RTT) 비교는 src/jmh의 MainAffirmationFanOutBenchmark에 있습니다.
+ * 기본은 per-item 모드·코퍼스 미사용으로 측정하고, batch 모드와 코퍼스는 Clova 호출 수로 검증합니다.
+ */
+class AffirmationServiceLatencyTest {
+
+    private static final long RTT_MS = 300;
+    private static final Long USER_ID = 1L;
+
+    private final AtomicInteger callCount = new AtomicInteger();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ExecutorService executor;
+    private SpeculativeAffirmationStore speculativeStore;
+
+    @BeforeEach
+    void setUp() {
+        callCount.set(0);
+        speculativeStore = new SpeculativeAffirmationStore(new SimpleMeterRegistry(), 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void parallelFanOutRunsAllThreeCallsConcurrently() {
+        executor = Executors.newFixedThreadPool(3);
+        // 세 호출이 모두 도착해야 응답하도록 막아 두고, 동시에 진행 중인 호출 수의 최댓값을 셈
+        CountDownLatch allArrived = new CountDownLatch(3);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        ClovaClient gatedClient = (body, authorization, requestId, contentType, accept) -> {
+            int call = callCount.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                allArrived.countDown();
+                allArrived.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            return "data: {\"message\":{\"role\":\"assistant\",\"content\":\"나는 오늘도 충분히 잘하고 있어. " + call + "\"}}\n";
+        };
+        AffirmationService service = createService(gatedClient, executor);
+
+        MainAffirmationResponseDto response = service.generateMainAffirmation(USER_ID);
+
+        assertThat(allArrived.getCount()).isZero();
+        assertThat(maxInFlight.get()).isEqualTo(3);
+        assertThat(response.getAffirmation3()).isNotBlank();
+    }
+
+    @Test
+    void singleThreadExecutorRunsCallsOneAtATime() {
+        executor = Executors.newSingleThreadExecutor();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        ClovaClient countingClient = (body, authorization, requestId, contentType, accept) -> {
+            int call = callCount.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            inFlight.decrementAndGet();
+            return "data: {\"message\":{\"role\":\"assistant\",\"content\":\"나는 오늘도 충분히 잘하고 있어. " + call + "\"}}\n";
+        };
+        AffirmationService service = createService(countingClient, executor);
+
+        MainAffirmationResponseDto response = service.generateMainAffirmation(USER_ID);
+
+        assertThat(callCount.get()).isEqualTo(3);
+        assertThat(maxInFlight.get()).isEqualTo(1);
+        assertThat(response.getAffirmation3()).isNotBlank();
+    }
+
+    @Test
+    void returnsPartialResultsWhenOneBranchFails() {
+        executor = Executors.newFixedThreadPool(3);
+        AffirmationService service = createService(stubClient(true), executor);
+
+        MainAffirmationResponseDto response = service.generateMainAffirmation(USER_ID);
+
+        long generated = Stream.of(response.getAffirmation1(), response.getAffirmation2(), response.getAffirmation3())
+                .filter(Objects::nonNull)
+                .count();
+        assertThat(generated).isEqualTo(2);
+    }
+
+    @Test
+    void failsWithClearErrorWhenDeadlineExpires() {
+        executor = Executors.newFixedThreadPool(3);
+        AffirmationService service = createService(stubClient(false), executor);
+        ReflectionTestUtils.setField(service, "mainAffirmationDeadlineMs", RTT_MS / 3);
+
+        assertThatThrownBy(() -> service.generateMainAffirmation(USER_ID))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("시간이 초과");
+    }
+
+    @Test
+    void batchModeRegeneratesOnlyInvalidSlots() {
+        executor = Executors.newFixedThreadPool(3);
+        ClovaClient batchClient = (body, authorization, requestId, contentType, accept) -> {
+            int call = callCount.incrementAndGet();
+            String content = call == 1
+                    ? "1. 나는 불안 속에서도 한 걸음씩 나아가고 있어.\\n2. \\n3. 나는 내 마음을 돌볼 줄 아는 사람이야."
+                    : "나는 오늘도 충분히 잘하고 있어. " + call;
+            return "data: {\"message\":{\"role\":\"assistant\",\"content\":\"" + content + "\"}}\n";
+        };
+        AffirmationService service = createService(batchClient, executor);
+        ReflectionTestUtils.setField(service, "generationMode", "batch");
+
+        MainAffirmationResponseDto response = service.generateMainAffirmation(USER_ID);
+
+        assertThat(callCount.get()).isEqualTo(2);
+        assertThat(response.getAffirmation1()).isEqualTo("나는 불안 속에서도 한 걸음씩 나아가고 있어.");
+        assertThat(response.getAffirmation2()).isEqualTo("나는 오늘도 충분히 잘하고 있어. 2");
+        assertThat(response.getAffirmation3()).isEqualTo("나는 내 마음을 돌볼 줄 아는 사람이야.");
+    }
+
+    @Test
+    void servesFromCorpusWithoutCallingClova() {
+        executor = Executors.newFixedThreadPool(3);
+        AffirmationCorpusService corpusService = mock(AffirmationCorpusService.class);
+        when(corpusService.drawForUser(eq(USER_ID), any(), anyList(), any())).thenReturn(new String[]{
+                "나는 불안 속에서도 한 걸음씩 나아가고 있어.",
+                "나는 내 마음을 돌볼 줄 아는 사람이야.",
+                "나는 오늘도 충분히 잘하고 있어."
+        });
+        AffirmationService service = createService(stubClient(false), executor, corpusService);
+        ReflectionTestUtils.setField(service, "corpusEnabled", true);
+
+        MainAffirmationResponseDto response = service.generateMainAffirmation(USER_ID);
+
+        assertThat(callCount.get()).isZero();
+        assertThat(response.getAffirmation3()).isEqualTo("나는 오늘도 충분히 잘하고 있어.");
+        verify(corpusService, never()).saveServed(any(), any(), anyList(), anyList(), any(), anyList());
+    }
+
+    @Test
+    void repeatVisitSameDayServesTodaySetUnlessRefreshed() {
+        executor = Executors.newFixedThreadPool(3);
+        AffirmationCorpusService corpusService = mock(AffirmationCorpusService.class);
+        when(corpusService.findTodaySet(eq(USER_ID), anyString(), eq(3))).thenReturn(new String[]{
+                "나는 불안 속에서도 한 걸음씩 나아가고 있어.",
+                "나는 내 마음을 돌볼 줄 아는 사람이야.",
+                "나는 오늘도 충분히 잘하고 있어."
+        });
+        AffirmationService service = createService(stubClient(false), executor, corpusService);
+        ReflectionTestUtils.setField(service, "dailyMemoEnabled", true);
+
+        MainAffirmationResponseDto memoized = service.generateMainAffirmationAsync(USER_ID, false).join();
+
+        assertThat(callCount.get()).isZero();
+        assertThat(memoized.getAffirmation1()).isEqualTo("나는 불안 속에서도 한 걸음씩 나아가고 있어.");
+        verify(corpusService, never()).drawForUser(any(), any(), anyList(), any());
+
+        MainAffirmationResponseDto refreshed = service.generateMainAffirmationAsync(USER_ID, true).join();
+
+        assertThat(callCount.get()).isEqualTo(3);
+        assertThat(refreshed.getAffirmation1()).startsWith("나는 오늘도 충분히 잘하고 있어.");
+        verify(corpusService).saveServed(eq(USER_ID), any(), eq(List.of(0, 1, 2)), anyList(), any(), argThat(list -> list.size() == 3));
+    }
+
+    @Test
+    void generatedSetIsServedAndSavedWhenClovaPoolRejectsFollowUpWork() {
+        executor = Executors.newFixedThreadPool(3);
+        AffirmationCorpusService corpusService = mock(AffirmationCorpusService.class);
+        ClovaClient client = stubClient(false);
+        // 세 호출이 모두 제출된 뒤 풀을 닫아, 이후 같은 풀에 넘기는 작업은 모두 거절되게 함 (포화 상태와 같음)
+        ClovaClient saturatingClient = (body, authorization, requestId, contentType, accept) -> {
+            String response = client.callApi(body, authorization, requestId, contentType, accept);
+            if (callCount.get() == 3) {
+                executor.shutdown();
+            }
+            return response;
+        };
+        AffirmationService service = createService(saturatingClient, executor, corpusService);
+        ReflectionTestUtils.setField(service, "dailyMemoEnabled", true);
+
+        MainAffirmationResponseDto response = service.generateMainAffirmationAsync(USER_ID, true).join();
+
+        assertThat(response.getAffirmation3()).startsWith("나는 오늘도 충분히 잘하고 있어.");
+        verify(corpusService).saveServed(eq(USER_ID), any(), eq(List.of(0, 1, 2)), anyList(), any(), argThat(list -> list.size() == 3));
+    }
+
+    @Test
+    void firstHomeLoadServesSpeculativeSetForChosenTone() {
+        executor = Executors.newFixedThreadPool(3);
+        AffirmationCorpusService corpusService = mock(AffirmationCorpusService.class);
+        when(corpusService.drawForUser(eq(USER_ID), any(), anyList(), any())).thenReturn(new String[3]);
+        AffirmationService service = createService(stubClient(false), executor, corpusService);
+        ReflectionTestUtils.setField(service, "corpusEnabled", true);
+
+        Category problem = Category.builder().id(1L).type(CategoryType.PROBLEM).name("걱정이 많고 불안해요.").build();
+        List<Category> slotProblems = List.of(problem, problem, problem);
+        CompletableFuture<List<String>> wednesday = new CompletableFuture<>();
+        speculativeStore.put(USER_ID, Map.of(
+                "Joy", new SpeculativeAffirmationStore.Speculation(Set.of(1L), slotProblems, CompletableFuture.completedFuture(
+                        List.of("나는 미리 준비된 확언 1", "나는 미리 준비된 확언 2", "나는 미리 준비된 확언 3"))),
+                "Wednesday", new SpeculativeAffirmationStore.Speculation(Set.of(1L), slotProblems, wednesday)));
+
+        MainAffirmationResponseDto response = service.generateMainAffirmation(USER_ID);
+
+        assertThat(callCount.get()).isZero();
+        assertThat(response.getAffirmation2()).isEqualTo("나는 미리 준비된 확언 2");
+        assertThat(wednesday).isCancelled();
+        verify(corpusService, never()).drawForUser(any(), any(), anyList(), any());
+        verify(corpusService).saveServed(eq(USER_ID), any(), eq(List.of(0, 1, 2)), eq(slotProblems), any(), argThat(list -> list.size() == 3));
+
+        // 한 번 꺼낸 세트는 다시 제공하지 않음
+        service.generateMainAffirmation(USER_ID);
+        assertThat(callCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    void speculativeSetForDifferentProblemSelectionIsNotServed() {
+        executor = Executors.newFixedThreadPool(3);
+        AffirmationService service = createService(stubClient(false), executor);
+
+        // 슬롯별 문제는 현재 선택(1번)과 같지만, 생성을 시작할 때의 선택은 1·2번
+        Category problem = Category.builder().id(1L).type(CategoryType.PROBLEM).name("걱정이 많고 불안해요.").build();
+        speculativeStore.put(USER_ID, Map.of(
+                "Joy", new SpeculativeAffirmationStore.Speculation(Set.of(1L, 2L), List.of(problem, problem, problem),
+                        CompletableFuture.completedFuture(List.of("나는 미리 준비된 확언 1", "나는 미리 준비된 확언 2", "나는 미리 준비된 확언 3")))));
+
+        MainAffirmationResponseDto response = service.generateMainAffirmation(USER_ID);
+
+        assertThat(callCount.get()).isEqualTo(3);
+        assertThat(response.getAffirmation1()).doesNotContain("미리 준비된");
+    }
+
+    @Test
+    void generatesOnlyMissingSlotsAndStoresThemInCorpus() {
+        executor = Executors.newFixedThreadPool(3);
+        AffirmationCorpusService corpusService = mock(AffirmationCorpusService.class);
+        when(corpusService.drawForUser(eq(USER_ID), any(), anyList(), any()))
+                .thenReturn(new String[]{"나는 불안 속에서도 한 걸음씩 나아가고 있어.", null, null});
+        AffirmationService service = createService(stubClient(false), executor, corpusService);
+        ReflectionTestUtils.setField(service, "corpusEnabled", true);
+
+        MainAffirmationResponseDto response = service.generateMainAffirmation(USER_ID);
+
+        assertThat(callCount.get()).isEqualTo(2);
+        assertThat(response.getAffirmation1()).isEqualTo("나는 불안 속에서도 한 걸음씩 나아가고 있어.");
+        assertThat(response.getAffirmation2()).startsWith("나는 오늘도 충분히 잘하고 있어.");
+        verify(corpusService).saveServed(eq(USER_ID), any(), eq(List.of(1, 2)), argThat(list -> list.size() == 2), any(), argThat(list -> list.size() == 2));
+    }
+
+    @Test
+    void reactiveClientCarriesManyInFlightCallsOnTwoThreads() {
+        executor = Executors.newFixedThreadPool(2);
+        // 모든 요청을 보낸 뒤에야 Clova 응답이 도착하도록 막아 두고, 그동안 동시에 대기 중인 호출 수를 셈
+        Sinks.Empty<Void> gate = Sinks.empty();
+        AtomicInteger inFlight = new AtomicInteger();
+        ClovaReactiveClient reactiveClient = mock(ClovaReactiveClient.class);
+        when(reactiveClient.callApi(any(byte[].class), anyString())).thenAnswer(invocation -> {
+            int call = callCount.incrementAndGet();
+            return gate.asMono()
+                    .then(Mono.fromSupplier(() ->
+                            "data: {\"message\":{\"role\":\"assistant\",\"content\":\"나는 오늘도 충분히 잘하고 있어. " + call + "\"}}\n"))
+                    .doOnSubscribe(subscription -> inFlight.incrementAndGet())
+                    .doFinally(signal -> inFlight.decrementAndGet());
+        });
+        AffirmationService service = createService(stubClient(false), executor, mock(AffirmationCorpusService.class), reactiveClient);
+        ReflectionTestUtils.setField(service, "clovaClientType", "reactive");
+        ReflectionTestUtils.setField(service, "mainAffirmationDeadlineMs", 30_000L);
+
+        int requests = 100;
+        List<CompletableFuture<MainAffirmationResponseDto>> responses = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            responses.add(service.generateMainAffirmationAsync(USER_ID, true));
+        }
+
+        assertThat(inFlight.get()).isEqualTo(requests * 3);
+        gate.tryEmitEmpty();
+
+        CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).join();
+        assertThat(inFlight.get()).isZero();
+        assertThat(responses).allSatisfy(response -> assertThat(response.join().getAffirmation3()).isNotBlank());
+    }
+
+    @Test
+    void streamingSendsFirstTokenBeforeSlowestSlotFinishes() {
+        ClovaReactiveClient reactiveClient = mock(ClovaReactiveClient.class);
+        when(reactiveClient.streamContent(any(byte[].class), anyString())).thenAnswer(invocation -> Flux.concat(
+                Flux.just("나는 오늘도 "),
+                Flux.just("충분히 잘하고 있어.").delayElements(Duration.ofMillis(RTT_MS))
+        ));
+        AffirmationService service = createService(stubClient(false), null, mock(AffirmationCorpusService.class), reactiveClient);
+
+        long start = System.nanoTime();
+        List<Long> arrivalMs = new ArrayList<>();
+        List<ServerSentEvent<MainAffirmationStreamEventDto>> events = service.streamMainAffirmation(USER_ID, true)
+                .doOnNext(event -> arrivalMs.add((System.nanoTime() - start) / 1_000_000))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(events).isNotNull();
+        assertThat(events.get(0).event()).isEqualTo("token");
+        assertThat(arrivalMs.get(0)).isLessThan(RTT_MS);
+        assertThat(events.stream().filter(e -> "affirmation".equals(e.event())))
+                .hasSize(3)
+                .allSatisfy(e -> assertThat(e.data().getText()).isEqualTo("나는 오늘도 충분히 잘하고 있어."));
+        assertThat(events.get(events.size() - 1).event()).isEqualTo("done");
+    }
+
+    @Test
+    void toneExampleSignupSpikeIsServedFromCacheWithoutPerUserClovaCalls() {
+        executor = Executors.newFixedThreadPool(4);
+        ClovaClient toneClient = (body, authorization, requestId, contentType, accept) -> {
+            int call = callCount.incrementAndGet();
+            return "data: {\"message\":{\"role\":\"assistant\",\"content\":\""
+                    + "Joy: 나는 오늘도 웃으며 나아갈 거야 " + call + "\\n"
+                    + "Wednesday: 불안은 소음일 뿐, 나는 할 일을 해낸다 " + call + "\\n"
+                    + "Zelda: 나는 용기를 내어 나만의 길을 걸어갈 것이다 " + call + "\"}}\n";
+        };
+        AffirmationService service = createService(toneClient, executor);
+        CategoryRepository categoryRepository = (CategoryRepository) ReflectionTestUtils.getField(service, "categoryRepository");
+        Category problem = Category.builder().id(3L).type(CategoryType.PROBLEM).name("걱정이 많고 불안해요.").build();
+        when(categoryRepository.findAll()).thenReturn(List.of(problem));
+        when(categoryRepository.existsByTypeAndName(eq(CategoryType.TONE), anyString())).thenReturn(true);
+
+        int signups = 200;
+        for (long userId = 1; userId <= signups; userId++) {
+            assertThat(service.createToneExamples(List.of(3L), userId).getTone1()).isNotBlank();
+        }
+
+        // 첫 요청만 동기 호출, 나머지는 캐시 적중 + 부족한 벌 수를 채우는 백그라운드 재생성뿐
+        executor.shutdown();
+        assertThat(callCount.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void toneExampleRequestBodyIsRenderedOnceAndReusedUntilCategoriesChange() throws Exception {
+        // 렌더링 방식별 시간·할당량 비교는 src/jmh의 ClovaRequestBodyCacheBenchmark에 있음
+        ClovaRequestBodyCache cache = new ClovaRequestBodyCache(new ObjectMapper(), new SimpleMeterRegistry(), 2048, 3600000);
+        AffirmationService service = createService(stubClient(false), null);
+        ReflectionTestUtils.setField(service, "clovaRequestBodyCache", cache);
+        String problem = "걱정이 많고 불안해요.";
+
+        byte[] cached = toneExamplesRequestBody(service, problem);
+        assertThat(objectMapper.readTree(cached)).isEqualTo(objectMapper.readTree(renderToneExamplesBody(service, problem)));
+        assertThat(toneExamplesRequestBody(service, problem)).isSameAs(cached);
+
+        cache.onCategoryChanged(new CategoryChangedEvent("test"));
+        assertThat(cache.size()).isZero();
+        assertThat(toneExamplesRequestBody(service, problem)).isNotSameAs(cached);
+    }
+
+    @Test
+    void requestBodyCacheKeepsCachingNewKeysWithinMaxEntries() {
+        ClovaRequestBodyCache cache = new ClovaRequestBodyCache(new ObjectMapper(), new SimpleMeterRegistry(), 2, 3600000);
+
+        for (int i = 0; i < 10; i++) {
+            String key = "tone-examples|" + i;
+            byte[] body = cache.get(key, () -> Map.of("problem", key));
+            // 상한에 도달한 뒤에도 새 키는 캐시되고, 오래된 항목이 밀려남
+            assertThat(cache.get(key, () -> Map.of("problem", key))).isSameAs(body);
+        }
+        assertThat(cache.size()).isLessThanOrEqualTo(2);
+    }
+
+    // 서비스 내부 record(ClovaRequest)의 body만 꺼냄
+    private byte[] toneExamplesRequestBody(AffirmationService service, String problem) {
+        Object request = ReflectionTestUtils.invokeMethod(service, "toneExamplesRequest", problem);
+        try {
+            Method body = request.getClass().getDeclaredMethod("body");
+            body.setAccessible(true);
+            return (byte[]) body.invoke(request);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private byte[] renderToneExamplesBody(AffirmationService service, String problem) {
+        String prompt = ReflectionTestUtils.invokeMethod(service, "createPromptForToneExamples", problem);
+        Map<String, Object> body = ReflectionTestUtils.invokeMethod(service, "buildClovaRequestBody", prompt);
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ClovaClient stubClient(boolean failSecondCall) {
+        return (body, authorization, requestId, contentType, accept) -> {
+            int call = callCount.incrementAndGet();
+            try {
+                Thread.sleep(RTT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (failSecondCall && call == 2) {
+                throw new IllegalStateException("stubbed failure");
+            }
+            return "data: {\"message\":{\"role\":\"assistant\",\"content\":\"나는 오늘도 충분히 잘하고 있어. " + call + "\"}}\n";
+        };
+    }
+
+    private AffirmationService createService(ClovaClient clovaClient, ExecutorService clovaExecutor) {
+        return createService(clovaClient, clovaExecutor, mock(AffirmationCorpusService.class));
+    }
+
+    private AffirmationService createService(ClovaClient clovaClient, ExecutorService clovaExecutor,
+                                             AffirmationCorpusService corpusService) {
+        return createService(clovaClient, clovaExecutor, corpusService, mock(ClovaReactiveClient.class));
+    }
+
+    private AffirmationService createService(ClovaClient clovaClient, ExecutorService clovaExecutor,
+                                             AffirmationCorpusService corpusService, ClovaReactiveClient reactiveClient) {
+        UserCategoryBridgeRepository bridgeRepository = mock(UserCategoryBridgeRepository.class);
+        when(bridgeRepository.findSelectionsByUserId(USER_ID)).thenReturn(List.of(
+                new UserCategorySelectionDto(1L, CategoryType.PROBLEM, "걱정이 많고 불안해요."),
+                new UserCategorySelectionDto(10L, CategoryType.TONE, "Joy")
+        ));
+
+        CategoryRepository categoryRepository = mock(CategoryRepository.class);
+        AffirmationService service = new AffirmationService(
+                categoryRepository,
+                new UserSelectionCache(bridgeRepository, new SimpleMeterRegistry(), true, 100),
+                clovaClient,
+                new ObjectMapper(),
+                mock(UserCategoryBridgeHelper.class),
+                clovaExecutor,
+                corpusService,
+                reactiveClient,
+                new ClovaRequestBodyCache(new ObjectMapper(), new SimpleMeterRegistry(), 2048, 3600000),
+                mock(ApplicationEventPublisher.class),
+                new ToneExampleCache(new SimpleMeterRegistry(), 3, 60_000L),
+                new ClovaRequestCoalescer(new SimpleMeterRegistry(), 3, false),
+                new ClovaResilience(CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults(),
+                        RetryRegistry.of(RetryConfig.custom().maxAttempts(1).build()), new RetryBudget(0.1, 20)),
+                speculativeStore,
+                new ClovaTextPostProcessor(),
+                mock(ToneExampleRepository.class),
+                new CategoryCatalog(categoryRepository)
+        );
+        ReflectionTestUtils.setField(service, "apiKey", "test-key");
+        ReflectionTestUtils.setField(service, "mainAffirmationDeadlineMs", 5_000L);
+        ReflectionTestUtils.setField(service, "generationMode", "per-item");
+        ReflectionTestUtils.setField(service, "corpusEnabled", false);
+        ReflectionTestUtils.setField(service, "clovaClientType", "feign");
+        ReflectionTestUtils.setField(service, "speculativeEnabled", true);
+        return service;
+    }
+}
@@ -0,0 +1,98 @@
+package com.checkmate.bub.domain.affirmation.service;
+
+import com.checkmate.bub.domain.affirmation.dto.MainAffirmationResponseDto;
+import com.checkmate.bub.domain.bridge.domain.UserCategoryBridge;
+import com.checkmate.bub.domain.bridge.repository.UserCategoryBridgeRepository;
+import com.checkmate.bub.domain.category.constant.CategoryType;
+import com.checkmate.bub.domain.category.domain.Category;
+import com.checkmate.bub.domain.category.repository.CategoryRepository;
+import com.checkmate.bub.domain.profile.member.domain.User;
+import com.checkmate.bub.domain.profile.member.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커넥션 풀 크기보다 많은 홈 화면 요청이 동시에 코퍼스에서 확언을 꺼내도 커넥션을 기다리다 실패하지 않는지 검증합니다.
+ * 호출부가 트랜잭션(커넥션)을 잡은 채로 코퍼스 기록용 새 트랜잭션을 열면, 모든 요청이 두 번째 커넥션을 기다리며 멈춥니다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:connection-pool-test;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=1000"
+})
+@ActiveProfiles("test")
+class MainAffirmationConnectionPoolTest {
+
+    private static final int CONCURRENT_REQUESTS = 6;
+
+    @Autowired
+    private AffirmationService affirmationService;
+
+    @Autowired
+    private AffirmationCorpusService affirmationCorpusService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserCategoryBridgeRepository userCategoryBridgeRepository;
+
+    @Test
+    void concurrentHomeLoadsBeyondPoolSizeAreServedFromCorpus() throws Exception {
+        Category anxiety = categoryRepository.save(Category.builder().type(CategoryType.PROBLEM).name("걱정이 많고 불안해요. (pool)").build());
+        Category joy = categoryRepository.save(Category.builder().type(CategoryType.TONE).name("Joy (pool)").build());
+        affirmationCorpusService.saveUnserved(anxiety, joy,
+                List.of("나는 첫 번째 확언", "나는 두 번째 확언", "나는 세 번째 확언"));
+
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            User user = userRepository.save(User.builder().kakaoId(3000L + i).nickname("tester" + i).build());
+            userCategoryBridgeRepository.save(new UserCategoryBridge(user, anxiety));
+            userCategoryBridgeRepository.save(new UserCategoryBridge(user, joy));
+            userIds.add(user.getId());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<CompletableFuture<MainAffirmationResponseDto>> responses = userIds.stream()
+                    .map(userId -> CompletableFuture.supplyAsync(() -> {
+                        awaitQuietly(start);
+                        return affirmationService.generateMainAffirmationAsync(userId, true).join();
+                    }, executor))
+                    .toList();
+            start.countDown();
+
+            for (CompletableFuture<MainAffirmationResponseDto> response : responses) {
+                MainAffirmationResponseDto dto = response.get(30, TimeUnit.SECONDS);
+                assertThat(List.of(dto.getAffirmation1(), dto.getAffirmation2(), dto.getAffirmation3()))
+                        .containsExactlyInAnyOrder("나는 첫 번째 확언", "나는 두 번째 확언", "나는 세 번째 확언");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.checkmate.bub.domain.affirmation.service.helper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 키의 동시 호출이 최대 fan-out 수만큼만 실제로 나가고, 나머지는 결과를 공유하는지 검증합니다.
+ */
+class ClovaRequestCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger issuedCalls = new AtomicInteger();
+
+    @Test
+    void concurrentCallersBeyondFanOutShareInFlightCalls() {
+        ClovaRequestCoalescer coalescer = new ClovaRequestCoalescer(meterRegistry, 2, true);
+        List<CompletableFuture<String>> pending = new ArrayList<>();
+        List<CompletableFuture<String>> results = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            results.add(coalescer.execute("tone-examples|3", () -> {
+                CompletableFuture<String> call = new CompletableFuture<>();
+                pending.add(call);
+                issuedCalls.incrementAndGet();
+                return call;
+            }));
+        }
+        // 다른 키는 묶이지 않음
+        coalescer.execute("tone-examples|4", () -> CompletableFuture.completedFuture("other"));
+
+        assertThat(issuedCalls.get()).isEqualTo(2);
+        pending.get(0).complete("first");
+        pending.get(1).complete("second");
+
+        assertThat(results).allSatisfy(result -> assertThat(result.join()).isIn("first", "second"));
+        assertThat(count("issued")).isEqualTo(3);
+        assertThat(count("collapsed")).isEqualTo(8);
+        assertThat(meterRegistry.get("clova.coalescer.in_flight_keys").gauge().value()).isZero();
+    }
+
+    @Test
+    void followerCancellationDoesNotAffectOthersAndFailuresAreShared() {
+        ClovaRequestCoalescer coalescer = new ClovaRequestCoalescer(meterRegistry, 1, true);
+        CompletableFuture<String> call = new CompletableFuture<>();
+
+        CompletableFuture<String> leader = coalescer.execute("main|a", () -> call);
+        CompletableFuture<String> follower = coalescer.execute("main|a", () -> CompletableFuture.completedFuture("unused"));
+        CompletableFuture<String> cancelled = coalescer.execute("main|a", () -> CompletableFuture.completedFuture("unused"));
+        cancelled.cancel(true);
+
+        call.completeExceptionally(new RuntimeException("AI 서버에서 오류가 발생했습니다."));
+
+        assertThatThrownBy(leader::join).isInstanceOf(CompletionException.class).hasMessageContaining("AI 서버");
+        assertThatThrownBy(follower::join).isInstanceOf(CompletionException.class).hasMessageContaining("AI 서버");
+        // 실패한 호출은 정리되어 다음 호출은 새로 나감
+        assertThat(coalescer.execute("main|a", () -> CompletableFuture.completedFuture("retry")).join()).isEqualTo("retry");
+    }
+
+    @Test
+    void disabledCoalescerIssuesEveryCall() {
+        ClovaRequestCoalescer coalescer = new ClovaRequestCoalescer(meterRegistry, 1, false);
+        for (int i = 0; i < 3; i++) {
+            coalescer.execute("main|a", () -> {
+                issuedCalls.incrementAndGet();
+                return new CompletableFuture<>();
+            });
+        }
+        assertThat(issuedCalls.get()).isEqualTo(3);
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("clova.coalescer.calls").tag("outcome", outcome).counter().count();
+    }
+}
@@ -0,0 +1,102 @@
+package com.checkmate.bub.domain.affirmation.service.helper;
+
+import com.checkmate.bub.domain.ai.clova.ClovaSseDecoder;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 녹화된 HCX-005 응답(src/test/resources/clova)과 자주 보던 변형 응답으로 후처리 결과를 고정하고,
+ * 기존 정규식 방식과 결과를 비교합니다. 처리 시간 비교는 src/jmh의 ClovaTextPostProcessorBenchmark에 있습니다.
+ */
+class ClovaTextPostProcessorTest {
+
+    private static final String[] TONE_EXAMPLES_GOLDEN = {
+            "걱정이 밀려와도 괜찮아! 나는 오늘 한 걸음씩 나아가면서 작은 기쁨을 찾아낼 거야.",
+            "불안은 그냥 소음일 뿐이야. 나는 내가 할 일을 조용히, 정확하게 해낼 거야.",
+            "두려움이 앞을 가려도 나는 용기를 내어 나만의 길을 끝까지 걸어갈 것이다."
+    };
+    private static final String MAIN_AFFIRMATION_GOLDEN =
+            "나는 불안한 순간에도 내 호흡을 느끼며 지금 이 자리에서 충분히 안전하다는 것을 기억해.";
+
+    // 모델이 실제로 내놓았던 형태의 변형 응답들 (마크다운, 따옴표, 라벨 반복, 통째 반복)
+    static final String[] TONE_VARIANTS = {
+            "**Joy:** \"오늘도 나는 반짝반짝 빛날 거야!\"\n**Wednesday:** \"빛나든 말든, 나는 할 일을 끝낸다.\"\n**Zelda:** \"저는 오늘도 제 길을 차분히 걸어가겠습니다.\"",
+            "# 결과\nJoy: \"괜찮아, 나는 해낼 거야!\" Joy: \"괜찮아, 나는 해낼 거야!\"\nWednesday: \"해낸다. 선택지는 없으니까.\"\nZelda: \"저는 끝까지 해내겠습니다.\"",
+            "Joy: \"나는 충분해!\"\nWednesday: \"충분하지. 모자라면 더 하면 돼.\"\nZelda: \"저는 이미 충분합니다.\"\nJoy: \"나는 충분해!\"\nWednesday: \"충분하지.\"",
+            "Joy: '나는 웃으면서 시작할 거야!'\n\n  Wednesday:   '웃든 말든 시작은 한다.'  \nZelda: '저는 평온하게 시작하겠습니다.'",
+            "\"나는 오늘을 즐길 거야!\"\n\"즐길 수 있을 때 즐기지.\"\n\"저는 오늘을 소중히 여기겠습니다.\"\n\"남는 줄\""
+    };
+    static final String[] AFFIRMATION_VARIANTS = {
+            "**\"나는 내 속도대로 충분히 잘 가고 있어.\"**",
+            "# 나는 지금 이대로도 괜찮아.",
+            "나는 오늘도 나를 믿어.나는 오늘도 나를 믿어.",
+            "나는 오늘도 나를 믿어나는 오늘도 나를 믿어.",
+            "  나는 *천천히* 나아가도 괜찮아.  "
+    };
+
+    private final ClovaTextPostProcessor processor = new ClovaTextPostProcessor();
+
+    @Test
+    void recordedResponsesMatchGoldenOutput() throws IOException {
+        assertThat(processor.parseTones(ClovaSseDecoder.decodeContent(fixture("hcx005-tone-examples.sse"))))
+                .containsExactly(TONE_EXAMPLES_GOLDEN);
+        assertThat(processor.cleanAffirmation(ClovaSseDecoder.decodeContent(fixture("hcx005-main-affirmation.sse"))))
+                .isEqualTo(MAIN_AFFIRMATION_GOLDEN);
+    }
+
+    @Test
+    void toneVariantsMatchGoldenOutput() {
+        assertThat(processor.parseTones(TONE_VARIANTS[0])).containsExactly(
+                "오늘도 나는 반짝반짝 빛날 거야!", "빛나든 말든, 나는 할 일을 끝낸다.", "저는 오늘도 제 길을 차분히 걸어가겠습니다.");
+        assertThat(processor.parseTones(TONE_VARIANTS[1])).containsExactly(
+                "괜찮아, 나는 해낼 거야!", "해낸다. 선택지는 없으니까.", "저는 끝까지 해내겠습니다.");
+        assertThat(processor.parseTones(TONE_VARIANTS[2])).containsExactly(
+                "나는 충분해!", "충분하지. 모자라면 더 하면 돼.", "저는 이미 충분합니다.");
+        assertThat(processor.parseTones(TONE_VARIANTS[3])).containsExactly(
+                "나는 웃으면서 시작할 거야!", "웃든 말든 시작은 한다.", "저는 평온하게 시작하겠습니다.");
+        // 라벨이 없으면 앞의 세 줄을 사용
+        assertThat(processor.parseTones(TONE_VARIANTS[4])).containsExactly(
+                "나는 오늘을 즐길 거야!", "즐길 수 있을 때 즐기지.", "저는 오늘을 소중히 여기겠습니다.");
+        assertThat(processor.parseTones("** #\n  ")).isEmpty();
+    }
+
+    @Test
+    void affirmationVariantsMatchGoldenOutput() {
+        assertThat(processor.cleanAffirmation(AFFIRMATION_VARIANTS[0])).isEqualTo("나는 내 속도대로 충분히 잘 가고 있어.");
+        assertThat(processor.cleanAffirmation(AFFIRMATION_VARIANTS[1])).isEqualTo("나는 지금 이대로도 괜찮아.");
+        assertThat(processor.cleanAffirmation(AFFIRMATION_VARIANTS[2])).isEqualTo("나는 오늘도 나를 믿어.");
+        // 뒤 절반이 한 글자 더 긴 반복은 더 긴 쪽을 남김
+        assertThat(processor.cleanAffirmation(AFFIRMATION_VARIANTS[3])).isEqualTo("나는 오늘도 나를 믿어.");
+        assertThat(processor.cleanAffirmation(AFFIRMATION_VARIANTS[4])).isEqualTo("나는 *천천히* 나아가도 괜찮아.");
+        assertThat(processor.cleanAffirmation(" \"\" ")).isEmpty();
+    }
+
+    @Test
+    void matchesLegacyRegexCascade() throws IOException {
+        List<String> tones = new ArrayList<>(Arrays.asList(TONE_VARIANTS));
+        tones.add(ClovaSseDecoder.decodeContent(fixture("hcx005-tone-examples.sse")));
+        List<String> affirmations = new ArrayList<>(Arrays.asList(AFFIRMATION_VARIANTS));
+        affirmations.add(ClovaSseDecoder.decodeContent(fixture("hcx005-main-affirmation.sse")));
+
+        for (String content : tones) {
+            assertThat(processor.parseTones(content)).containsExactly(LegacyPostProcessing.tones(content));
+        }
+        for (String content : affirmations) {
+            assertThat(processor.cleanAffirmation(content)).isEqualTo(LegacyPostProcessing.affirmation(content));
+        }
+    }
+
+    private String fixture(String name) throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/clova/" + name)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.checkmate.bub.domain.affirmation.service.helper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 교체 전 AffirmationService의 후처리 방식 (정규식 + indexOf 반복).
+ * ClovaTextPostProcessorTest의 결과 비교와 ClovaTextPostProcessorBenchmark의 기준선으로 씁니다.
+ */
+final class LegacyPostProcessing {
+
+    private static final String[] PATTERNS = {"Joy:", "Wednesday:", "Zelda:"};
+
+    private LegacyPostProcessing() {
+    }
+
+    static String[] tones(String raw) {
+        String content = removeDuplicatePatterns(raw.trim().replaceAll("\\*\\*|#", ""));
+        List<String> tones = new ArrayList<>();
+        for (String pattern : PATTERNS) {
+            int startIndex = content.indexOf(pattern);
+            if (startIndex == -1) {
+                continue;
+            }
+            startIndex += pattern.length();
+            int endIndex = content.length();
+            for (String next : PATTERNS) {
+                int nextIndex = next.equals(pattern) ? -1 : content.indexOf(next, startIndex);
+                if (nextIndex != -1 && nextIndex < endIndex) {
+                    endIndex = nextIndex;
+                }
+            }
+            String tone = content.substring(startIndex, endIndex).replaceAll("[\"\\n\\r]", "").trim();
+            for (String other : PATTERNS) {
+                String name = other.replace(":", "");
+                if (!other.equals(pattern) && tone.contains(name)) {
+                    tone = tone.substring(0, tone.indexOf(name)).trim();
+                    break;
+                }
+            }
+            if (!tone.isEmpty()) {
+                tones.add(tone);
+            }
+        }
+        String[] result = tones.isEmpty()
+                ? Arrays.copyOf(content.split("\\n"), Math.min(3, content.split("\\n").length))
+                : tones.toArray(new String[0]);
+        return Arrays.stream(result)
+                .map(tone -> tone.trim().replaceAll("^[\"']", "").replaceAll("[\"']$", "").trim())
+                .toArray(String[]::new);
+    }
+
+    static String affirmation(String raw) {
+        return removeDuplicateContent(raw.trim().replaceAll("\\*\\*|#", "").replaceAll("\"", "").trim());
+    }
+
+    private static String removeDuplicatePatterns(String content) {
+        StringBuilder result = new StringBuilder();
+        for (String line : content.split("\\n")) {
+            String cleanLine = line.trim();
+            if (cleanLine.isEmpty()) continue;
+            for (String pattern : PATTERNS) {
+                if (cleanLine.contains(pattern)) {
+                    int secondIndex = cleanLine.indexOf(pattern, cleanLine.indexOf(pattern) + pattern.length());
+                    if (secondIndex != -1) {
+                        cleanLine = cleanLine.substring(0, secondIndex).trim();
+                    }
+                    break;
+                }
+            }
+            result.append(cleanLine).append("\n");
+        }
+        return result.toString().trim();
+    }
+
+    private static String removeDuplicateContent(String content) {
+        if (content.length() < 2) {
+            return content;
+        }
+        int halfLength = content.length() / 2;
+        String firstHalf = content.substring(0, halfLength);
+        String secondHalf = content.substring(halfLength);
+        if (firstHalf.equals(secondHalf)) {
+            return firstHalf;
+        }
+        int minLength = Math.min(firstHalf.length(), secondHalf.length());
+        if (minLength > 0 && firstHalf.substring(0, minLength).equals(secondHalf.substring(0, minLength))
+                && (double) minLength / Math.max(firstHalf.length(), secondHalf.length()) >= 0.8) {
+            return firstHalf.length() >= secondHalf.length() ? firstHalf : secondHalf;
+        }
+        return content;
+    }
+}
@@ -0,0 +1,79 @@
+package com.checkmate.bub.domain.affirmation.service.helper;
+
+import com.checkmate.bub.domain.category.event.CategoryChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 톤 예시 캐시의 stale-while-revalidate 동작과 적중 지표를 검증합니다.
+ */
+class ToneExampleCacheTest {
+
+    private static final Long PROBLEM_ID = 3L;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void servesRandomVariantAndCountsHitsAndMisses() {
+        ToneExampleCache cache = new ToneExampleCache(meterRegistry, 2, 60_000L);
+
+        assertThat(cache.lookup(PROBLEM_ID)).isNull();
+        cache.put(PROBLEM_ID, tones("A"));
+
+        // 벌 수가 모자라면 제공은 하되 보충이 필요하다고 알림
+        ToneExampleCache.Lookup partial = cache.lookup(PROBLEM_ID);
+        assertThat(partial.tones()).containsExactly(tones("A"));
+        assertThat(partial.needsRefresh()).isTrue();
+
+        cache.put(PROBLEM_ID, tones("B"));
+        ToneExampleCache.Lookup full = cache.lookup(PROBLEM_ID);
+        assertThat(full.needsRefresh()).isFalse();
+        assertThat(full.tones()[0]).isIn("Joy A", "Joy B");
+
+        assertThat(count("miss")).isEqualTo(1);
+        assertThat(count("stale")).isEqualTo(1);
+        assertThat(count("hit")).isEqualTo(1);
+        assertThat(meterRegistry.get("affirmation.tone_example_cache.variants").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void expiredVariantsAreServedWhileSingleRefreshReplacesOldest() {
+        ToneExampleCache cache = new ToneExampleCache(meterRegistry, 1, 0L);
+        cache.put(PROBLEM_ID, tones("old"));
+
+        ToneExampleCache.Lookup stale = cache.lookup(PROBLEM_ID);
+        assertThat(stale.tones()).containsExactly(tones("old"));
+        assertThat(stale.needsRefresh()).isTrue();
+
+        assertThat(cache.tryStartRefresh(PROBLEM_ID)).isTrue();
+        assertThat(cache.tryStartRefresh(PROBLEM_ID)).isFalse();
+        cache.put(PROBLEM_ID, tones("new"));
+        cache.finishRefresh(PROBLEM_ID, true);
+
+        assertThat(cache.lookup(PROBLEM_ID).tones()).containsExactly(tones("new"));
+        assertThat(cache.tryStartRefresh(PROBLEM_ID)).isTrue();
+        assertThat(meterRegistry.get("affirmation.tone_example_cache.refreshes").tag("outcome", "success").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void categoryChangeClearsAllVariants() {
+        ToneExampleCache cache = new ToneExampleCache(meterRegistry, 3, 60_000L);
+        cache.put(PROBLEM_ID, tones("A"));
+
+        cache.onCategoryChanged(new CategoryChangedEvent("test"));
+
+        assertThat(cache.lookup(PROBLEM_ID)).isNull();
+        assertThat(cache.missingVariants(PROBLEM_ID)).isEqualTo(3);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("affirmation.tone_example_cache.lookups").tag("result", result).counter().count();
+    }
+
+    private String[] tones(String suffix) {
+        return new String[]{"Joy " + suffix, "Wednesday " + suffix, "Zelda " + suffix};
+    }
+}
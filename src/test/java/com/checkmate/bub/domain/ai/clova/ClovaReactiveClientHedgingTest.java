@@ -0,0 +1,183 @@
+package com.checkmate.bub.domain.ai.clova;
+
+import com.checkmate.bub.global.config.resilience.RetryBudget;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 HTTP 서버로 Clova 응답 지연·실패를 원 요청과 헤지 요청별로 정해 헤지 요청의 발사·승리·취소와 예산 제한을 검증합니다.
+ * 원 요청과 헤지 요청은 도착 순서가 아니라 요청 ID(원 요청은 "req-"로 시작, 헤지는 새 UUID)로 구분합니다.
+ * 헤지가 나가야 하는 경우는 원 요청이 헤지 지연(100ms)보다 훨씬 늦게 응답하고,
+ * 나가지 않아야 하는 경우는 헤지 지연을 길게(2초) 두어 연결 수립 시간에 결과가 좌우되지 않게 합니다.
+ */
+class ClovaReactiveClientHedgingTest {
+
+    private static final String BODY = "data: {\"message\":{\"content\":\"괜찮아.\"}}\n\n";
+    private static final long HEDGE_SOON_MS = 100;
+    private static final long HEDGE_NEVER_MS = 2_000;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final CountDownLatch cancelled = new CountDownLatch(1);
+    private DisposableServer server;
+
+    // 서버 응답: delay 동안 기다린 뒤 status로 응답 (delay가 null이면 응답하지 않음)
+    private record Reply(Duration delay, int status) {
+
+        static Reply after(long millis, int status) {
+            return new Reply(Duration.ofMillis(millis), status);
+        }
+
+        static Reply never() {
+            return new Reply(null, 0);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.disposeNow();
+        }
+    }
+
+    @Test
+    void slowPrimaryIsHedgedAndLoserIsCancelled() throws InterruptedException {
+        // 원 요청은 응답하지 않으므로 헤지 응답으로만 완료될 수 있음
+        startServer(primary -> primary ? Reply.never() : Reply.after(0, 200));
+        ClovaReactiveClient client = createClient(hedgingPolicy(5, HEDGE_SOON_MS));
+
+        String response = client.callApi(new byte[0], "req-1").block(Duration.ofSeconds(5));
+
+        assertThat(response).isEqualTo(BODY);
+        assertThat(requests.get()).isEqualTo(2);
+        assertThat(hedgeCount("fired")).isEqualTo(1.0);
+        assertThat(hedgeCount("won")).isEqualTo(1.0);
+        // 진 쪽(원 요청)의 연결이 끊겼는지 확인
+        assertThat(cancelled.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void fastPrimaryIsNotHedged() {
+        startServer(primary -> Reply.after(0, 200));
+        ClovaReactiveClient client = createClient(hedgingPolicy(5, HEDGE_NEVER_MS));
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(client.callApi(new byte[0], "req-" + i).block(Duration.ofSeconds(5))).isEqualTo(BODY);
+        }
+
+        assertThat(requests.get()).isEqualTo(5);
+        assertThat(hedgeCount("fired")).isZero();
+    }
+
+    @Test
+    void hedgesAreCappedByBudget() {
+        // 모든 요청이 느린 장애 상황: 예산(버스트 1)만큼만 헤지하고 나머지는 원 요청을 기다림
+        startServer(primary -> Reply.after(500, 200));
+        ClovaReactiveClient client = createClient(hedgingPolicy(1, HEDGE_SOON_MS));
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(client.callApi(new byte[0], "req-" + i).block(Duration.ofSeconds(5))).isEqualTo(BODY);
+        }
+
+        assertThat(hedgeCount("fired")).isEqualTo(1.0);
+        assertThat(hedgeCount("denied")).isEqualTo(3.0);
+        assertThat(requests.get()).isEqualTo(5);
+    }
+
+    @Test
+    void hedgeSucceedsWhenPrimaryFails() {
+        // 원 요청은 헤지가 나간 뒤 500으로 실패하고, 헤지는 그보다 늦게 성공
+        startServer(primary -> primary ? Reply.after(500, 500) : Reply.after(1_000, 200));
+        ClovaReactiveClient client = createClient(hedgingPolicy(5, HEDGE_SOON_MS));
+
+        String response = client.callApi(new byte[0], "req-1").block(Duration.ofSeconds(5));
+
+        assertThat(response).isEqualTo(BODY);
+        assertThat(requests.get()).isEqualTo(2);
+        assertThat(hedgeCount("fired")).isEqualTo(1.0);
+        assertThat(hedgeCount("won")).isEqualTo(1.0);
+    }
+
+    @Test
+    void failsWhenPrimaryAndHedgeBothFail() {
+        startServer(primary -> Reply.after(500, 500));
+        ClovaReactiveClient client = createClient(hedgingPolicy(5, HEDGE_SOON_MS));
+
+        assertThatThrownBy(() -> client.callApi(new byte[0], "req-1").block(Duration.ofSeconds(5)))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("AI 서버에서 오류");
+        assertThat(requests.get()).isEqualTo(2);
+        assertThat(hedgeCount("fired")).isEqualTo(1.0);
+        assertThat(hedgeCount("won")).isZero();
+    }
+
+    @Test
+    void fastFailureIsReportedWithoutHedging() {
+        startServer(primary -> Reply.after(0, 400));
+        ClovaReactiveClient client = createClient(hedgingPolicy(5, HEDGE_NEVER_MS));
+
+        assertThatThrownBy(() -> client.callApi(new byte[0], "req-1").block(Duration.ofSeconds(5)))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("AI 서버와의 통신 중 오류");
+        assertThat(requests.get()).isEqualTo(1);
+        assertThat(hedgeCount("fired")).isZero();
+    }
+
+    private void startServer(Function<Boolean, Reply> replyFor) {
+        server = HttpServer.create()
+                .port(0)
+                .handle((request, response) -> {
+                    requests.incrementAndGet();
+                    boolean primary = request.requestHeaders().get("X-NCP-CLOVASTUDIO-REQUEST-ID", "").startsWith("req-");
+                    Reply reply = replyFor.apply(primary);
+                    Mono<Long> wait = reply.delay() == null ? Mono.never() : Mono.delay(reply.delay());
+                    return wait
+                            .then(response.status(reply.status())
+                                    .header("Content-Type", "text/event-stream")
+                                    .sendString(Mono.just(BODY))
+                                    .then())
+                            .doOnCancel(cancelled::countDown);
+                })
+                .bindNow();
+    }
+
+    private ClovaHedgingPolicy hedgingPolicy(int maxBurst, long initialDelayMs) {
+        // 표본이 적을 때(테스트 내내)는 초기 지연을 그대로 사용, 요청 대비 헤지 비율 1%
+        return new ClovaHedgingPolicy(meterRegistry, true, 0.95, initialDelayMs, 50, Math.max(1_000, initialDelayMs), 0.01, maxBurst);
+    }
+
+    private ClovaReactiveClient createClient(ClovaHedgingPolicy hedgingPolicy) {
+        ClovaResilience resilience = new ClovaResilience(
+                CircuitBreakerRegistry.ofDefaults(),
+                BulkheadRegistry.ofDefaults(),
+                RetryRegistry.of(RetryConfig.custom().maxAttempts(1).build()),
+                new RetryBudget(0.1, 20));
+        ClovaReactiveClient client = new ClovaReactiveClient(WebClient.create(), resilience, hedgingPolicy);
+        ReflectionTestUtils.setField(client, "apiKey", "test");
+        ReflectionTestUtils.setField(client, "chatCompletionsUrl", "http://localhost:" + server.port() + "/chat");
+        return client;
+    }
+
+    private double hedgeCount(String outcome) {
+        return meterRegistry.get("clova.hedge.requests").tag("outcome", outcome).counter().count();
+    }
+}
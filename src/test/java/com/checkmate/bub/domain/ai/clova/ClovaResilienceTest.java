@@ -0,0 +1,141 @@
+package com.checkmate.bub.domain.ai.clova;
+
+import com.checkmate.bub.global.config.resilience.ClovaResilienceConfig;
+import com.checkmate.bub.global.config.resilience.RetryBudget;
+import feign.FeignException;
+import feign.Request;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ClovaResilienceConfig 설정 그대로 재시도·재시도 예산·서킷 브레이커 동작을 검증합니다.
+ */
+class ClovaResilienceTest {
+
+    private static final Request REQUEST = Request.create(Request.HttpMethod.POST, "https://clova.test", Map.of(), null,
+            StandardCharsets.UTF_8, null);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ClovaResilienceConfig config = new ClovaResilienceConfig();
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @Test
+    void retriesTransientFailuresButNotClientErrors() {
+        ClovaResilience resilience = createResilience(new RetryBudget(0.1, 20), 10);
+
+        String response = resilience.call(ClovaResilience.CHAT, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new FeignException.ServiceUnavailable("503", REQUEST, null, null);
+            }
+            return "ok";
+        });
+        assertThat(response).isEqualTo("ok");
+        assertThat(attempts.get()).isEqualTo(3);
+
+        attempts.set(0);
+        assertThatThrownBy(() -> resilience.call(ClovaResilience.CHAT, () -> {
+            attempts.incrementAndGet();
+            throw new FeignException.Unauthorized("401", REQUEST, null, null);
+        })).isInstanceOf(FeignException.Unauthorized.class);
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    void retryBudgetCapsRetriesToRatioOfRequests() {
+        // 예산 2회로 시작, 요청 10건당 1회씩 적립
+        RetryBudget budget = new RetryBudget(0.1, 2);
+        // 서킷이 열리지 않도록 최소 호출 수를 크게 둠
+        ClovaResilience resilience = createResilience(budget, 1_000);
+
+        int requests = 20;
+        for (int i = 0; i < requests; i++) {
+            assertThatThrownBy(() -> resilience.call(ClovaResilience.SPEECH, () -> {
+                attempts.incrementAndGet();
+                throw new FeignException.TooManyRequests("429", REQUEST, null, null);
+            })).isInstanceOf(FeignException.TooManyRequests.class);
+        }
+
+        int retries = attempts.get() - requests;
+        assertThat(retries).isLessThanOrEqualTo(2 + requests / 10);
+        assertThat(meterRegistry.get("clova.retry_budget.available").gauge().value()).isLessThan(1.0);
+    }
+
+    @Test
+    void finalAttemptDoesNotSpendRetryBudget() {
+        RetryBudget budget = new RetryBudget(0.0, 3);
+        ClovaResilience resilience = createResilience(budget, 1_000);
+
+        assertThatThrownBy(() -> resilience.call(ClovaResilience.SPEECH, () -> {
+            attempts.incrementAndGet();
+            throw new FeignException.ServiceUnavailable("503", REQUEST, null, null);
+        })).isInstanceOf(FeignException.ServiceUnavailable.class);
+
+        // 3번 시도 = 재시도 2회분만 사용
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(budget.availableRetries()).isEqualTo(1.0);
+    }
+
+    @Test
+    void reactiveRetriesDoNotDepositBudget() {
+        RetryBudget budget = new RetryBudget(0.5, 2);
+        ClovaResilience resilience = createResilience(budget, 1_000);
+        Mono<String> flaky = Mono.defer(() -> attempts.incrementAndGet() < 3
+                ? Mono.error(WebClientResponseException.create(503, "Service Unavailable", null, null, null))
+                : Mono.just("ok"));
+
+        assertThat(resilience.mono(ClovaResilience.CHAT, flaky).block(Duration.ofSeconds(1))).isEqualTo("ok");
+
+        // 구독 1회에 한 번만 적립(가득 찬 상태라 버려짐)하고, 재시도 2회분을 사용
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(budget.availableRetries()).isEqualTo(0.0);
+    }
+
+    @Test
+    void circuitOpensAfterRepeatedFailuresAndRejectsWithoutCalling() {
+        ClovaResilience resilience = createResilience(new RetryBudget(0.0, 0), 10);
+        Mono<String> failing = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(WebClientResponseException.create(503, "Service Unavailable", null, null, null));
+        });
+
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> resilience.mono(ClovaResilience.CHAT, failing).block(Duration.ofSeconds(1)))
+                    .isInstanceOf(WebClientResponseException.class);
+        }
+        int callsBeforeOpen = attempts.get();
+
+        assertThatThrownBy(() -> resilience.mono(ClovaResilience.CHAT, failing).block(Duration.ofSeconds(1)))
+                .isInstanceOf(CallNotPermittedException.class)
+                .satisfies(e -> assertThat(ClovaResilience.isRejected(e)).isTrue());
+        assertThat(attempts.get()).isEqualTo(callsBeforeOpen);
+        // 음성 인식 서킷은 별도로 동작
+        assertThat(resilience.call(ClovaResilience.SPEECH, () -> "ok")).isEqualTo("ok");
+        assertThat(meterRegistry.get("resilience4j.circuitbreaker.state").tag("name", ClovaResilience.CHAT)
+                .tag("state", "open").gauge().value()).isEqualTo(1.0);
+    }
+
+    private ClovaResilience createResilience(RetryBudget budget, int minimumNumberOfCalls) {
+        meterRegistry.gauge("clova.retry_budget.available", budget, RetryBudget::availableRetries);
+        CircuitBreakerRegistry circuitBreakerRegistry = config.clovaCircuitBreakerRegistry(meterRegistry, 50f, minimumNumberOfCalls, minimumNumberOfCalls, 60_000L);
+        assertThat(circuitBreakerRegistry.circuitBreaker(ClovaResilience.CHAT).getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        return new ClovaResilience(
+                circuitBreakerRegistry,
+                config.clovaBulkheadRegistry(meterRegistry, 8, 8),
+                config.clovaRetryRegistry(meterRegistry, 3, 1L),
+                budget
+        );
+    }
+}
@@ -0,0 +1,81 @@
+package com.checkmate.bub.domain.ai.clova;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HCX-005 SSE 응답 형식 샘플(src/test/resources/clova)로 디코더를 검증합니다.
+ * 기존 방식(split + readTree)과의 처리 시간 비교는 src/jmh의 ClovaSseDecoderBenchmark에 있습니다.
+ */
+class ClovaSseDecoderTest {
+
+    private static final String TONE_EXAMPLES_CONTENT =
+            "Joy: 걱정이 밀려와도 괜찮아! 나는 오늘 한 걸음씩 나아가면서 작은 기쁨을 찾아낼 거야.\n"
+                    + "Wednesday: 불안은 그냥 소음일 뿐이야. 나는 내가 할 일을 조용히, 정확하게 해낼 거야.\n"
+                    + "Zelda: 두려움이 앞을 가려도 나는 용기를 내어 나만의 길을 끝까지 걸어갈 것이다.";
+    private static final String MAIN_AFFIRMATION_CONTENT =
+            "나는 불안한 순간에도 내 호흡을 느끼며 지금 이 자리에서 충분히 안전하다는 것을 기억해.";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void decodesRecordedResponsesFromResultEvent() throws IOException {
+        assertThat(ClovaSseDecoder.decodeContent(fixture("hcx005-tone-examples.sse"))).isEqualTo(TONE_EXAMPLES_CONTENT);
+        try (InputStream in = fixtureStream("hcx005-main-affirmation.sse")) {
+            assertThat(ClovaSseDecoder.decodeContent(in)).isEqualTo(MAIN_AFFIRMATION_CONTENT);
+        }
+    }
+
+    @Test
+    void concatenatesTokensWhenResultEventIsMissing() throws IOException {
+        String body = "event: token\r\ndata: {\"message\":{\"role\":\"assistant\",\"content\":\"나는 \"}}\r\n\r\n"
+                + "data: {\"message\":{\"content\":\"괜찮아.\",\"role\":\"assistant\"}}\n\n"
+                + "data: not-json\n\n"
+                + "event: signal\ndata: {\"data\":\"[DONE]\"}\n\n"
+                + "data: [DONE]";
+
+        assertThat(ClovaSseDecoder.decodeContent(body)).isEqualTo("나는 괜찮아.");
+    }
+
+    @Test
+    void decoderMatchesLegacyParsing() throws IOException {
+        String body = fixture("hcx005-tone-examples.sse");
+        // 기존 방식은 token과 result를 모두 이어 붙이므로 결과가 두 번 반복됨
+        assertThat(legacyCollect(body)).isEqualTo(TONE_EXAMPLES_CONTENT + TONE_EXAMPLES_CONTENT);
+        assertThat(ClovaSseDecoder.decodeContent(body)).isEqualTo(TONE_EXAMPLES_CONTENT);
+    }
+
+    // 교체 전 AffirmationService의 파싱 방식
+    private String legacyCollect(String body) throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (String line : body.split("\\n")) {
+            if (line.startsWith("data:")) {
+                String data = line.substring("data:".length()).trim();
+                if (!data.isEmpty() && !data.equals("[DONE]")) {
+                    JsonNode contentNode = objectMapper.readTree(data).path("message").path("content");
+                    if (!contentNode.isMissingNode()) {
+                        content.append(contentNode.asText());
+                    }
+                }
+            }
+        }
+        return content.toString();
+    }
+
+    private String fixture(String name) throws IOException {
+        try (InputStream in = fixtureStream(name)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private InputStream fixtureStream(String name) {
+        return getClass().getResourceAsStream("/clova/" + name);
+    }
+}
@@ -0,0 +1,52 @@
+package com.checkmate.bub.domain.bookmark.repository;
+
+import com.checkmate.bub.domain.bookmark.domain.Bookmark;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 문장 단위 북마크 조회가 다이제스트로 찾되 원문까지 비교하는지 검증합니다.
+ * 기존 행의 다이제스트 백필은 SchemaMigrationTest(PostgreSQL)에서 검증합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class BookmarkRepositoryTest {
+
+    private static final String SENTENCE = "나는 불안한 순간에도 내 호흡을 느끼며 지금 이 자리에서 충분히 안전하다는 것을 기억해.";
+
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void sentenceLookupsGoThroughDigestAndCompareText() {
+        Bookmark saved = bookmarkRepository.saveAndFlush(bookmark("tester", SENTENCE));
+        entityManager.clear();
+
+        assertThat(saved.getSentenceHash()).hasSize(64).isEqualTo(Bookmark.hashSentence(SENTENCE));
+        assertThat(bookmarkRepository.existsByUserNicknameAndSentence("tester", SENTENCE)).isTrue();
+        assertThat(bookmarkRepository.existsByUserNicknameAndSentence("other", SENTENCE)).isFalse();
+        assertThat(bookmarkRepository.findByUserNicknameAndSentence("tester", SENTENCE)).isPresent();
+        // 다이제스트가 같아도 원문이 다르면 다른 문장으로 봄 (충돌 대비)
+        assertThat(bookmarkRepository.existsByUserNicknameAndSentenceHashAndSentence("tester", saved.getSentenceHash(), SENTENCE + " "))
+                .isFalse();
+
+        bookmarkRepository.deleteByUserNicknameAndSentence("tester", SENTENCE);
+        assertThat(bookmarkRepository.existsByUserNicknameAndSentence("tester", SENTENCE)).isFalse();
+    }
+
+    private static Bookmark bookmark(String userNickname, String sentence) {
+        return Bookmark.builder()
+                .userNickname(userNickname)
+                .sentence(sentence)
+                .tone("Joy")
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.checkmate.bub.domain.bridge.repository;
+
+import com.checkmate.bub.domain.bridge.domain.UserCategoryBridge;
+import com.checkmate.bub.domain.bridge.dto.UserCategorySelectionDto;
+import com.checkmate.bub.domain.category.constant.CategoryType;
+import com.checkmate.bub.domain.category.domain.Category;
+import com.checkmate.bub.domain.profile.member.domain.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 홈 화면·마이페이지의 선택 조회가 카테고리 지연 로딩 없이 쿼리 한 번으로 끝나는지 Hibernate 통계로 검증합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class UserCategoryBridgeRepositoryTest {
+
+    @Autowired
+    private UserCategoryBridgeRepository userCategoryBridgeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long userId;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder().kakaoId(2000L).nickname("tester").build();
+        entityManager.persist(user);
+        for (String name : List.of("걱정이 많고 불안해요.", "과거를 후회해요.", "외롭고 소속감을 느끼기 힘들어요.")) {
+            Category problem = Category.builder().type(CategoryType.PROBLEM).name(name).build();
+            entityManager.persist(problem);
+            entityManager.persist(new UserCategoryBridge(user, problem));
+        }
+        Category tone = Category.builder().type(CategoryType.TONE).name("Joy").build();
+        entityManager.persist(tone);
+        entityManager.persist(new UserCategoryBridge(user, tone));
+        entityManager.flush();
+        entityManager.clear();
+
+        userId = user.getId();
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void homeLoadSelectionIsSingleQuery() {
+        List<UserCategorySelectionDto> selections = userCategoryBridgeRepository.findSelectionsByUserId(userId);
+
+        assertThat(selections).extracting(UserCategorySelectionDto::name)
+                .containsExactly("걱정이 많고 불안해요.", "과거를 후회해요.", "외롭고 소속감을 느끼기 힘들어요.", "Joy");
+        assertThat(selections).extracting(UserCategorySelectionDto::type)
+                .containsExactly(CategoryType.PROBLEM, CategoryType.PROBLEM, CategoryType.PROBLEM, CategoryType.TONE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void myPageSelectionByTypeIsSingleQuery() {
+        List<UserCategorySelectionDto> problems =
+                userCategoryBridgeRepository.findSelectionsByUserIdAndCategoryType(userId, CategoryType.PROBLEM);
+
+        assertThat(problems).hasSize(3).allSatisfy(selection -> assertThat(selection.type()).isEqualTo(CategoryType.PROBLEM));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void legacyBridgeLoadingQueriesEachCategory() {
+        // 교체 전 방식: 브릿지 조회 후 getCategory()마다 지연 로딩
+        userCategoryBridgeRepository.findByUserId(userId).forEach(bridge -> bridge.getCategory().getName());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1 + 4);
+    }
+}
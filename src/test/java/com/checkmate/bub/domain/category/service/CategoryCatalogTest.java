@@ -0,0 +1,57 @@
+package com.checkmate.bub.domain.category.service;
+
+import com.checkmate.bub.domain.category.constant.CategoryType;
+import com.checkmate.bub.domain.category.domain.Category;
+import com.checkmate.bub.domain.category.event.CategoryChangedEvent;
+import com.checkmate.bub.domain.category.repository.CategoryRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 카탈로그가 한 번 불러온 뒤에는 DB 조회 없이 찾고, 카테고리 변경 이벤트에 새 스냅샷으로 교체되는지 검증합니다.
+ */
+class CategoryCatalogTest {
+
+    private static final Category PROBLEM = Category.builder().id(3L).type(CategoryType.PROBLEM).name("걱정이 많고 불안해요.").build();
+    private static final Category JOY = Category.builder().id(10L).type(CategoryType.TONE).name("Joy").build();
+    private static final Category ZELDA = Category.builder().id(12L).type(CategoryType.TONE).name("Zelda").build();
+
+    private final CategoryRepository categoryRepository = mock(CategoryRepository.class);
+    private final CategoryCatalog catalog = new CategoryCatalog(categoryRepository);
+
+    @Test
+    void loadsOnceAndServesLookupsFromMemory() {
+        when(categoryRepository.findAll()).thenReturn(List.of(PROBLEM, JOY));
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(catalog.findById(3L)).contains(PROBLEM);
+            assertThat(catalog.findByTypeAndName(CategoryType.TONE, "Joy")).contains(JOY);
+        }
+        assertThat(catalog.findByTypeAndName(CategoryType.PROBLEM, "Joy")).isEmpty();
+        assertThat(catalog.findById(99L)).isEmpty();
+        assertThat(catalog.findByType(CategoryType.TONE)).containsExactly(JOY);
+
+        verify(categoryRepository, times(1)).findAll();
+    }
+
+    @Test
+    void categoryChangeSwapsSnapshot() {
+        when(categoryRepository.findAll()).thenReturn(List.of(PROBLEM, JOY));
+        List<Category> before = catalog.findByType(CategoryType.TONE);
+
+        when(categoryRepository.findAll()).thenReturn(List.of(PROBLEM, JOY, ZELDA));
+        catalog.onCategoryChanged(new CategoryChangedEvent("tone category created: Zelda"));
+
+        assertThat(catalog.findByTypeAndName(CategoryType.TONE, "Zelda")).contains(ZELDA);
+        assertThat(catalog.findByType(CategoryType.TONE)).containsExactly(JOY, ZELDA);
+        // 이전에 꺼낸 목록은 바뀌지 않음
+        assertThat(before).containsExactly(JOY);
+    }
+}
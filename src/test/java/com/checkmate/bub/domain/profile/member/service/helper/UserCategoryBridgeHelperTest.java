@@ -0,0 +1,116 @@
+package com.checkmate.bub.domain.profile.member.service.helper;
+
+import com.checkmate.bub.domain.bridge.repository.UserCategoryBridgeRepository;
+import com.checkmate.bub.domain.category.constant.CategoryType;
+import com.checkmate.bub.domain.category.domain.Category;
+import com.checkmate.bub.domain.category.service.CategoryCatalog;
+import com.checkmate.bub.domain.profile.member.domain.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 선택 저장이 선택 개수와 무관하게 일정한 수의 SQL 문(사용자 확인 + 현재 선택 조회 + 일괄 삭제 + 배치 INSERT)만 실행하는지 검증합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({UserCategoryBridgeHelper.class, UserSelectionCache.class, CategoryCatalog.class, SimpleMeterRegistry.class})
+class UserCategoryBridgeHelperTest {
+
+    @Autowired
+    private UserCategoryBridgeHelper helper;
+
+    @Autowired
+    private CategoryCatalog categoryCatalog;
+
+    @Autowired
+    private UserCategoryBridgeRepository userCategoryBridgeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final List<Long> problemIds = new ArrayList<>();
+    private final List<User> users = new ArrayList<>();
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        IntStream.rangeClosed(1, 9).forEach(i -> {
+            Category problem = Category.builder().type(CategoryType.PROBLEM).name("문제 " + i).build();
+            entityManager.persist(problem);
+            problemIds.add(problem.getId());
+        });
+        entityManager.persist(Category.builder().type(CategoryType.TONE).name("Joy").build());
+        IntStream.rangeClosed(1, 3).forEach(i -> {
+            User user = User.builder().kakaoId(1000L + i).nickname("tester" + i).build();
+            entityManager.persist(user);
+            users.add(user);
+        });
+        entityManager.flush();
+        categoryCatalog.reload();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        // 시퀀스 첫 할당을 미리 받아 두어 측정에서 제외
+        helper.saveSelections(users.get(0).getId(), problemIds.subList(0, 1), CategoryType.PROBLEM);
+        entityManager.flush();
+    }
+
+    @Test
+    void insertIssuesConstantStatementsRegardlessOfSelectionSize() {
+        long threeSelections = statementsFor(users.get(1).getId(), problemIds.subList(0, 3));
+        long nineSelections = statementsFor(users.get(2).getId(), problemIds);
+
+        // 사용자 확인 1 + 현재 선택 조회 1 + 배치 INSERT 1
+        assertThat(threeSelections).isEqualTo(3);
+        assertThat(nineSelections).isEqualTo(threeSelections);
+        assertThat(userCategoryBridgeRepository.findCategoryIdsByUserIdAndCategoryType(users.get(2).getId(), CategoryType.PROBLEM))
+                .containsExactlyInAnyOrderElementsOf(problemIds);
+    }
+
+    @Test
+    void updateAppliesOnlyTheDifference() {
+        Long userId = users.get(1).getId();
+        statementsFor(userId, problemIds.subList(0, 6));
+
+        // 3개 유지, 3개 삭제, 2개 추가: 사용자 확인 1 + 조회 1 + 일괄 삭제 1 + 배치 INSERT 1
+        List<Long> next = new ArrayList<>(problemIds.subList(0, 3));
+        next.addAll(problemIds.subList(7, 9));
+        assertThat(statementsFor(userId, next)).isEqualTo(4);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2);
+
+        // 변경이 없으면 사용자 확인과 조회만
+        assertThat(statementsFor(userId, next)).isEqualTo(2);
+        assertThat(userCategoryBridgeRepository.findCategoryIdsByUserIdAndCategoryType(userId, CategoryType.PROBLEM))
+                .containsExactlyInAnyOrderElementsOf(next);
+    }
+
+    @Test
+    void unknownUserIsRejectedBeforeAnyWrite() {
+        assertThatThrownBy(() -> helper.saveSelections(-1L, problemIds.subList(0, 3), CategoryType.PROBLEM))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining("User not found");
+        assertThat(userCategoryBridgeRepository.findCategoryIdsByUserIdAndCategoryType(-1L, CategoryType.PROBLEM)).isEmpty();
+    }
+
+    private long statementsFor(Long userId, List<Long> categoryIds) {
+        statistics.clear();
+        helper.saveSelections(userId, categoryIds, CategoryType.PROBLEM);
+        entityManager.flush();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,106 @@
+package com.checkmate.bub.domain.profile.member.service.helper;
+
+import com.checkmate.bub.domain.bridge.dto.UserCategorySelectionDto;
+import com.checkmate.bub.domain.bridge.repository.UserCategoryBridgeRepository;
+import com.checkmate.bub.domain.category.constant.CategoryType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 선택 캐시가 반복 조회를 DB 없이 처리하고, 쓰기 트랜잭션이 끝난 뒤에만(사용자 단위로) 무효화되며, 최대 항목 수를 지키는지 검증합니다.
+ */
+class UserSelectionCacheTest {
+
+    private static final List<UserCategorySelectionDto> SELECTIONS = List.of(
+            new UserCategorySelectionDto(3L, CategoryType.PROBLEM, "걱정이 많고 불안해요."),
+            new UserCategorySelectionDto(10L, CategoryType.TONE, "Joy"));
+
+    private final UserCategoryBridgeRepository repository = mock(UserCategoryBridgeRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UserSelectionCache cache = new UserSelectionCache(repository, meterRegistry, true, 2);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void repeatedReadsAreServedFromCache() {
+        when(repository.findSelectionsByUserId(1L)).thenReturn(SELECTIONS);
+
+        assertThat(cache.get(1L, CategoryType.PROBLEM)).extracting(UserCategorySelectionDto::categoryId).containsExactly(3L);
+        assertThat(cache.has(1L, CategoryType.TONE)).isTrue();
+        assertThat(cache.get(1L)).isEqualTo(SELECTIONS);
+
+        verify(repository, times(1)).findSelectionsByUserId(1L);
+        assertThat(meterRegistry.get("user.selection_cache.lookups").tag("outcome", "hit").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("user.selection_cache.lookups").tag("outcome", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidatesOnlyAfterTransactionCompletes() {
+        when(repository.findSelectionsByUserId(1L)).thenReturn(SELECTIONS);
+        cache.get(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.invalidateAfterTransaction(1L);
+        assertThat(cache.size()).isEqualTo(1);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertThat(cache.size()).isZero();
+
+        when(repository.findSelectionsByUserId(1L)).thenReturn(SELECTIONS.subList(0, 1));
+        assertThat(cache.has(1L, CategoryType.TONE)).isFalse();
+    }
+
+    @Test
+    void invalidationDuringLoadSkipsOnlyThatUsersFill() {
+        // 1번 사용자 조회 도중 2번 사용자가 무효화되어도 1번의 결과는 캐시됨
+        when(repository.findSelectionsByUserId(1L)).thenAnswer(invocation -> {
+            cache.invalidate(2L);
+            return SELECTIONS;
+        });
+        // 2번 사용자 조회 도중 같은 사용자가 무효화되면 읽은 값은 캐시하지 않음
+        when(repository.findSelectionsByUserId(2L)).thenAnswer(invocation -> {
+            cache.invalidate(2L);
+            return SELECTIONS;
+        });
+
+        cache.get(1L);
+        cache.get(1L);
+        cache.get(2L);
+        cache.get(2L);
+
+        verify(repository, times(1)).findSelectionsByUserId(1L);
+        verify(repository, times(2)).findSelectionsByUserId(2L);
+    }
+
+    @Test
+    void keepsEntriesWithinMaxEntries() {
+        when(repository.findSelectionsByUserId(org.mockito.ArgumentMatchers.anyLong())).thenReturn(SELECTIONS);
+
+        cache.get(1L);
+        cache.get(2L);
+        cache.get(1L);
+        cache.get(3L);
+
+        assertThat(cache.size()).isEqualTo(2);
+        // 자주 조회된 사용자는 남음
+        cache.get(1L);
+        verify(repository, times(1)).findSelectionsByUserId(1L);
+    }
+}
@@ -0,0 +1,87 @@
+package com.checkmate.bub.global.config.feign;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 HTTP 서버로 기동 예열이 커넥션을 미리 열어 두고, 이후 호출이 새 연결 없이 풀의 커넥션을 재사용하는지 검증합니다.
+ */
+class FeignConnectionWarmerTest {
+
+    private final AtomicInteger connections = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DisposableServer server;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+                .port(0)
+                .doOnChannelInit((observer, channel, remoteAddress) -> connections.incrementAndGet())
+                .handle((request, response) -> response.status(200).sendString(Mono.just("ok")))
+                .bindNow();
+
+        FeignHttpClientConfig config = new FeignHttpClientConfig();
+        connectionManager = config.feignConnectionManager(10, 5, 1_000, 5_000, 300_000, 2_000);
+        httpClient = config.feignHttpClient(connectionManager, 1_000, 60_000, 60_000);
+        config.feignConnectionPoolMetrics(connectionManager).bindTo(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        server.disposeNow();
+    }
+
+    @Test
+    void warmUpOpensPooledConnectionsThatLaterCallsReuse() throws IOException {
+        new FeignConnectionWarmer(httpClient, connectionManager, List.of(baseUrl()), 2).warmUp();
+
+        assertThat(connections.get()).isEqualTo(2);
+        assertThat(poolGauge("available")).isEqualTo(2.0);
+        assertThat(poolGauge("leased")).isZero();
+
+        for (int i = 0; i < 5; i++) {
+            String body = httpClient.execute(new HttpGet(baseUrl() + "/chat"),
+                    response -> new String(response.getEntity().getContent().readAllBytes()));
+            assertThat(body).isEqualTo("ok");
+        }
+        // 예열된 커넥션만 사용 (새 TCP·TLS 연결 없음)
+        assertThat(connections.get()).isEqualTo(2);
+    }
+
+    @Test
+    void unreachableHostDoesNotFailStartup() {
+        server.disposeNow();
+
+        new FeignConnectionWarmer(httpClient, connectionManager, List.of(baseUrl()), 2).warmUp();
+
+        assertThat(poolGauge("available")).isZero();
+    }
+
+    private String baseUrl() {
+        return "http://localhost:" + server.port();
+    }
+
+    private double poolGauge(String state) {
+        return meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+                .tag("state", state)
+                .gauge()
+                .value();
+    }
+}
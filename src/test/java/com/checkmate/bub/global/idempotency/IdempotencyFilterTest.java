@@ -0,0 +1,170 @@
+package com.checkmate.bub.global.idempotency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 Idempotency-Key의 순차·동시 중복 요청이 한 번만 실행되고, 처리 중인 중복은 기다리지 않고 409를,
+ * 본문이 다른 재사용은 422를 받는지 검증합니다.
+ */
+class IdempotencyFilterTest {
+
+    private static final String TONE_EXAMPLES = "/api/v1/affirmations/tone-examples";
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new IdempotencyFilter(new SimpleMeterRegistry(), true, 60_000L, 2L, 100);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("1", null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void retryWithSameKeyReplaysFirstResponse() throws Exception {
+        FilterChain chain = respondingChain(200, null);
+
+        MockHttpServletResponse first = perform(request("key-1"), chain);
+        MockHttpServletResponse retry = perform(request("key-1"), chain);
+        MockHttpServletResponse otherKey = perform(request("key-2"), chain);
+
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(retry.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(first.getContentAsString(StandardCharsets.UTF_8));
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(otherKey.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    void concurrentDuplicateIsRejectedWithRetryAfterWhileFirstRuns() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain chain = respondingChain(200, release);
+
+        CompletableFuture<MockHttpServletResponse> first = CompletableFuture.supplyAsync(() -> performUnchecked("key-1", chain));
+        // 첫 요청이 실행을 시작한 뒤 중복 요청을 보냄
+        while (executions.get() == 0) {
+            Thread.onSpinWait();
+        }
+        // 첫 요청이 끝나기를 기다리지 않고 바로 응답
+        MockHttpServletResponse duplicate = perform(request("key-1"), chain);
+
+        assertThat(duplicate.getStatus()).isEqualTo(HttpServletResponse.SC_CONFLICT);
+        assertThat(duplicate.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        release.countDown();
+
+        // 첫 요청이 끝난 뒤의 재시도는 저장된 응답을 받음
+        String firstBody = first.get(5, TimeUnit.SECONDS).getContentAsString(StandardCharsets.UTF_8);
+        MockHttpServletResponse retry = perform(request("key-1"), chain);
+        assertThat(retry.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(firstBody);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    void sameKeyWithDifferentBodyIsRejected() throws Exception {
+        FilterChain chain = respondingChain(200, null);
+
+        perform(request("key-1", "{\"toneName\":\"Joy\"}"), chain);
+        MockHttpServletResponse reused = perform(request("key-1", "{\"toneName\":\"Zelda\"}"), chain);
+
+        assertThat(reused.getStatus()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY.value());
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    void retryAfterExceptionIsExecutedAndStored() throws Exception {
+        FilterChain failing = (request, response) -> {
+            executions.incrementAndGet();
+            throw new IllegalStateException("boom");
+        };
+        FilterChain chain = respondingChain(200, null);
+
+        assertThatThrownBy(() -> perform(request("key-1"), failing)).isInstanceOf(IllegalStateException.class);
+        MockHttpServletResponse retry = perform(request("key-1"), chain);
+        MockHttpServletResponse replay = perform(request("key-1"), chain);
+
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        assertThat(replay.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    void failedResponseIsNotStored() throws Exception {
+        FilterChain chain = respondingChain(500, null);
+
+        perform(request("key-1"), chain);
+        MockHttpServletResponse retry = perform(request("key-1"), chain);
+
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    private FilterChain respondingChain(int status, CountDownLatch release) {
+        return (request, response) -> {
+            int execution = executions.incrementAndGet();
+            // 컨트롤러처럼 본문을 읽을 수 있어야 함
+            assertThat(request.getInputStream().readAllBytes()).isNotEmpty();
+            if (release != null) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            HttpServletResponse http = (HttpServletResponse) response;
+            http.setStatus(status);
+            http.setContentType("application/json");
+            http.getWriter().write("{\"tone1\":\"Joy " + execution + "\"}");
+        };
+    }
+
+    private MockHttpServletRequest request(String idempotencyKey) {
+        return request(idempotencyKey, "{\"toneName\":\"Joy\"}");
+    }
+
+    private MockHttpServletRequest request(String idempotencyKey, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", TONE_EXAMPLES);
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private MockHttpServletResponse performUnchecked(String idempotencyKey, FilterChain chain) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("1", null, List.of()));
+        try {
+            return perform(request(idempotencyKey), chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.checkmate.bub.global.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 번 파싱으로 인증 정보를 만들고, 검증된 토큰은 만료 전까지 캐시에서 처리하는지 검증합니다.
+ * 기존 방식(validateToken + getAuthentication, 매번 파서 생성)과의 처리 시간 비교는 src/jmh의 JwtAuthenticationBenchmark에 있습니다.
+ */
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-unit-tests-12345678901234567890123456789012";
+    private static final SecretKey KEY = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void validTokenIsParsedOnceAndThenServedFromCache() {
+        JwtTokenProvider provider = provider(true);
+        String token = provider.createAccessToken(42L);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(userId(provider.authenticate(token).orElseThrow())).isEqualTo("42");
+        }
+
+        assertThat(lookups("miss")).isEqualTo(1.0);
+        assertThat(lookups("hit")).isEqualTo(2.0);
+        assertThat(provider.validateToken(token)).isTrue();
+    }
+
+    @Test
+    void invalidOrExpiredTokensAreRejectedAndNotCached() {
+        JwtTokenProvider provider = provider(true);
+        String token = provider.createAccessToken(42L);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        String expired = Jwts.builder()
+                .subject("42")
+                .expiration(new Date(System.currentTimeMillis() - 1_000))
+                .signWith(KEY)
+                .compact();
+
+        assertThat(provider.authenticate(tampered)).isEmpty();
+        assertThat(provider.authenticate(expired)).isEmpty();
+        assertThat(provider.authenticate("not-a-jwt")).isEmpty();
+        assertThat(provider.validateToken(expired)).isFalse();
+    }
+
+    @Test
+    void cachedEntryIsDroppedAtExpiry() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(meterRegistry, true, 100);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        cache.put("token", new VerifiedTokenCache.VerifiedToken("42", expiresAt));
+
+        assertThat(cache.get("token", expiresAt - 1)).isNotNull();
+        assertThat(cache.get("token", expiresAt)).isNull();
+        assertThat(cache.size()).isZero();
+
+        // 만료 시각이 지난 항목은 캐시 만료 정책으로도 조회되지 않음
+        cache.put("expired", new VerifiedTokenCache.VerifiedToken("42", System.currentTimeMillis() - 1));
+        assertThat(cache.get("expired", 0)).isNull();
+    }
+
+    private JwtTokenProvider provider(boolean cacheEnabled) {
+        return new JwtTokenProvider(SECRET, 3600, 1209600, new VerifiedTokenCache(meterRegistry, cacheEnabled, 100));
+    }
+
+    private static String userId(Authentication authentication) {
+        return ((UserDetails) authentication.getPrincipal()).getUsername();
+    }
+
+    private double lookups(String outcome) {
+        return meterRegistry.get("jwt.verified_token_cache.lookups").tag("outcome", outcome).counter().count();
+    }
+}
@@ -0,0 +1,89 @@
+package com.checkmate.bub.global.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 고정 시계로 토큰 버킷의 연속 허용량, 보충, 대기 시간, 동시성 정확도를 검증합니다.
+ */
+class TokenBucketRateLimiterTest {
+
+    private static final long REFILL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final AtomicLong clock = new AtomicLong(-5_000_000_000L);  // nanoTime은 음수일 수 있음
+
+    @Test
+    void allowsBurstThenReportsWaitUntilNextToken() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, REFILL_NANOS, clock::get);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("1")).isZero();
+        }
+        assertThat(limiter.tryAcquire("1")).isEqualTo(REFILL_NANOS);
+        assertThat(limiter.exhaustedKeys()).isEqualTo(1);
+        // 다른 사용자는 영향 없음
+        assertThat(limiter.tryAcquire("2")).isZero();
+
+        clock.addAndGet(REFILL_NANOS / 2);
+        assertThat(limiter.tryAcquire("1")).isEqualTo(REFILL_NANOS / 2);
+
+        clock.addAndGet(REFILL_NANOS / 2);
+        assertThat(limiter.tryAcquire("1")).isZero();
+        assertThat(limiter.tryAcquire("1")).isPositive();
+    }
+
+    @Test
+    void idleBucketsRefillAndAreEvicted() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, REFILL_NANOS, clock::get);
+        limiter.tryAcquire("1");
+        limiter.tryAcquire("1");
+        limiter.tryAcquire("2");
+        assertThat(limiter.averageFillRatio()).isEqualTo(0.25);
+
+        clock.addAndGet(REFILL_NANOS);
+        limiter.evictIdle();
+        assertThat(limiter.trackedKeys()).isEqualTo(1);  // 사용자 2는 가득 차서 제거됨
+
+        clock.addAndGet(REFILL_NANOS);
+        limiter.evictIdle();
+        assertThat(limiter.trackedKeys()).isZero();
+        assertThat(limiter.averageFillRatio()).isEqualTo(1.0);
+    }
+
+    @Test
+    void concurrentCallersNeverExceedCapacity() throws InterruptedException {
+        int capacity = 50;
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(capacity, REFILL_NANOS, clock::get);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+
+        for (int t = 0; t < 16; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < 100; i++) {
+                    if (limiter.tryAcquire("spammer") == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(allowed.get()).isEqualTo(capacity);
+    }
+}
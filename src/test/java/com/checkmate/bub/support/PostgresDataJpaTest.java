@@ -0,0 +1,34 @@
+package com.checkmate.bub.support;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * PostgreSQL 컨테이너에 Flyway 마이그레이션(db/migration)을 적용한 스키마로 JPA 슬라이스 테스트를 실행합니다.
+ * Hibernate는 스키마를 만들지 않고 엔티티와 마이그레이션 결과가 일치하는지만 검증하며(ddl-auto: validate),
+ * Docker가 없으면 테스트를 건너뜁니다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.flyway.postgresql.transactional-lock=false",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PostgresTestContainerConfig.class)
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+public @interface PostgresDataJpaTest {
+}
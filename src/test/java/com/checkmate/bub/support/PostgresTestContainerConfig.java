@@ -0,0 +1,19 @@
+package com.checkmate.bub.support;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * 운영과 같은 PostgreSQL 컨테이너를 띄워 데이터소스로 연결합니다 (H2로는 확인할 수 없는 마이그레이션·네이티브 쿼리 검증용).
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class PostgresTestContainerConfig {
+
+    @Bean
+    @ServiceConnection
+    PostgreSQLContainer<?> postgresContainer() {
+        return new PostgreSQLContainer<>("postgres:16-alpine");
+    }
+}